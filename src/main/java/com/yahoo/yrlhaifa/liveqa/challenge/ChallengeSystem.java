@@ -8,10 +8,10 @@ import java.text.DateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.yahoo.yrlhaifa.liveqa.challenge.Constants.*;
 
+import com.yahoo.yrlhaifa.liveqa.challenge.configuration.QuestionAdmissionParameters;
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeSystemException;
 import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.QuestionFeeder;
 import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.QuestionFeederFactory;
@@ -37,7 +37,8 @@ public class ChallengeSystem {
     public ChallengeSystem(ShutdownSignal shutdownSignal, HoursMinutesSeconds challengeDuration,
                     List<Participant> participants, StorageParameters storageParameters,
                     QuestionFeederFactory questionFeederFactory, QuestionOperatorFactory questionOperatorFactory,
-                    NextQuestionTimingPolicy timingPolicy, int maximumNumberOfQuestionOperationThreads) {
+                    NextQuestionTimingPolicy timingPolicy, QuestionAdmissionParameters admissionParameters,
+                    QuestionExecutor.ExecutionMode executionMode) {
         super();
         this.shutdownSignal = shutdownSignal;
         this.challengeDuration = challengeDuration;
@@ -46,7 +47,8 @@ public class ChallengeSystem {
         this.questionFeederFactory = questionFeederFactory;
         this.questionOperatorFactory = questionOperatorFactory;
         this.timingPolicy = timingPolicy;
-        this.maximumNumberOfQuestionOperationThreads = maximumNumberOfQuestionOperationThreads;
+        this.admissionParameters = admissionParameters;
+        this.executionMode = executionMode;
     }
 
     public void run() throws ChallengeSystemException {
@@ -57,14 +59,19 @@ public class ChallengeSystem {
             try (Storage storage = new Storage(storageParameters)) {
                 try (AnswerStorageOperator answerStorageOperator = storage.constructAnswerStorageOperator()) {
                     try (QuestionStorageOperator questionStorageOperator = storage.constructQuestionStorageOperator()) {
-                        try (QuestionOperator questionOperator = questionOperatorFactory.createQuestionOperator(
-                                        participants, questionStorageOperator, answerStorageOperator)) {
-                            try (QuestionFeeder questionFeeder = questionFeederFactory.createQuestionFeeder()) {
-
-                                sendAllQuestions(questionOperator, questionFeeder);
-
-                            } // end of try-with-resources (QuestionFeeder)
-                        } // end of try-with-resources (QuestionOperator)
+                        try (QuestionExecutor questionExecutor = QuestionExecutor.create(executionMode)) {
+                            try (QuestionOperator questionOperator = questionOperatorFactory.createQuestionOperator(
+                                            participants, questionStorageOperator, answerStorageOperator,
+                                            questionExecutor)) {
+                                try (QuestionFeeder questionFeeder = questionFeederFactory.createQuestionFeeder()) {
+
+                                    questionOperator.warmUp();
+                                    sendAllQuestions(questionOperator, questionFeeder, questionExecutor);
+                                    logger.info("Question feed statistics: " + questionFeeder.statistics());
+
+                                } // end of try-with-resources (QuestionFeeder)
+                            } // end of try-with-resources (QuestionOperator)
+                        } // end of try-with-resources (QuestionExecutor)
                     } // end of try-with-resources (QuestionStorageOperator)
                 } // end try-with-resources (AnswerStorageOperator)
             } // end try-with-resources (Storage)
@@ -76,8 +83,26 @@ public class ChallengeSystem {
     } // end of method run()
 
 
-    private void sendAllQuestions(final QuestionOperator questionOperator, final QuestionFeeder questionFeeder)
-                    throws ChallengeSystemException, InterruptedException {
+    private void sendAllQuestions(final QuestionOperator questionOperator, final QuestionFeeder questionFeeder,
+                    final QuestionExecutor questionExecutor) throws ChallengeSystemException, InterruptedException {
+        final QuestionAdmissionController admissionController =
+                        new QuestionAdmissionController(admissionParameters, questionExecutor);
+        try {
+            sendAllQuestions(questionOperator, questionFeeder, admissionController);
+        } finally {
+            admissionController.close();
+        }
+        final int stillRunning =
+                        admissionController.awaitRunningOperations(QUESTION_EXECUTOR_TERMINATION_WAIT_MILLISECONDS);
+        if (stillRunning > 0) {
+            logger.warn(stillRunning + " question operation(s) are still running, though the challenge ends.");
+        }
+        logger.info("Question admission statistics: " + admissionController.statistics());
+    }
+
+    private void sendAllQuestions(final QuestionOperator questionOperator, final QuestionFeeder questionFeeder,
+                    final QuestionAdmissionController admissionController)
+                                    throws ChallengeSystemException, InterruptedException {
         Calendar currentTime = constructCurrentTime();
         shouldEndTime = calculateEndTime(currentTime);
         logger.info("Planned end time is: " + printCalendar(shouldEndTime));
@@ -88,7 +113,7 @@ public class ChallengeSystem {
             if (null == exception) {
                 if (nextQuestion.isFeedSucceeded()) {
                     final Question question = nextQuestion.getQuestion();
-                    runTheGivenQuestion(question, questionOperator);
+                    runTheGivenQuestion(question, questionOperator, questionFeeder, admissionController);
                 } else {
                     StringBuilder sb = new StringBuilder();
                     sb.append("Feeder was not able to provide a new question for the moment. Cause: ")
@@ -125,44 +150,33 @@ public class ChallengeSystem {
     }
 
 
-    private void runTheGivenQuestion(final Question question, final QuestionOperator questionOperator)
-                    throws InterruptedException {
-        final int runningthreads = numberOfRunningQuestionOperationThreads.get();
+    private void runTheGivenQuestion(final Question question, final QuestionOperator questionOperator,
+                    final QuestionFeeder questionFeeder, final QuestionAdmissionController admissionController) {
         if (logger.isDebugEnabled()) {
-            logger.debug("Right now, " + runningthreads + " previous question-operation threads are still active.");
+            logger.debug("Right now, " + admissionController.getNumberOfRunningOperations()
+                            + " previous question operations are still active.");
         }
         logger.info("Operate on question <" + question.getId() + ">...");
-        if (runningthreads >= maximumNumberOfQuestionOperationThreads) {
-            logger.warn("Number of question operation running threads exceeded the maximum number of such threads allowed to run. Running = "
-                            + runningthreads + ", maximum = " + maximumNumberOfQuestionOperationThreads + ".\n"
-                            + "The current question is being skipped.");
-            // To be on the safe side, sleep SAFE_SIDE_SLEEP_MILLISECONDS milliseconds. Anyway, this question is
-            // discarded, and the next question
-            // will be operated after timing-policy proceeds to the next question, so the sleep will be longer.
-            Thread.sleep(SAFE_SIDE_SLEEP_MILLISECONDS);
-        } else {
-            logger.info("Start asynchronous operation on question <" + question.getId() + ">...");
-            final String qid = (question.getId() != null) ? question.getId() : "";
-            Thread QuestionOperationThread = new Thread(new QuestionOperationRunnable(question, questionOperator),
-                            "QuestionOperationThread-" + qid);
-            QuestionOperationThread.start();
-            logger.info("asynchronous operation on question <" + question.getId() + "> - has been fired.");
-        }
+        admissionController.submit(question, new QuestionOperationRunnable(question, questionOperator, questionFeeder));
+        logger.info("asynchronous operation on question <" + question.getId() + "> - has been submitted.");
     }
 
 
 
     private class QuestionOperationRunnable implements Runnable {
-        public QuestionOperationRunnable(Question question, QuestionOperator questionOperator) {
+        public QuestionOperationRunnable(Question question, QuestionOperator questionOperator,
+                        QuestionFeeder questionFeeder) {
             super();
             this.question = question;
             this.questionOperator = questionOperator;
+            this.questionFeeder = questionFeeder;
         }
 
         @Override
         public void run() {
             try {
-                numberOfRunningQuestionOperationThreads.incrementAndGet();
+                // Recorded only now, since a question might wait for admission, and be discarded without being sent.
+                questionFeeder.questionDispatched(question);
                 questionOperator.operate(question);
             } catch (ChallengeSystemException e) {
                 logger.error("Error when operating on a question.", e);
@@ -173,13 +187,13 @@ public class ChallengeSystem {
                                 new ChallengeSystemException("Unexpected failure when operating on a question.", e);
             } finally {
                 logger.info("Operation on question " + question.getId() + " is done.");
-                numberOfRunningQuestionOperationThreads.decrementAndGet();
             }
 
         }
 
         private final Question question;
         private final QuestionOperator questionOperator;
+        private final QuestionFeeder questionFeeder;
     }
 
     private Calendar calculateEndTime(Calendar startTime) {
@@ -212,13 +226,13 @@ public class ChallengeSystem {
     private final QuestionFeederFactory questionFeederFactory;
     private final QuestionOperatorFactory questionOperatorFactory;
     private final NextQuestionTimingPolicy timingPolicy;
-    private final int maximumNumberOfQuestionOperationThreads;
+    private final QuestionAdmissionParameters admissionParameters;
+    private final QuestionExecutor.ExecutionMode executionMode;
 
 
     // internals
     private volatile ChallengeSystemException exception = null;
     private Calendar shouldEndTime;
-    private AtomicInteger numberOfRunningQuestionOperationThreads = new AtomicInteger(0);
 
 
 
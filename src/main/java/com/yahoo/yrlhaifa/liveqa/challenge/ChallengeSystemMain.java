@@ -6,8 +6,10 @@ package com.yahoo.yrlhaifa.liveqa.challenge;
 import java.util.List;
 
 import com.yahoo.yrlhaifa.liveqa.challenge.configuration.Configuration;
+import com.yahoo.yrlhaifa.liveqa.challenge.configuration.QuestionAdmissionParameters;
 import com.yahoo.yrlhaifa.liveqa.challenge.configuration.RequestGeneralParameters;
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeSystemException;
+import com.yahoo.yrlhaifa.liveqa.challenge.http_operation.DispatcherParameters;
 import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.QuestionFeederFactory;
 import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.QuestionFeederFactoryParameters;
 import com.yahoo.yrlhaifa.liveqa.challenge.storage.StorageParameters;
@@ -51,6 +53,9 @@ public class ChallengeSystemMain {
             // new StorageParameters("jdbc:derby:/Users/asherst/work/derby_workdir/challenge", false);
 
             final RequestGeneralParameters requestGeneralParameters = configuration.getRequestGeneralParameters();
+            final DispatcherParameters dispatcherParameters = configuration.getDispatcherParameters();
+            final QuestionExecutor.ExecutionMode questionExecutionMode = configuration.getQuestionExecutionMode();
+            final QuestionAdmissionParameters admissionParameters = configuration.getQuestionAdmissionParameters();
 
             final NextQuestionTimingPolicy nextQuestionTimingPolicy = configuration.getNextQuestionTimingPolicy();
             // final long waitBetweenQuestionsMilliseconds = 10*1000;
@@ -69,8 +74,9 @@ public class ChallengeSystemMain {
             if (!shutDownSignal.isSignaled()) {
                 ChallengeSystem system = new ChallengeSystem(shutDownSignal, challengeDuration, participants,
                                 storageParameters, new QuestionFeederFactory(feederParameters),
-                                new QuestionOperatorFactory(requestGeneralParameters), nextQuestionTimingPolicy,
-                                Constants.MAXIMUM_NUMBER_OF_QUESTION_OPERATION_THREADS);
+                                new QuestionOperatorFactory(requestGeneralParameters, dispatcherParameters,
+                                                admissionParameters.getMaximumConcurrentQuestions()),
+                                nextQuestionTimingPolicy, admissionParameters, questionExecutionMode);
                 system.run();
             } else {
                 logger.error("Shut-down signal has been detected. Challenge does not start.");
@@ -3,11 +3,13 @@
 
 package com.yahoo.yrlhaifa.liveqa.challenge;
 
+import java.util.Calendar;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeSystemException;
+import com.yahoo.yrlhaifa.liveqa.common.HoursMinutesSeconds;
 
 /**
  * Common general utilities for the challenge system.
@@ -33,6 +35,20 @@ public class ChallengeSystemUtilities {
         return ((statusCode / 100) == 2);
     }
 
+    /**
+     * Returns true if more than the given maximum age has passed from the given publication date until the given
+     * current time.
+     */
+    public static boolean olderThan(final Calendar publishedDate, final HoursMinutesSeconds maximumAge,
+                    final Calendar current) {
+        Calendar publishedPlusMaximumAge = Calendar.getInstance(Constants.WORKING_TIME_ZONE, Constants.WORKING_LOCALE);
+        publishedPlusMaximumAge.setTime(publishedDate.getTime());
+        publishedPlusMaximumAge.add(Calendar.HOUR, maximumAge.getHours());
+        publishedPlusMaximumAge.add(Calendar.MINUTE, maximumAge.getMinutes());
+        publishedPlusMaximumAge.add(Calendar.SECOND, maximumAge.getSeconds());
+        return publishedPlusMaximumAge.before(current);
+    }
+
 
     ////////////// PRIVATE & PROTECTED ///////////////
 
@@ -18,6 +18,7 @@ import java.util.TimeZone;
  */
 public class Constants {
     public static final int MAXIMUM_NUMBER_OF_QUESTION_OPERATION_THREADS = 10;
+    public static final int DEFAULT_ADMISSION_QUEUE_CAPACITY = 10;
 
     public static final String QUESTION_ID_YAHOO_ANSWERS_NAMESPACE_PREFIX = "YA:";
     public static final String QUESTION_ID_PARAMETER_NAME = "qid";
@@ -32,8 +33,6 @@ public class Constants {
     // public static final long WAIT_BETWEEN_QUESTIONS_MILLISECONDS = 1000;
     public static final long SAFE_SIDE_SLEEP_MILLISECONDS = 500;
 
-    public static final long EXTRA_ADD_TIMEOUT_FOR_EACH_THREAD_MILLISECONDS = 200;
-
     // public static final String ANSWERS_RSS_FEED_URL = "https://answers.yahoo.com/rss/allq";
     public static final String ANSWER_URL_PREFIX = "https://answers.yahoo.com/question/index?qid=";
 
@@ -42,8 +41,50 @@ public class Constants {
     public static final String SHUTDOWN_SIGNAL_FILE_NAME = "shutdown";
 
     public static final int ANSWER_XML_LENGTH_IN_ADDITION_TO_ANSWER_LENGTH = 2048;
+    public static final int MAXIMUM_BYTES_PER_CHARACTER = 4; // UTF-8
     public static final long FUTURE_GET_SLACK_TIME_MILLISECONDS = 250;
 
+    // Connections to participant servers are pooled, and reused by all questions.
+    public static final long CONNECTION_DEFAULT_KEEP_ALIVE_MILLISECONDS = 60 * 1000;
+    public static final long CONNECTION_IDLE_EVICTION_MILLISECONDS = 2 * 60 * 1000;
+    public static final long CONNECTION_TIME_TO_LIVE_MILLISECONDS = 60 * 60 * 1000;
+    public static final int DEFAULT_DISPATCH_IO_THREAD_COUNT = 2;
+    // Deadlines of participant requests are enforced with this precision.
+    public static final long DEADLINE_TIMER_TICK_MILLISECONDS = 10;
+    public static final int DEADLINE_TIMER_NUMBER_OF_BUCKETS = 512;
+    public static final int DEFAULT_PARTICIPANT_FAILURE_THRESHOLD = 3;
+    public static final long DEFAULT_PARTICIPANT_PROBE_INTERVAL_MILLISECONDS = 60 * 1000;
+    public static final long DNS_CACHE_TIME_TO_LIVE_MILLISECONDS = 5 * 60 * 1000;
+    public static final int DEFAULT_WARM_UP_CONNECTIONS_PER_PARTICIPANT = 2;
+    public static final int WARM_UP_MAXIMUM_NUMBER_OF_THREADS = 16;
+    public static final int RESPONSE_BUFFER_POOL_MAXIMUM_RETAINED_BUFFERS = 64;
+    public static final int DEFAULT_ANSWER_XML_MAXIMUM_DEPTH = 16;
+    public static final int DEFAULT_ANSWER_XML_MAXIMUM_ATTRIBUTES_PER_ELEMENT = 16;
+    public static final long DEFAULT_ANSWER_XML_MAXIMUM_PARSE_TIME_MILLISECONDS = 500;
+    public static final int DEFAULT_RESPONSE_PARSE_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+    public static final int RESPONSE_PARSE_QUEUE_CAPACITY = 256;
+    // Shorter question requests are not worth compressing, even for participants which accept compressed requests.
+    public static final int REQUEST_COMPRESSION_MINIMUM_BYTES = 1024;
+    public static final int DEFAULT_RSS_LOOK_AHEAD_THREADS = 2;
+    public static final long DEFAULT_RSS_POLL_INTERVAL_MILLISECONDS = 5 * 1000;
+    public static final long RSS_FETCH_TIMEOUT_MILLISECONDS = 10 * 1000;
+    // Bounds the memory held by the RSS feed poller, even if no question is taken.
+    public static final int RSS_MAXIMUM_PENDING_ENTRIES = 1000;
+    public static final int RSS_SEEN_ENTRIES_CAPACITY = 10000;
+    // Must be a power of two.
+    public static final int ASKED_QUESTION_INDEX_INITIAL_CAPACITY = 1 << 15;
+    // The shuffled replay order of a question corpus is the same in all runs.
+    public static final long REPLAY_SHUFFLE_SEED = 1;
+    public static final double DEFAULT_REPLAY_QUESTIONS_PER_SECOND = 1;
+    // Number of filtered questions between two reorderings of the question filters, in the adaptive order.
+    public static final long ADAPTIVE_FILTER_REORDER_INTERVAL = 100;
+    public static final long DEFAULT_NEAR_DUPLICATE_WINDOW_MILLISECONDS = 10 * 60 * 1000;
+    public static final int DEFAULT_NEAR_DUPLICATE_MAXIMUM_DISTANCE = 3;
+    // Bounds the memory held by the near-duplicate filter, even for a long window.
+    public static final int NEAR_DUPLICATE_INDEX_CAPACITY = 100000;
+
+    public static final long QUESTION_EXECUTOR_TERMINATION_WAIT_MILLISECONDS = 60 * 1000;
+
 
 
 }
@@ -3,6 +3,9 @@
 
 package com.yahoo.yrlhaifa.liveqa.challenge;
 
+import java.util.Collections;
+import java.util.Set;
+
 /**
  * A representation of a participant in the challenge. A participant is a system that answers the questions being asked
  * by the challenge system.
@@ -13,6 +16,9 @@ package com.yahoo.yrlhaifa.liveqa.challenge;
  * The team name / researcher name or organization name is provided as "organization id", while the system name is
  * "system id". Together, "organization name"+"system name" is unique. There must not be two {@link Participant} objects
  * with the same combination of "organization name"+"system name".
+ * <P>
+ * A participant may also advertise capabilities of its server, like accepting compressed requests. A capability
+ * allows the challenge system to use a more efficient protocol with that server, but is never required.
  *
  * Date: January, 2015
  * 
@@ -22,13 +28,31 @@ package com.yahoo.yrlhaifa.liveqa.challenge;
 public class Participant {
     public static final String UNIQUE_STRING_SEPARATOR = "-";
 
+    /**
+     * The participant's server accepts gzip-compressed request bodies ("Content-Encoding: gzip").
+     */
+    public static final String CAPABILITY_GZIP_REQUEST = "gzip-request";
+
+    /**
+     * The participant's server may answer in the JSON format, rather than XML. See
+     * {@link com.yahoo.yrlhaifa.liveqa.challenge.storage.ParticipantAnswerFromJson}.
+     */
+    public static final String CAPABILITY_JSON_ANSWER = "json-answer";
+
     public Participant(String participantOrganizationId, String participantSystemId, String participantServerUrl,
                     String participantEmail) {
+        this(participantOrganizationId, participantSystemId, participantServerUrl, participantEmail,
+                        Collections.<String>emptySet());
+    }
+
+    public Participant(String participantOrganizationId, String participantSystemId, String participantServerUrl,
+                    String participantEmail, Set<String> capabilities) {
         super();
         this.participantOrganizationId = participantOrganizationId;
         this.participantSystemId = participantSystemId;
         this.participantServerUrl = participantServerUrl;
         this.participantEmail = participantEmail;
+        this.capabilities = Collections.unmodifiableSet(capabilities);
     }
 
 
@@ -49,6 +73,14 @@ public class Participant {
         return participantEmail;
     }
 
+    public Set<String> getCapabilities() {
+        return capabilities;
+    }
+
+    public boolean hasCapability(String capability) {
+        return capabilities.contains(capability);
+    }
+
     /**
      * Returns a combination of the "participant name" + "system name".
      * 
@@ -109,6 +141,7 @@ public class Participant {
     private final String participantSystemId;
     private final String participantServerUrl;
     private final String participantEmail;
+    private final Set<String> capabilities;
 
     private transient volatile String uniqueSystemId = null; // I think I could give up the volatile declaration, since
                                                              // String is immutable with final fields. But to be on the
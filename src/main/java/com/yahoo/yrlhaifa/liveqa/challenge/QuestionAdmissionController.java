@@ -0,0 +1,241 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge;
+
+import java.util.ArrayDeque;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.configuration.QuestionAdmissionParameters;
+import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
+import com.yahoo.yrlhaifa.liveqa.common.HoursMinutesSeconds;
+
+/**
+ * Decides when the operation on each question starts. At most a given number of question operations run at the same
+ * time. A question which arrives while that many operations are running waits in a bounded queue, and starts when
+ * another operation ends, unless it has become too old by then (in which case it is discarded). When the queue is full,
+ * the oldest waiting question is discarded in favor of the new one.
+ * <P>
+ * This lets the challenge ride out short bursts of slow participants, without losing questions.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class QuestionAdmissionController {
+    public QuestionAdmissionController(QuestionAdmissionParameters parameters, QuestionExecutor questionExecutor) {
+        super();
+        this.maximumConcurrentQuestions = parameters.getMaximumConcurrentQuestions();
+        this.queueCapacity = parameters.getQueueCapacity();
+        this.maximumQuestionAge = parameters.getMaximumQuestionAge();
+        this.questionExecutor = questionExecutor;
+        this.queue = new ArrayDeque<PendingQuestion>(Math.max(1, queueCapacity));
+    }
+
+    /**
+     * Starts the given operation on the given question, or, if the maximum number of question operations are running,
+     * puts it in the queue. Never blocks.
+     *
+     * @param question A question.
+     * @param operation The operation on the question (sending it to the participants and storing their answers).
+     */
+    public synchronized void submit(final Question question, final Runnable operation) {
+        if (closed) {
+            logger.warn("Question <" + question.getId() + "> is discarded, since no more questions are admitted.");
+            return;
+        }
+        if (running < maximumConcurrentQuestions) {
+            start(new PendingQuestion(question, operation));
+        } else {
+            discardExpired();
+            if (queue.size() >= queueCapacity) {
+                PendingQuestion displaced = queue.pollFirst();
+                if (displaced != null) {
+                    numberOfDisplacedQuestions.incrementAndGet();
+                    logger.warn("Admission queue is full. The oldest waiting question <" + displaced.question.getId()
+                                    + "> is discarded.");
+                } else {
+                    // No queue at all.
+                    numberOfDisplacedQuestions.incrementAndGet();
+                    logger.warn("Number of running question operations reached the maximum ("
+                                    + maximumConcurrentQuestions + "). Question <" + question.getId()
+                                    + "> is discarded.");
+                    return;
+                }
+            }
+            queue.addLast(new PendingQuestion(question, operation));
+            numberOfQueuedQuestions.incrementAndGet();
+            logger.info("Number of running question operations reached the maximum (" + maximumConcurrentQuestions
+                            + "). Question <" + question.getId() + "> waits in the admission queue (" + queue.size()
+                            + " waiting).");
+        }
+    }
+
+    /**
+     * Stops admitting questions. Questions which wait in the queue are discarded. Running operations are not affected.
+     */
+    public synchronized void close() {
+        closed = true;
+        if (!queue.isEmpty()) {
+            logger.info(queue.size() + " waiting question(s) are discarded, since no more questions are admitted.");
+            queue.clear();
+        }
+    }
+
+    /**
+     * Waits until all the running operations end, or until the given time elapses.
+     *
+     * @param timeoutMilliseconds Maximum time to wait.
+     * @return The number of operations which are still running.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public synchronized int awaitRunningOperations(final long timeoutMilliseconds) throws InterruptedException {
+        final long waitUntil = System.currentTimeMillis() + timeoutMilliseconds;
+        long remaining = timeoutMilliseconds;
+        while (((running > 0) || (!queue.isEmpty())) && (remaining > 0)) {
+            wait(remaining);
+            remaining = waitUntil - System.currentTimeMillis();
+        }
+        return running;
+    }
+
+    public synchronized int getNumberOfRunningOperations() {
+        return running;
+    }
+
+    public long getNumberOfAdmittedQuestions() {
+        return numberOfAdmittedQuestions.get();
+    }
+
+    public long getNumberOfQueuedQuestions() {
+        return numberOfQueuedQuestions.get();
+    }
+
+    public long getNumberOfExpiredQuestions() {
+        return numberOfExpiredQuestions.get();
+    }
+
+    public long getNumberOfDisplacedQuestions() {
+        return numberOfDisplacedQuestions.get();
+    }
+
+    /**
+     * Number of questions which left the admission queue, but whose operation could not be started.
+     */
+    public long getNumberOfFailedQuestions() {
+        return numberOfFailedQuestions.get();
+    }
+
+    public String statistics() {
+        return "admitted = " + getNumberOfAdmittedQuestions() + ", queued = " + getNumberOfQueuedQuestions()
+                        + ", expired = " + getNumberOfExpiredQuestions() + ", displaced = "
+                        + getNumberOfDisplacedQuestions() + ", failed to start = " + getNumberOfFailedQuestions();
+    }
+
+
+    // Must be called while holding the lock.
+    private void start(final PendingQuestion pendingQuestion) {
+        ++running;
+        final String qid = (pendingQuestion.question.getId() != null) ? pendingQuestion.question.getId() : "";
+        try {
+            questionExecutor.submit("QuestionOperationThread-" + qid, new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        pendingQuestion.operation.run();
+                    } finally {
+                        operationEnded();
+                    }
+                }
+            });
+        } catch (Throwable t) {
+            // E.g., no more native threads can be created.
+            --running;
+            throw t;
+        }
+        numberOfAdmittedQuestions.incrementAndGet();
+    }
+
+    private synchronized void operationEnded() {
+        try {
+            --running;
+            if (!closed) {
+                discardExpired();
+                // A question whose operation could not be started is discarded, and the next one takes its place.
+                while ((running < maximumConcurrentQuestions) && (!queue.isEmpty())) {
+                    PendingQuestion next = queue.pollFirst();
+                    logger.info("Question <" + next.question.getId() + "> leaves the admission queue.");
+                    try {
+                        start(next);
+                    } catch (Throwable t) {
+                        numberOfFailedQuestions.incrementAndGet();
+                        logger.error("Question <" + next.question.getId()
+                                        + "> is discarded, since its operation could not be started.", t);
+                    }
+                }
+            }
+        } finally {
+            notifyAll();
+        }
+    }
+
+    // Must be called while holding the lock.
+    private void discardExpired() {
+        Calendar current = Calendar.getInstance(Constants.WORKING_TIME_ZONE, Constants.WORKING_LOCALE);
+        current.setTime(new Date());
+        Iterator<PendingQuestion> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            PendingQuestion pendingQuestion = iterator.next();
+            if (isExpired(pendingQuestion.question, current)) {
+                iterator.remove();
+                numberOfExpiredQuestions.incrementAndGet();
+                logger.warn("Question <" + pendingQuestion.question.getId()
+                                + "> is discarded, since it became too old while waiting in the admission queue.");
+            }
+        }
+    }
+
+    private boolean isExpired(final Question question, final Calendar current) {
+        final Calendar publishedDate = question.getPublishedDate();
+        if ((null == publishedDate) || (null == maximumQuestionAge)) {
+            return false;
+        }
+        return ChallengeSystemUtilities.olderThan(publishedDate, maximumQuestionAge, current);
+    }
+
+
+    private static class PendingQuestion {
+        public PendingQuestion(Question question, Runnable operation) {
+            super();
+            this.question = question;
+            this.operation = operation;
+        }
+
+        private final Question question;
+        private final Runnable operation;
+    }
+
+
+    private final int maximumConcurrentQuestions;
+    private final int queueCapacity;
+    private final HoursMinutesSeconds maximumQuestionAge;
+    private final QuestionExecutor questionExecutor;
+
+    // Guarded by "this"
+    private final Deque<PendingQuestion> queue;
+    private int running = 0;
+    private boolean closed = false;
+
+    private final AtomicLong numberOfAdmittedQuestions = new AtomicLong(0);
+    private final AtomicLong numberOfQueuedQuestions = new AtomicLong(0);
+    private final AtomicLong numberOfExpiredQuestions = new AtomicLong(0);
+    private final AtomicLong numberOfDisplacedQuestions = new AtomicLong(0);
+    private final AtomicLong numberOfFailedQuestions = new AtomicLong(0);
+
+    private static final org.apache.log4j.Logger logger =
+                    org.apache.log4j.Logger.getLogger(QuestionAdmissionController.class);
+}
@@ -0,0 +1,68 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * The tasks forked while operating on a single question. The tasks run on the challenge's {@link QuestionExecutor},
+ * and the scope makes sure that none of them outlives the question operation: the operation {@link #join()}s the
+ * scope before it ends, and closing the scope cancels any task which has not been joined (e.g., when the operation
+ * fails).
+ * <P>
+ * Should be used in a try-with-resources block.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class QuestionExecutionScope implements AutoCloseable {
+    public QuestionExecutionScope(QuestionExecutor questionExecutor) {
+        super();
+        this.questionExecutor = questionExecutor;
+    }
+
+    /**
+     * Starts the given task, asynchronously.
+     *
+     * @param name A name which describes the task.
+     * @param task The task to run.
+     */
+    public void fork(final String name, final Runnable task) {
+        futures.add(questionExecutor.submit(name, task));
+    }
+
+    /**
+     * Waits until all the forked tasks end.
+     *
+     * @throws InterruptedException If interrupted while waiting.
+     * @throws ExecutionException If a task has thrown an (unchecked) exception.
+     */
+    public void join() throws InterruptedException, ExecutionException {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (CancellationException e) {
+                // Nothing to wait for.
+            }
+        }
+        futures.clear();
+    }
+
+    @Override
+    public void close() {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+        futures.clear();
+    }
+
+
+    private final QuestionExecutor questionExecutor;
+    private final List<Future<?>> futures = new ArrayList<Future<?>>();
+}
@@ -0,0 +1,168 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeCloseException;
+
+/**
+ * Runs the asynchronous tasks of the question operations: the operation on each question (see
+ * {@link ChallengeSystem}), and the tasks forked by a question operation, like storing the question (see
+ * {@link QuestionOperatorWithQuestionStorage}).
+ * <P>
+ * A single {@link QuestionExecutor} lives for the whole challenge. How the tasks are mapped to threads is determined by
+ * its {@link ExecutionMode}.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public abstract class QuestionExecutor implements ChallengeAutoCloseable {
+    /**
+     * The available implementations of {@link QuestionExecutor}.
+     */
+    public static enum ExecutionMode {
+        /**
+         * Every task runs on a new thread, which is created for it (and terminates when the task ends).
+         */
+        DEDICATED_THREADS,
+        /**
+         * All the tasks run on a single executor, which is shared by all the questions of the challenge. The executor
+         * runs each task on a virtual thread if the Java runtime supports virtual threads. Otherwise, tasks run on a
+         * pool of reusable threads.
+         */
+        SHARED_EXECUTOR;
+    }
+
+    public static QuestionExecutor create(ExecutionMode executionMode) {
+        switch (executionMode) {
+            case DEDICATED_THREADS:
+                return new DedicatedThreadsQuestionExecutor();
+            case SHARED_EXECUTOR:
+                return new SharedQuestionExecutor();
+            default:
+                throw new IllegalArgumentException("Unsupported execution mode: " + executionMode);
+        }
+    }
+
+    /**
+     * Runs the given task asynchronously.
+     *
+     * @param name A name which describes the task. Used as (or for) the name of the thread that runs the task.
+     * @param task The task to run.
+     * @return A future which completes when the task ends.
+     */
+    public abstract Future<?> submit(final String name, final Runnable task);
+
+
+    /**
+     * Creates a new thread for each task.
+     */
+    private static class DedicatedThreadsQuestionExecutor extends QuestionExecutor {
+        @Override
+        public Future<?> submit(final String name, final Runnable task) {
+            FutureTask<Void> future = new FutureTask<Void>(task, null);
+            new Thread(future, name).start();
+            return future;
+        }
+
+        @Override
+        public void close() throws ChallengeCloseException {
+            // Nothing to close. Each thread terminates when its task ends.
+        }
+    }
+
+    /**
+     * Submits all tasks to a single {@link ExecutorService}.
+     */
+    private static class SharedQuestionExecutor extends QuestionExecutor {
+        public SharedQuestionExecutor() {
+            super();
+            ExecutorService virtualThreadExecutor = createVirtualThreadExecutor();
+            if (virtualThreadExecutor != null) {
+                executor = virtualThreadExecutor;
+                logger.info("Question operations run on virtual threads.");
+            } else {
+                executor = Executors.newCachedThreadPool(new QuestionExecutorThreadFactory());
+                logger.info("Virtual threads are not supported by this Java runtime. Question operations run on a shared thread pool.");
+            }
+        }
+
+        @Override
+        public Future<?> submit(final String name, final Runnable task) {
+            return executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    // Name the thread after the task while it runs, so the log is as informative as with dedicated
+                    // threads.
+                    final Thread thread = Thread.currentThread();
+                    final String originalName = thread.getName();
+                    thread.setName(name);
+                    try {
+                        task.run();
+                    } finally {
+                        thread.setName(originalName);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void close() throws ChallengeCloseException {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(Constants.QUESTION_EXECUTOR_TERMINATION_WAIT_MILLISECONDS,
+                                TimeUnit.MILLISECONDS)) {
+                    logger.warn("Question executor did not terminate within "
+                                    + Constants.QUESTION_EXECUTOR_TERMINATION_WAIT_MILLISECONDS
+                                    + " milliseconds. Interrupting its remaining tasks.");
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new ChallengeCloseException("Interrupted while closing the question executor.", e);
+            }
+        }
+
+        /**
+         * Returns a virtual-thread-per-task executor, or null if the Java runtime does not support virtual threads. The
+         * executor is obtained by reflection, since the project is compiled for Java runtimes that might lack it.
+         */
+        private static ExecutorService createVirtualThreadExecutor() {
+            try {
+                Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factoryMethod.invoke(null);
+            } catch (NoSuchMethodException e) {
+                return null;
+            } catch (IllegalAccessException | InvocationTargetException | RuntimeException e) {
+                logger.warn("Failed to create a virtual-thread executor.", e);
+                return null;
+            }
+        }
+
+        private final ExecutorService executor;
+    }
+
+    private static class QuestionExecutorThreadFactory implements ThreadFactory {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, "QuestionExecutor-" + threadNumber.incrementAndGet());
+        }
+
+        private final AtomicInteger threadNumber = new AtomicInteger(0);
+    }
+
+
+    private static final org.apache.log4j.Logger logger = org.apache.log4j.Logger.getLogger(QuestionExecutor.class);
+}
@@ -38,6 +38,15 @@ public abstract class QuestionOperator implements ChallengeAutoCloseable {
      */
     public abstract void operate(Question question) throws QuestionOperationException, StorageFatalException;
 
+    /**
+     * Prepares for the first question (e.g., connects to the participants in advance). Called once, before the first
+     * question is operated. Does nothing by default.
+     * 
+     * @throws InterruptedException If interrupted while preparing.
+     */
+    public void warmUp() throws InterruptedException {
+    }
+
 
 
     protected final List<Participant> participants;
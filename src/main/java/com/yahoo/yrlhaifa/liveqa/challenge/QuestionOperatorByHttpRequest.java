@@ -10,6 +10,7 @@ import com.yahoo.yrlhaifa.liveqa.challenge.configuration.RequestGeneralParameter
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeCloseException;
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeSystemException;
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.QuestionOperationException;
+import com.yahoo.yrlhaifa.liveqa.challenge.http_operation.ParticipantRequestDispatcher;
 import com.yahoo.yrlhaifa.liveqa.challenge.http_operation.QuestionOperationHttpRequestSender;
 import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
 import com.yahoo.yrlhaifa.liveqa.challenge.storage.AnswerStorageOperator;
@@ -35,16 +36,21 @@ public class QuestionOperatorByHttpRequest extends QuestionOperatorUsingAnswerMa
      * 
      * @param participants List of participants
      * @param storageOperator Stores the question and the answers in a permanent storage.
+     * @param questionExecutor Runs the tasks forked by the operation on each question.
      * @param timeParameters Parameters regarding time restrictions of answers (how long can it take to answer the
      *        question), as well as other restrictions and regarding the HTTP request.
+     * @param dispatcher Sends the HTTP requests to the participants. The dispatcher is owned by this question operator,
+     *        and is closed when this question operator is closed.
      * @throws ChallengeSystemException Thrown if a fatal error occurred, which indicates that the program should exit
      *         and the challenge should stop.
      */
     public QuestionOperatorByHttpRequest(List<Participant> participants,
                     QuestionStorageOperator questionStorageOperator, AnswerStorageOperator storageOperator,
-                    RequestGeneralParameters timeParameters) throws ChallengeSystemException {
-        super(participants, questionStorageOperator, storageOperator);
+                    QuestionExecutor questionExecutor, RequestGeneralParameters timeParameters,
+                    ParticipantRequestDispatcher dispatcher) throws ChallengeSystemException {
+        super(participants, questionStorageOperator, storageOperator, questionExecutor);
         this.timeParameters = timeParameters;
+        this.dispatcher = dispatcher;
     }
 
 
@@ -60,10 +66,20 @@ public class QuestionOperatorByHttpRequest extends QuestionOperatorUsingAnswerMa
                     final ConcurrentMap<Participant, ParticipantResponse> mapParticipantToAnswer)
                                     throws QuestionOperationException, InterruptedException {
         QuestionOperationHttpRequestSender sender = new QuestionOperationHttpRequestSender(participants, question,
-                        mapParticipantToAnswer, timeParameters);
+                        mapParticipantToAnswer, timeParameters, dispatcher);
         sender.sendRequestsAndCollectAnswers();
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.yahoo.yrlhaifa.liveqa.challenge.QuestionOperator#warmUp()
+     */
+    @Override
+    public void warmUp() throws InterruptedException {
+        dispatcher.warmUp(participants);
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -71,9 +87,9 @@ public class QuestionOperatorByHttpRequest extends QuestionOperatorUsingAnswerMa
      */
     @Override
     public void close() throws ChallengeCloseException {
-        // TODO Auto-generated method stub
-
+        dispatcher.close();
     }
 
     protected final RequestGeneralParameters timeParameters;
+    protected final ParticipantRequestDispatcher dispatcher;
 }
@@ -7,6 +7,8 @@ import java.util.List;
 
 import com.yahoo.yrlhaifa.liveqa.challenge.configuration.RequestGeneralParameters;
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeSystemException;
+import com.yahoo.yrlhaifa.liveqa.challenge.http_operation.DispatcherParameters;
+import com.yahoo.yrlhaifa.liveqa.challenge.http_operation.ParticipantRequestDispatcher;
 import com.yahoo.yrlhaifa.liveqa.challenge.storage.AnswerStorageOperator;
 import com.yahoo.yrlhaifa.liveqa.challenge.storage.QuestionStorageOperator;
 
@@ -20,17 +22,31 @@ import com.yahoo.yrlhaifa.liveqa.challenge.storage.QuestionStorageOperator;
  *
  */
 public class QuestionOperatorFactory {
-    public QuestionOperatorFactory(RequestGeneralParameters requestGeneralParameters) {
+    public QuestionOperatorFactory(RequestGeneralParameters requestGeneralParameters,
+                    DispatcherParameters dispatcherParameters, int maximumConcurrentQuestions) {
         super();
         this.requestGeneralParameters = requestGeneralParameters;
+        this.dispatcherParameters = dispatcherParameters;
+        this.maximumConcurrentQuestions = maximumConcurrentQuestions;
     }
 
     public QuestionOperator createQuestionOperator(final List<Participant> participants,
                     final QuestionStorageOperator questionStorageOperator,
-                    final AnswerStorageOperator answerStorageOperator) throws ChallengeSystemException {
-        return new QuestionOperatorByHttpRequest(participants, questionStorageOperator, answerStorageOperator,
-                        requestGeneralParameters);
+                    final AnswerStorageOperator answerStorageOperator, final QuestionExecutor questionExecutor)
+                                    throws ChallengeSystemException {
+        // The dispatcher (and its connection pool) is shared by all the questions of the challenge.
+        ParticipantRequestDispatcher dispatcher = ParticipantRequestDispatcher.create(participants,
+                        dispatcherParameters, requestGeneralParameters, maximumConcurrentQuestions);
+        try {
+            return new QuestionOperatorByHttpRequest(participants, questionStorageOperator, answerStorageOperator,
+                            questionExecutor, requestGeneralParameters, dispatcher);
+        } catch (ChallengeSystemException | RuntimeException e) {
+            dispatcher.close();
+            throw e;
+        }
     }
 
     private final RequestGeneralParameters requestGeneralParameters;
+    private final DispatcherParameters dispatcherParameters;
+    private final int maximumConcurrentQuestions;
 }
@@ -30,9 +30,9 @@ import com.yahoo.yrlhaifa.liveqa.challenge.storage.QuestionStorageOperator;
  */
 public abstract class QuestionOperatorUsingAnswerMap extends QuestionOperatorWithQuestionStorage {
     public QuestionOperatorUsingAnswerMap(List<Participant> participants,
-                    QuestionStorageOperator questionStorageOperator, AnswerStorageOperator storageOperator)
-                                    throws ChallengeSystemException {
-        super(participants, questionStorageOperator);
+                    QuestionStorageOperator questionStorageOperator, AnswerStorageOperator storageOperator,
+                    QuestionExecutor questionExecutor) throws ChallengeSystemException {
+        super(participants, questionStorageOperator, questionExecutor);
         this.storageOperator = storageOperator;
     }
 
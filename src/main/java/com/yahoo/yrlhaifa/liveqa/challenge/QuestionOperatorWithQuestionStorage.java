@@ -4,6 +4,7 @@
 package com.yahoo.yrlhaifa.liveqa.challenge;
 
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeSystemException;
@@ -19,8 +20,8 @@ import com.yahoo.yrlhaifa.liveqa.challenge.storage.QuestionStorageOperator;
  * store them. This {@link QuestionOperator} performs, in addition, the task of storing the question itself in a given
  * storage.
  * <P>
- * Note that the task of storing the question is performed in a separate thread, such that it does not delay the task of
- * sending the question to the participants.
+ * Note that the task of storing the question is performed asynchronously (by the given {@link QuestionExecutor}), such
+ * that it does not delay the task of sending the question to the participants.
  *
  * <P>
  * Date: Jan 20, 2015
@@ -30,53 +31,58 @@ import com.yahoo.yrlhaifa.liveqa.challenge.storage.QuestionStorageOperator;
  */
 public abstract class QuestionOperatorWithQuestionStorage extends QuestionOperator {
     protected QuestionOperatorWithQuestionStorage(List<Participant> participants,
-                    QuestionStorageOperator questionStorageOperator) throws ChallengeSystemException {
+                    QuestionStorageOperator questionStorageOperator, QuestionExecutor questionExecutor)
+                                    throws ChallengeSystemException {
         super(participants);
         this.questionStorageOperator = questionStorageOperator;
+        this.questionExecutor = questionExecutor;
     }
 
 
     @Override
     public final void operate(final Question question) throws QuestionOperationException, StorageFatalException {
-        // Create a new thread which stores the question
-        // This exceptionReference holds exception captured by question-store thread.
+        // Fork a task which stores the question
+        // This exceptionReference holds exception captured by question-store task.
         final AtomicReference<StorageFatalException> exceptionReference =
                         new AtomicReference<StorageFatalException>(null);
-        Thread questionStoreThread = new Thread(new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    logger.debug("Store question thread starts.");
-                    storeQuestion(question);
-                    logger.debug("Store question thread ends successfully.");
-                } catch (StorageFatalException e) {
-                    logger.error("Store-question thread failed. This error will be propagated to the thread that has activated the current thread.",
-                                    e);
-                    exceptionReference.set(e);
+        try (QuestionExecutionScope scope = new QuestionExecutionScope(questionExecutor)) {
+            scope.fork("QuestionStore-" + ((question.getId() == null) ? "" : question.getId()), new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        logger.debug("Store question task starts.");
+                        storeQuestion(question);
+                        logger.debug("Store question task ends successfully.");
+                    } catch (StorageFatalException e) {
+                        logger.error("Store-question task failed. This error will be propagated to the thread that has forked the current task.",
+                                        e);
+                        exceptionReference.set(e);
+                    }
                 }
-            }
-        }, "QuestionStore-" + ((question.getId() == null) ? "" : question.getId()));
-        questionStoreThread.start();
-        try {
-            // Here we are on "our" thread, not the thread that was created for the question storage.
-            // Here we proceed with the processing of this question (sending it to all participants and collecting their
-            // answers).
-            operate_sendToParticipants(question);
-        } finally {
-            // Join the thread which stored the question.
-            // If that thread had a fatal exception - throw it.
+            });
             try {
-                logger.debug("Join question store thread...");
-                questionStoreThread.join();
-                logger.debug("Joined to question store thread.");
-                StorageFatalException questionStroageException = exceptionReference.get();
-                if (questionStroageException != null) {
-                    throw questionStroageException;
+                // Here we are on "our" thread, not the one that runs the question storage.
+                // Here we proceed with the processing of this question (sending it to all participants and collecting
+                // their answers).
+                operate_sendToParticipants(question);
+            } finally {
+                // Join the task which stored the question.
+                // If that task had a fatal exception - throw it.
+                try {
+                    logger.debug("Join question store task...");
+                    scope.join();
+                    logger.debug("Joined to question store task.");
+                    StorageFatalException questionStroageException = exceptionReference.get();
+                    if (questionStroageException != null) {
+                        throw questionStroageException;
+                    }
+                } catch (InterruptedException e) {
+                    logger.error("Thread was interrupted. Stop immediately.", e);
+                    Thread.currentThread().interrupt();
+                    throw new QuestionOperationException("Thread was interrupted. Stop immediately.", e);
+                } catch (ExecutionException e) {
+                    throw new QuestionOperationException("Unexpected failure when storing the question.", e.getCause());
                 }
-            } catch (InterruptedException e) {
-                logger.error("Thread was interrupted. Stop immediately.", e);
-                Thread.currentThread().interrupt();
-                throw new QuestionOperationException("Thread was interrupted. Stop immediately.", e);
             }
         }
     }
@@ -98,6 +104,7 @@ public abstract class QuestionOperatorWithQuestionStorage extends QuestionOperat
 
 
     protected final QuestionStorageOperator questionStorageOperator;
+    protected final QuestionExecutor questionExecutor;
 
     private static final org.apache.log4j.Logger logger =
                     org.apache.log4j.Logger.getLogger(QuestionOperatorWithQuestionStorage.class);
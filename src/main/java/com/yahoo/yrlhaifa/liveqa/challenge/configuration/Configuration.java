@@ -14,8 +14,18 @@ import com.yahoo.yrlhaifa.haifa_utils.utils.ConfParams.ConfParamsException;
 import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
 import com.yahoo.yrlhaifa.liveqa.challenge.NextQuestionTimingPolicy;
 import com.yahoo.yrlhaifa.liveqa.challenge.Participant;
+import com.yahoo.yrlhaifa.liveqa.challenge.QuestionExecutor.ExecutionMode;
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeSystemException;
+import com.yahoo.yrlhaifa.liveqa.challenge.http_operation.DispatcherParameters;
+import com.yahoo.yrlhaifa.liveqa.challenge.http_operation.ParticipantRequestDispatcher.DispatchEngine;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.CorpusReplayParameters;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.QuestionFeederFactory.FeedType;
 import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.QuestionFeederFactoryParameters;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.QuestionFeederFromCorpus.ReplayOrder;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.RssPollingParameters;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.NearDuplicateQuestionFilter;
+import com.yahoo.yrlhaifa.liveqa.challenge.storage.AnswerXmlLimits;
+import com.yahoo.yrlhaifa.liveqa.challenge.storage.ParticipantAnswerXmlParser;
 import com.yahoo.yrlhaifa.liveqa.challenge.storage.StorageParameters;
 import com.yahoo.yrlhaifa.liveqa.common.HoursMinutesSeconds;
 
@@ -39,7 +49,13 @@ public class Configuration {
     public static final String ASNWER_REQUEST_RESPOND_EXTRA_TIME = "request-respond-extra-time-milliseconds";
     public static final String ANSWER_MAXIMUM_LENGTH = "answer-maximum-length";
     public static final String SUMMARY_MAXIMUM_LENGTH = "summary-maximum-length";
+    public static final String QUESTION_FEED_TYPE_PARAMETER_NAME = "question-feed-type";
+    public static final String REPLAY_CORPUS_FILE_PARAMETER_NAME = "replay-corpus-file";
+    public static final String REPLAY_ORDER_PARAMETER_NAME = "replay-order";
+    public static final String REPLAY_QUESTIONS_PER_SECOND_PARAMETER_NAME = "replay-questions-per-second";
     public static final String RSS_URL_PARAMETER_NAME = "rss-url";
+    public static final String RSS_POLL_INTERVAL_PARAMETER_NAME = "rss-poll-interval-milliseconds";
+    public static final String RSS_LOOK_AHEAD_THREADS_PARAMETER_NAME = "rss-look-ahead-threads";
     public static final String MAXIMUM_QUESTION_AGE_PARAMETER_NAME = "maximum-question-age";
     public static final String ENGLISH_CLASSIFIER_LANGUAGE_MODEL_FILE_PARAMETER_NAME =
                     "english-classifier-language-model";
@@ -48,9 +64,31 @@ public class Configuration {
                     "timing-policy-wait-between-questions-milliseconds";
     public static final String CHALLENGE_DURATION_PARAMETER_NAME = "challenge-duration";
     public static final String BAD_WORDS_FILE_PARAMETER_NAME = "bad-words-file";
+    public static final String ASKED_QUESTIONS_FILE_PARAMETER_NAME = "asked-questions-file";
     public static final String FILTER_CATEGORIES_PARAMETER_NAME = "filter-categories";
     public static final String FILTER_CATEGORIES_SEPARATOR = ",";
     public static final String CATEGORY_BLACKLIST_FLAG_PARAMETER_NAME = "category-filter-is-blacklist";
+    public static final String CATEGORY_TAXONOMY_FILE_PARAMETER_NAME = "category-taxonomy-file";
+    public static final String CATEGORY_PARENTS_FILE_PARAMETER_NAME = "category-parents-file";
+    public static final String ADAPTIVE_FILTER_ORDER_PARAMETER_NAME = "adaptive-filter-order";
+    public static final String NEAR_DUPLICATE_WINDOW_PARAMETER_NAME = "near-duplicate-window-milliseconds";
+    public static final String NEAR_DUPLICATE_MAXIMUM_DISTANCE_PARAMETER_NAME = "near-duplicate-maximum-distance";
+    public static final String DISPATCH_ENGINE_PARAMETER_NAME = "dispatch-engine";
+    public static final String DISPATCH_IO_THREADS_PARAMETER_NAME = "dispatch-io-threads";
+    public static final String PARTICIPANT_FAILURE_THRESHOLD_PARAMETER_NAME = "participant-failure-threshold";
+    public static final String PARTICIPANT_PROBE_INTERVAL_PARAMETER_NAME = "participant-probe-interval-milliseconds";
+    public static final String WARM_UP_CONNECTIONS_PARAMETER_NAME = "warm-up-connections-per-participant";
+    public static final String WARM_UP_PROBE_PARAMETER_NAME = "warm-up-probe";
+    public static final String RESPONSE_PARSE_THREADS_PARAMETER_NAME = "response-parse-threads";
+    public static final String MAXIMUM_RESPONSE_BYTES_PARAMETER_NAME = "maximum-response-bytes";
+    public static final String ANSWER_XML_PARSER_PARAMETER_NAME = "answer-xml-parser";
+    public static final String ANSWER_XML_HARDENED_PARAMETER_NAME = "answer-xml-hardened";
+    public static final String ANSWER_XML_MAXIMUM_DEPTH_PARAMETER_NAME = "answer-xml-maximum-depth";
+    public static final String ANSWER_XML_MAXIMUM_ATTRIBUTES_PARAMETER_NAME = "answer-xml-maximum-attributes";
+    public static final String ANSWER_XML_MAXIMUM_PARSE_TIME_PARAMETER_NAME = "answer-xml-maximum-parse-milliseconds";
+    public static final String QUESTION_EXECUTION_MODE_PARAMETER_NAME = "question-execution-mode";
+    public static final String MAXIMUM_CONCURRENT_QUESTIONS_PARAMETER_NAME = "maximum-concurrent-questions";
+    public static final String ADMISSION_QUEUE_CAPACITY_PARAMETER_NAME = "admission-queue-capacity";
 
 
 
@@ -93,27 +131,335 @@ public class Configuration {
         final long slackTimeForRequestExecutorTimeOutMilliseconds = Constants.FUTURE_GET_SLACK_TIME_MILLISECONDS;
         final int maximumAnswerLength = getInt(ANSWER_MAXIMUM_LENGTH);
         final int maximumSummaryLength = getInt(SUMMARY_MAXIMUM_LENGTH);
+        // By default, room for the longest answer (and the rest of the answer XML), in any UTF-8 characters.
+        int maximumResponseBytes = Constants.MAXIMUM_BYTES_PER_CHARACTER
+                        * (maximumAnswerLength + Constants.ANSWER_XML_LENGTH_IN_ADDITION_TO_ANSWER_LENGTH);
+        if (parameters.containsKey(MAXIMUM_RESPONSE_BYTES_PARAMETER_NAME)) {
+            maximumResponseBytes = getInt(MAXIMUM_RESPONSE_BYTES_PARAMETER_NAME);
+            if (maximumResponseBytes <= 0) {
+                throw new ChallengeConfigurationException(
+                                "Parameter \"" + MAXIMUM_RESPONSE_BYTES_PARAMETER_NAME + "\" must be positive.");
+            }
+        }
+        ParticipantAnswerXmlParser answerXmlParser = ParticipantAnswerXmlParser.STAX;
+        if (parameters.containsKey(ANSWER_XML_PARSER_PARAMETER_NAME)) {
+            final String parserString = getString(ANSWER_XML_PARSER_PARAMETER_NAME);
+            try {
+                answerXmlParser = ParticipantAnswerXmlParser.valueOf(parserString.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new ChallengeConfigurationException("Unknown value for parameter \""
+                                + ANSWER_XML_PARSER_PARAMETER_NAME + "\": " + parserString, e);
+            }
+        }
+        final AnswerXmlLimits answerXmlLimits = getAnswerXmlLimits(maximumResponseBytes);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Maximum response bytes = " + maximumResponseBytes);
+            logger.debug("Answer XML parser = " + answerXmlParser + ", limits = " + answerXmlLimits);
+        }
 
         return new RequestGeneralParameters(timeForAnswerMilliseconds, extraTimeForRequestResponseMilliseconds,
-                        slackTimeForRequestExecutorTimeOutMilliseconds, maximumAnswerLength, maximumSummaryLength);
+                        slackTimeForRequestExecutorTimeOutMilliseconds, maximumAnswerLength, maximumSummaryLength,
+                        maximumResponseBytes, answerXmlParser, answerXmlLimits);
+    }
+
+    /**
+     * Returns the limits of the hardened parse mode of the answer XMLs, or null if the hardened mode is turned off.
+     * The XML may be as long as the response body.
+     */
+    private AnswerXmlLimits getAnswerXmlLimits(final int maximumResponseBytes) throws ChallengeConfigurationException {
+        boolean hardened = true;
+        if (parameters.containsKey(ANSWER_XML_HARDENED_PARAMETER_NAME)) {
+            hardened = getBoolean(ANSWER_XML_HARDENED_PARAMETER_NAME);
+        }
+        if (!hardened) {
+            return null;
+        }
+        int maximumDepth = Constants.DEFAULT_ANSWER_XML_MAXIMUM_DEPTH;
+        if (parameters.containsKey(ANSWER_XML_MAXIMUM_DEPTH_PARAMETER_NAME)) {
+            maximumDepth = getInt(ANSWER_XML_MAXIMUM_DEPTH_PARAMETER_NAME);
+            if (maximumDepth <= 0) {
+                throw new ChallengeConfigurationException(
+                                "Parameter \"" + ANSWER_XML_MAXIMUM_DEPTH_PARAMETER_NAME + "\" must be positive.");
+            }
+        }
+        int maximumAttributes = Constants.DEFAULT_ANSWER_XML_MAXIMUM_ATTRIBUTES_PER_ELEMENT;
+        if (parameters.containsKey(ANSWER_XML_MAXIMUM_ATTRIBUTES_PARAMETER_NAME)) {
+            maximumAttributes = getInt(ANSWER_XML_MAXIMUM_ATTRIBUTES_PARAMETER_NAME);
+            if (maximumAttributes <= 0) {
+                throw new ChallengeConfigurationException("Parameter \""
+                                + ANSWER_XML_MAXIMUM_ATTRIBUTES_PARAMETER_NAME + "\" must be positive.");
+            }
+        }
+        long maximumParseTime = Constants.DEFAULT_ANSWER_XML_MAXIMUM_PARSE_TIME_MILLISECONDS;
+        if (parameters.containsKey(ANSWER_XML_MAXIMUM_PARSE_TIME_PARAMETER_NAME)) {
+            maximumParseTime = getLong(ANSWER_XML_MAXIMUM_PARSE_TIME_PARAMETER_NAME);
+            if (maximumParseTime <= 0) {
+                throw new ChallengeConfigurationException("Parameter \""
+                                + ANSWER_XML_MAXIMUM_PARSE_TIME_PARAMETER_NAME + "\" must be positive.");
+            }
+        }
+        return new AnswerXmlLimits(maximumDepth, maximumAttributes, maximumResponseBytes, maximumParseTime);
     }
 
 
-    public QuestionFeederFactoryParameters getQuestionFeederFactoryParameters() throws ChallengeConfigurationException {
-        final String rssUrl = getString(RSS_URL_PARAMETER_NAME);
+    public DispatcherParameters getDispatcherParameters() throws ChallengeConfigurationException {
+        DispatchEngine dispatchEngine = DispatchEngine.BLOCKING;
+        if (parameters.containsKey(DISPATCH_ENGINE_PARAMETER_NAME)) {
+            final String engineString = getString(DISPATCH_ENGINE_PARAMETER_NAME);
+            try {
+                dispatchEngine = DispatchEngine.valueOf(engineString.trim().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new ChallengeConfigurationException("Unknown value for parameter \""
+                                + DISPATCH_ENGINE_PARAMETER_NAME + "\": " + engineString, e);
+            }
+        }
+        int ioThreadCount = Constants.DEFAULT_DISPATCH_IO_THREAD_COUNT;
+        if (parameters.containsKey(DISPATCH_IO_THREADS_PARAMETER_NAME)) {
+            ioThreadCount = getInt(DISPATCH_IO_THREADS_PARAMETER_NAME);
+            if (ioThreadCount <= 0) {
+                throw new ChallengeConfigurationException(
+                                "Parameter \"" + DISPATCH_IO_THREADS_PARAMETER_NAME + "\" must be positive.");
+            }
+        }
+        int failureThreshold = Constants.DEFAULT_PARTICIPANT_FAILURE_THRESHOLD;
+        if (parameters.containsKey(PARTICIPANT_FAILURE_THRESHOLD_PARAMETER_NAME)) {
+            failureThreshold = getInt(PARTICIPANT_FAILURE_THRESHOLD_PARAMETER_NAME);
+            if (failureThreshold < 0) {
+                throw new ChallengeConfigurationException("Parameter \"" + PARTICIPANT_FAILURE_THRESHOLD_PARAMETER_NAME
+                                + "\" must not be negative.");
+            }
+        }
+        long probeInterval = Constants.DEFAULT_PARTICIPANT_PROBE_INTERVAL_MILLISECONDS;
+        if (parameters.containsKey(PARTICIPANT_PROBE_INTERVAL_PARAMETER_NAME)) {
+            probeInterval = getLong(PARTICIPANT_PROBE_INTERVAL_PARAMETER_NAME);
+            if (probeInterval <= 0) {
+                throw new ChallengeConfigurationException(
+                                "Parameter \"" + PARTICIPANT_PROBE_INTERVAL_PARAMETER_NAME + "\" must be positive.");
+            }
+        }
+        int warmUpConnections = Constants.DEFAULT_WARM_UP_CONNECTIONS_PER_PARTICIPANT;
+        if (parameters.containsKey(WARM_UP_CONNECTIONS_PARAMETER_NAME)) {
+            warmUpConnections = getInt(WARM_UP_CONNECTIONS_PARAMETER_NAME);
+            if (warmUpConnections < 0) {
+                throw new ChallengeConfigurationException(
+                                "Parameter \"" + WARM_UP_CONNECTIONS_PARAMETER_NAME + "\" must not be negative.");
+            }
+        }
+        boolean warmUpProbe = false;
+        if (parameters.containsKey(WARM_UP_PROBE_PARAMETER_NAME)) {
+            warmUpProbe = getBoolean(WARM_UP_PROBE_PARAMETER_NAME);
+        }
+        int responseParseThreadCount = Constants.DEFAULT_RESPONSE_PARSE_THREAD_COUNT;
+        if (parameters.containsKey(RESPONSE_PARSE_THREADS_PARAMETER_NAME)) {
+            responseParseThreadCount = getInt(RESPONSE_PARSE_THREADS_PARAMETER_NAME);
+            if (responseParseThreadCount <= 0) {
+                throw new ChallengeConfigurationException(
+                                "Parameter \"" + RESPONSE_PARSE_THREADS_PARAMETER_NAME + "\" must be positive.");
+            }
+        }
+        logger.info("Dispatch engine = " + dispatchEngine);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Dispatch I/O threads = " + ioThreadCount);
+            logger.debug("Participant failure threshold = " + failureThreshold + ", probe interval (milliseconds) = "
+                            + probeInterval);
+            logger.debug("Warm-up connections per participant = " + warmUpConnections + ", warm-up probe = "
+                            + warmUpProbe);
+            logger.debug("Response parse threads = " + responseParseThreadCount);
+        }
+        return new DispatcherParameters(dispatchEngine, ioThreadCount, failureThreshold, probeInterval,
+                        warmUpConnections, warmUpProbe, responseParseThreadCount);
+    }
+
+
+    public ExecutionMode getQuestionExecutionMode() throws ChallengeConfigurationException {
+        ExecutionMode executionMode = ExecutionMode.DEDICATED_THREADS;
+        if (parameters.containsKey(QUESTION_EXECUTION_MODE_PARAMETER_NAME)) {
+            final String modeString = getString(QUESTION_EXECUTION_MODE_PARAMETER_NAME);
+            try {
+                executionMode = ExecutionMode.valueOf(modeString.trim().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new ChallengeConfigurationException("Unknown value for parameter \""
+                                + QUESTION_EXECUTION_MODE_PARAMETER_NAME + "\": " + modeString, e);
+            }
+        }
+        logger.info("Question execution mode = " + executionMode);
+        return executionMode;
+    }
+
+
+    public QuestionAdmissionParameters getQuestionAdmissionParameters() throws ChallengeConfigurationException {
+        int maximumConcurrentQuestions = Constants.MAXIMUM_NUMBER_OF_QUESTION_OPERATION_THREADS;
+        if (parameters.containsKey(MAXIMUM_CONCURRENT_QUESTIONS_PARAMETER_NAME)) {
+            maximumConcurrentQuestions = getInt(MAXIMUM_CONCURRENT_QUESTIONS_PARAMETER_NAME);
+            if (maximumConcurrentQuestions <= 0) {
+                throw new ChallengeConfigurationException(
+                                "Parameter \"" + MAXIMUM_CONCURRENT_QUESTIONS_PARAMETER_NAME + "\" must be positive.");
+            }
+        }
+        int queueCapacity = Constants.DEFAULT_ADMISSION_QUEUE_CAPACITY;
+        if (parameters.containsKey(ADMISSION_QUEUE_CAPACITY_PARAMETER_NAME)) {
+            queueCapacity = getInt(ADMISSION_QUEUE_CAPACITY_PARAMETER_NAME);
+            if (queueCapacity < 0) {
+                throw new ChallengeConfigurationException(
+                                "Parameter \"" + ADMISSION_QUEUE_CAPACITY_PARAMETER_NAME + "\" must not be negative.");
+            }
+        }
         final HoursMinutesSeconds questionMaximumAge =
                         parseHoursMinutesSeconds(getString(MAXIMUM_QUESTION_AGE_PARAMETER_NAME));
-        if (logger.isDebugEnabled()) {
-            logger.debug("RSS URL = " + rssUrl);
+        logger.info("Maximum concurrent questions = " + maximumConcurrentQuestions + ", admission queue capacity = "
+                        + queueCapacity);
+        return new QuestionAdmissionParameters(maximumConcurrentQuestions, queueCapacity, questionMaximumAge);
+    }
+
+
+    public QuestionFeederFactoryParameters getQuestionFeederFactoryParameters() throws ChallengeConfigurationException {
+        FeedType feedType = FeedType.RSS;
+        if (parameters.containsKey(QUESTION_FEED_TYPE_PARAMETER_NAME)) {
+            final String feedTypeString = getString(QUESTION_FEED_TYPE_PARAMETER_NAME);
+            try {
+                feedType = FeedType.valueOf(feedTypeString.trim().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new ChallengeConfigurationException("Unknown value for parameter \""
+                                + QUESTION_FEED_TYPE_PARAMETER_NAME + "\": " + feedTypeString, e);
+            }
         }
+        logger.info("Question feed type = " + feedType);
+        final CorpusReplayParameters replayParameters =
+                        (FeedType.REPLAY == feedType) ? getCorpusReplayParameters() : null;
+        final RssPollingParameters rssPollingParameters =
+                        (FeedType.RSS == feedType) ? getRssPollingParameters() : null;
+        final HoursMinutesSeconds questionMaximumAge =
+                        parseHoursMinutesSeconds(getString(MAXIMUM_QUESTION_AGE_PARAMETER_NAME));
         if (logger.isDebugEnabled()) {
             logger.debug("Question maximum age = " + questionMaximumAge);
         }
 
         File badWordsFile = getFile(BAD_WORDS_FILE_PARAMETER_NAME);
 
-        return new QuestionFeederFactoryParameters(rssUrl, questionMaximumAge, badWordsFile, getFilterCategories(),
-                        getCategoryFilterIsBlacklist());
+        File englishClassifierLanguageModelFile = null;
+        File englishClassifierModelFile = null;
+        if (parameters.containsKey(ENGLISH_CLASSIFIER_LANGUAGE_MODEL_FILE_PARAMETER_NAME)
+                        || parameters.containsKey(ENGLISH_CLASSIFIER_MODEL_FILE_PARAMETER_NAME)) {
+            englishClassifierLanguageModelFile = getFile(ENGLISH_CLASSIFIER_LANGUAGE_MODEL_FILE_PARAMETER_NAME);
+            englishClassifierModelFile = getFile(ENGLISH_CLASSIFIER_MODEL_FILE_PARAMETER_NAME);
+            if (logger.isDebugEnabled()) {
+                logger.debug("English classifier language model = " + englishClassifierLanguageModelFile.getPath()
+                                + ", model = " + englishClassifierModelFile.getPath());
+            }
+        }
+
+        File categoryTaxonomyFile = null;
+        File categoryParentsFile = null;
+        if (parameters.containsKey(CATEGORY_TAXONOMY_FILE_PARAMETER_NAME)) {
+            categoryTaxonomyFile = getFile(CATEGORY_TAXONOMY_FILE_PARAMETER_NAME);
+            if (parameters.containsKey(CATEGORY_PARENTS_FILE_PARAMETER_NAME)) {
+                categoryParentsFile = getFile(CATEGORY_PARENTS_FILE_PARAMETER_NAME);
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("Category taxonomy = " + categoryTaxonomyFile.getPath() + ", parents = "
+                                + ((categoryParentsFile != null) ? categoryParentsFile.getPath() : "none"));
+            }
+        } else if (parameters.containsKey(CATEGORY_PARENTS_FILE_PARAMETER_NAME)) {
+            throw new ChallengeConfigurationException("Parameter \"" + CATEGORY_PARENTS_FILE_PARAMETER_NAME
+                            + "\" requires parameter \"" + CATEGORY_TAXONOMY_FILE_PARAMETER_NAME + "\".");
+        }
+
+        long nearDuplicateWindow = Constants.DEFAULT_NEAR_DUPLICATE_WINDOW_MILLISECONDS;
+        if (parameters.containsKey(NEAR_DUPLICATE_WINDOW_PARAMETER_NAME)) {
+            nearDuplicateWindow = getLong(NEAR_DUPLICATE_WINDOW_PARAMETER_NAME);
+            if (nearDuplicateWindow < 0) {
+                throw new ChallengeConfigurationException(
+                                "Parameter \"" + NEAR_DUPLICATE_WINDOW_PARAMETER_NAME + "\" must not be negative.");
+            }
+        }
+        int nearDuplicateMaximumDistance = Constants.DEFAULT_NEAR_DUPLICATE_MAXIMUM_DISTANCE;
+        if (parameters.containsKey(NEAR_DUPLICATE_MAXIMUM_DISTANCE_PARAMETER_NAME)) {
+            nearDuplicateMaximumDistance = getInt(NEAR_DUPLICATE_MAXIMUM_DISTANCE_PARAMETER_NAME);
+            if ((nearDuplicateMaximumDistance < 0)
+                            || (nearDuplicateMaximumDistance > NearDuplicateQuestionFilter.MAXIMUM_DISTANCE_LIMIT)) {
+                throw new ChallengeConfigurationException("Parameter \""
+                                + NEAR_DUPLICATE_MAXIMUM_DISTANCE_PARAMETER_NAME + "\" must be between 0 and "
+                                + NearDuplicateQuestionFilter.MAXIMUM_DISTANCE_LIMIT + ".");
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Near-duplicate window (milliseconds) = " + nearDuplicateWindow + ", maximum distance = "
+                            + nearDuplicateMaximumDistance);
+        }
+
+        boolean adaptiveFilterOrder = false;
+        if (parameters.containsKey(ADAPTIVE_FILTER_ORDER_PARAMETER_NAME)) {
+            adaptiveFilterOrder = getBoolean(ADAPTIVE_FILTER_ORDER_PARAMETER_NAME);
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Adaptive filter order = " + adaptiveFilterOrder);
+        }
+
+        File askedQuestionsFile = null;
+        if (parameters.containsKey(ASKED_QUESTIONS_FILE_PARAMETER_NAME)) {
+            askedQuestionsFile = new File(getString(ASKED_QUESTIONS_FILE_PARAMETER_NAME));
+            logger.info("Asked questions file = " + askedQuestionsFile.getPath());
+        } else {
+            logger.warn("No asked questions file is given. Questions asked before a restart might be asked again.");
+        }
+
+        return new QuestionFeederFactoryParameters(feedType, replayParameters, rssPollingParameters,
+                        questionMaximumAge, englishClassifierLanguageModelFile, englishClassifierModelFile,
+                        badWordsFile, getFilterCategories(), getCategoryFilterIsBlacklist(), categoryTaxonomyFile,
+                        categoryParentsFile, nearDuplicateWindow, nearDuplicateMaximumDistance, adaptiveFilterOrder,
+                        askedQuestionsFile);
+    }
+
+    private RssPollingParameters getRssPollingParameters() throws ChallengeConfigurationException {
+        final String rssUrl = getString(RSS_URL_PARAMETER_NAME);
+        long pollInterval = Constants.DEFAULT_RSS_POLL_INTERVAL_MILLISECONDS;
+        if (parameters.containsKey(RSS_POLL_INTERVAL_PARAMETER_NAME)) {
+            pollInterval = getLong(RSS_POLL_INTERVAL_PARAMETER_NAME);
+            if (pollInterval <= 0) {
+                throw new ChallengeConfigurationException(
+                                "Parameter \"" + RSS_POLL_INTERVAL_PARAMETER_NAME + "\" must be positive.");
+            }
+        }
+        int lookAheadThreads = Constants.DEFAULT_RSS_LOOK_AHEAD_THREADS;
+        if (parameters.containsKey(RSS_LOOK_AHEAD_THREADS_PARAMETER_NAME)) {
+            lookAheadThreads = getInt(RSS_LOOK_AHEAD_THREADS_PARAMETER_NAME);
+            if (lookAheadThreads < 0) {
+                throw new ChallengeConfigurationException(
+                                "Parameter \"" + RSS_LOOK_AHEAD_THREADS_PARAMETER_NAME + "\" must not be negative.");
+            }
+        }
+        final RssPollingParameters rssPollingParameters =
+                        new RssPollingParameters(rssUrl, pollInterval, lookAheadThreads);
+        if (logger.isDebugEnabled()) {
+            logger.debug("RSS polling: " + rssPollingParameters);
+        }
+        return rssPollingParameters;
+    }
+
+    private CorpusReplayParameters getCorpusReplayParameters() throws ChallengeConfigurationException {
+        final File corpusFile = getFile(REPLAY_CORPUS_FILE_PARAMETER_NAME);
+        ReplayOrder order = ReplayOrder.ORIGINAL;
+        if (parameters.containsKey(REPLAY_ORDER_PARAMETER_NAME)) {
+            final String orderString = getString(REPLAY_ORDER_PARAMETER_NAME);
+            try {
+                order = ReplayOrder.valueOf(orderString.trim().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new ChallengeConfigurationException("Unknown value for parameter \""
+                                + REPLAY_ORDER_PARAMETER_NAME + "\": " + orderString, e);
+            }
+        }
+        double questionsPerSecond = Constants.DEFAULT_REPLAY_QUESTIONS_PER_SECOND;
+        if (parameters.containsKey(REPLAY_QUESTIONS_PER_SECOND_PARAMETER_NAME)) {
+            questionsPerSecond = getDouble(REPLAY_QUESTIONS_PER_SECOND_PARAMETER_NAME);
+            if (questionsPerSecond < 0) {
+                throw new ChallengeConfigurationException("Parameter \""
+                                + REPLAY_QUESTIONS_PER_SECOND_PARAMETER_NAME + "\" must not be negative.");
+            }
+        }
+        final CorpusReplayParameters replayParameters =
+                        new CorpusReplayParameters(corpusFile, order, questionsPerSecond);
+        logger.info("Corpus replay: " + replayParameters);
+        return replayParameters;
     }
 
     private boolean getCategoryFilterIsBlacklist() throws ChallengeConfigurationException {
@@ -249,6 +595,15 @@ public class Configuration {
         }
     }
 
+    private double getDouble(final String parameterName) throws ChallengeConfigurationException {
+        try {
+            return parameters.getDouble(parameterName);
+        } catch (RuntimeException e) {
+            throw new ChallengeConfigurationException("Failed to retrieve numerical value for parameter "
+                            + parameterName + ". Make sure that the parameter exists in the configuration file.");
+        }
+    }
+
     private int getInt(final String parameterName) throws ChallengeConfigurationException {
         try {
             return parameters.getInt(parameterName);
@@ -7,7 +7,9 @@ import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.yahoo.yrlhaifa.liveqa.challenge.Participant;
 
@@ -15,8 +17,11 @@ import com.yahoo.yrlhaifa.liveqa.challenge.Participant;
 /**
  * Reads a text file that contains the list of participants. This text file is a tab-separated file, where each line
  * contains the following entries: participant-organization-id, participant-system-id, participant-server-url
- * participant-email. <BR>
- * Note that the server-url is the URL into which the HTTP requests, sent by the system, will be delivered.
+ * participant-email, and, optionally, participant-capabilities. <BR>
+ * Note that the server-url is the URL into which the HTTP requests, sent by the system, will be delivered. <BR>
+ * The capabilities are a comma-separated list of the capabilities that the participant's server supports (e.g.,
+ * {@link Participant#CAPABILITY_GZIP_REQUEST}, {@link Participant#CAPABILITY_JSON_ANSWER}). Unknown capabilities are
+ * ignored.
  *
  * Date: Jan 21, 2015
  * 
@@ -78,11 +83,23 @@ public class ParticipantFileReader {
             String participantEmail = components[index].trim();
             ++index;
 
+            Set<String> capabilities = new LinkedHashSet<String>();
+            if (index < components.length) {
+                for (String capability : components[index].split(CAPABILITIES_SEPARATOR)) {
+                    if (capability.trim().length() > 0) {
+                        capabilities.add(capability.trim().toLowerCase());
+                    }
+                }
+                ++index;
+            }
+
             ret = new Participant(participantOrganizationId, participantSystemId, participantServerUrl,
-                            participantEmail);
+                            participantEmail, capabilities);
         }
         return ret;
     }
 
+    private static final String CAPABILITIES_SEPARATOR = ",";
+
     private final String participantFileName;
 }
@@ -0,0 +1,54 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.configuration;
+
+import com.yahoo.yrlhaifa.liveqa.common.HoursMinutesSeconds;
+
+/**
+ * Parameters which specify how many questions may be operated concurrently, and what happens with questions that
+ * arrive while that many questions are already being operated.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class QuestionAdmissionParameters {
+    public QuestionAdmissionParameters(int maximumConcurrentQuestions, int queueCapacity,
+                    HoursMinutesSeconds maximumQuestionAge) {
+        super();
+        this.maximumConcurrentQuestions = maximumConcurrentQuestions;
+        this.queueCapacity = queueCapacity;
+        this.maximumQuestionAge = maximumQuestionAge;
+    }
+
+
+    /**
+     * Maximum number of questions which are operated (sent to the participants, whose answers are collected) at the
+     * same time.
+     */
+    public int getMaximumConcurrentQuestions() {
+        return maximumConcurrentQuestions;
+    }
+
+    /**
+     * Maximum number of questions which wait for an operation to end. Zero means that questions never wait: they are
+     * discarded if the maximum number of questions are already being operated.
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * A waiting question whose age (since its publication) exceeds this age is discarded.
+     */
+    public HoursMinutesSeconds getMaximumQuestionAge() {
+        return maximumQuestionAge;
+    }
+
+
+
+    private final int maximumConcurrentQuestions;
+    private final int queueCapacity;
+    private final HoursMinutesSeconds maximumQuestionAge;
+}
@@ -3,6 +3,8 @@
 
 package com.yahoo.yrlhaifa.liveqa.challenge.configuration;
 
+import com.yahoo.yrlhaifa.liveqa.challenge.storage.AnswerXmlLimits;
+import com.yahoo.yrlhaifa.liveqa.challenge.storage.ParticipantAnswerXmlParser;
 
 /**
  * Encapsulates several parameters which mainly specify constraints on the responses and answers returned by
@@ -15,13 +17,18 @@ package com.yahoo.yrlhaifa.liveqa.challenge.configuration;
  */
 public class RequestGeneralParameters {
     public RequestGeneralParameters(long timeForAnswerMilliseconds, long extraTimeForRequestResponseMilliseconds,
-                    long slackTimeForRequestExecutorTimeOutMilliseconds, int maximumAnswerLength, int maximumSummaryLength) {
+                    long slackTimeForRequestExecutorTimeOutMilliseconds, int maximumAnswerLength,
+                    int maximumSummaryLength, int maximumResponseBytes, ParticipantAnswerXmlParser answerXmlParser,
+                    AnswerXmlLimits answerXmlLimits) {
         super();
         this.timeForAnswerMilliseconds = timeForAnswerMilliseconds;
         this.extraTimeForRequestResponseMilliseconds = extraTimeForRequestResponseMilliseconds;
         this.slackTimeForRequestExecutorTimeOutMilliseconds = slackTimeForRequestExecutorTimeOutMilliseconds;
         this.maximumAnswerLength = maximumAnswerLength;
         this.maximumSummaryLength = maximumSummaryLength;
+        this.maximumResponseBytes = maximumResponseBytes;
+        this.answerXmlParser = answerXmlParser;
+        this.answerXmlLimits = answerXmlLimits;
     }
 
 
@@ -46,6 +53,29 @@ public class RequestGeneralParameters {
         return maximumSummaryLength;
     }
 
+    /**
+     * Maximum size of a participant's response body (the answer XML), in bytes. A longer response is not read, and is
+     * considered a wrong response.
+     */
+    public int getMaximumResponseBytes() {
+        return maximumResponseBytes;
+    }
+
+    /**
+     * The parser of the participants' answer XMLs.
+     */
+    public ParticipantAnswerXmlParser getAnswerXmlParser() {
+        return answerXmlParser;
+    }
+
+    /**
+     * Limits on the resources spent on parsing a participant's answer XML, or null if the answer XMLs are parsed with
+     * the parser's defaults.
+     */
+    public AnswerXmlLimits getAnswerXmlLimits() {
+        return answerXmlLimits;
+    }
+
 
 
     private final long timeForAnswerMilliseconds;
@@ -53,4 +83,7 @@ public class RequestGeneralParameters {
     private final long slackTimeForRequestExecutorTimeOutMilliseconds;
     private final int maximumAnswerLength;
     private final int maximumSummaryLength;
+    private final int maximumResponseBytes;
+    private final ParticipantAnswerXmlParser answerXmlParser;
+    private final AnswerXmlLimits answerXmlLimits;
 }
@@ -0,0 +1,23 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.exceptions;
+
+/**
+ * Indicates that a question has not been sent to a participant, since the participant's server is known to be
+ * unavailable (it has repeatedly failed to accept connections, or to respond in time). This is not an error in the
+ * challenge-system.
+ * <P>
+ * The exception carries no stack trace, since it is created for every question while the server is unavailable.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class ParticipantUnavailableException extends ChallengeSystemNonFatalException {
+    private static final long serialVersionUID = 4871190437205621337L;
+
+    public ParticipantUnavailableException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,287 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.http_operation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.config.SocketConfig;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.FutureRequestExecutionService;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.client.HttpRequestFutureTask;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
+import com.yahoo.yrlhaifa.liveqa.challenge.Participant;
+import com.yahoo.yrlhaifa.liveqa.challenge.configuration.RequestGeneralParameters;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeCloseException;
+
+
+/**
+ * A {@link ParticipantRequestDispatcher} in which every in-flight request is executed by a thread, which blocks on the
+ * socket until the participant's response arrives. The threads are taken from a pool, which is shared by all the
+ * questions.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class BlockingParticipantRequestDispatcher extends ParticipantRequestDispatcher {
+    public BlockingParticipantRequestDispatcher(List<Participant> participants, DispatcherParameters parameters,
+                    RequestGeneralParameters requestGeneralParameters, int maximumConcurrentQuestions) {
+        super(parameters, requestGeneralParameters);
+        connectionManager = new PoolingHttpClientConnectionManager(
+                        RegistryBuilder.<ConnectionSocketFactory> create()
+                                        .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                                        .register("https", SSLConnectionSocketFactory.getSocketFactory()).build(),
+                        null, DefaultSchemePortResolver.INSTANCE, dnsResolver,
+                        Constants.CONNECTION_TIME_TO_LIVE_MILLISECONDS, TimeUnit.MILLISECONDS);
+        Map<HttpRoute, Integer> quotaPerRoute = connectionQuotaPerRoute(participants, maximumConcurrentQuestions);
+        for (Map.Entry<HttpRoute, Integer> routeAndQuota : quotaPerRoute.entrySet()) {
+            connectionManager.setMaxPerRoute(routeAndQuota.getKey(), routeAndQuota.getValue());
+        }
+        connectionManager.setMaxTotal(totalQuota(quotaPerRoute));
+        connectionManager.setDefaultMaxPerRoute(Math.max(1, maximumConcurrentQuestions));
+        connectionManager.setDefaultSocketConfig(
+                        SocketConfig.custom().setSoTimeout(requestConfig.getSocketTimeout()).build());
+
+        httpClient = HttpClients.custom().setConnectionManager(connectionManager)
+                        .setDefaultRequestConfig(requestConfig).setKeepAliveStrategy(new ParticipantKeepAliveStrategy())
+                        .evictExpiredConnections()
+                        .evictIdleConnections(Constants.CONNECTION_IDLE_EVICTION_MILLISECONDS, TimeUnit.MILLISECONDS)
+                        .build();
+        executor = Executors.newCachedThreadPool(new DispatcherThreadFactory());
+        requestExecutor = new FutureRequestExecutionService(httpClient, executor);
+
+        logger.info("Blocking participant request dispatcher has been created, with " + quotaPerRoute.size()
+                        + " participant route(s) and at most " + totalQuota(quotaPerRoute) + " pooled connections.");
+    }
+
+
+    @Override
+    protected ParticipantRequestFuture submit(final HttpPost request, final ResponseHandler<Participant> handler,
+                    final FutureCallback<Participant> callback) {
+        BlockingParticipantRequestFuture future = new BlockingParticipantRequestFuture(callback);
+        future.setTask(requestExecutor.execute(request, null, handler, future));
+        return future;
+    }
+
+
+    @Override
+    protected int openConnections(final HttpRoute route, final int numberOfConnections)
+                    throws IOException, InterruptedException {
+        final int quota = Math.min(numberOfConnections, connectionManager.getMaxPerRoute(route));
+        // All the connections are leased before any of them is released, otherwise the pool would hand the same
+        // connection again and again.
+        List<HttpClientConnection> connections = new ArrayList<HttpClientConnection>(quota);
+        HttpClientContext context = HttpClientContext.create();
+        IOException failure = null;
+        int opened = 0;
+        try {
+            for (int index = 0; index < quota; ++index) {
+                HttpClientConnection connection;
+                try {
+                    connection = connectionManager.requestConnection(route, null)
+                                    .get(requestConfig.getConnectionRequestTimeout(), TimeUnit.MILLISECONDS);
+                } catch (ExecutionException | ConnectionPoolTimeoutException e) {
+                    failure = new IOException("Failed to obtain a connection from the pool.", e);
+                    break;
+                }
+                connections.add(connection);
+                if (!connection.isOpen()) {
+                    try {
+                        connectionManager.connect(connection, route, requestConfig.getConnectTimeout(), context);
+                        connectionManager.routeComplete(connection, route, context);
+                        // Binds the connection's input stream. Otherwise, the pool's stale-connection check fails on
+                        // a connection which has not been used yet.
+                        connection.isResponseAvailable(1);
+                    } catch (IOException e) {
+                        failure = e;
+                        break;
+                    }
+                }
+                ++opened;
+            }
+        } finally {
+            for (HttpClientConnection connection : connections) {
+                // A connection which is not open is discarded by the pool.
+                connectionManager.releaseConnection(connection, null,
+                                Constants.CONNECTION_DEFAULT_KEEP_ALIVE_MILLISECONDS, TimeUnit.MILLISECONDS);
+            }
+        }
+        if ((0 == opened) && (failure != null)) {
+            throw failure;
+        }
+        return opened;
+    }
+
+    @Override
+    protected int probe(final HttpRequestBase request) throws IOException {
+        request.setConfig(createProbeRequestConfig());
+        return httpClient.execute(request, new ResponseHandler<Integer>() {
+            @Override
+            public Integer handleResponse(HttpResponse response) {
+                return response.getStatusLine().getStatusCode();
+            }
+        });
+    }
+
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see com.yahoo.yrlhaifa.liveqa.challenge.ChallengeAutoCloseable#close()
+     */
+    @Override
+    public void close() throws ChallengeCloseException {
+        logger.info("Closing participant request dispatcher...");
+        try {
+            // Closes both the executor (shutdownNow) and the HTTP client (which closes the connection pool).
+            requestExecutor.close();
+            deadlineTimer.close();
+            responseParseStage.close();
+        } catch (IOException | RuntimeException e) {
+            throw new ChallengeCloseException("Failed to close participant request dispatcher.", e);
+        }
+        logger.info("Participant request dispatcher has been closed.");
+    }
+
+
+    /**
+     * Adapts {@link HttpRequestFutureTask} to {@link ParticipantRequestFuture}.
+     * <P>
+     * The task's own timing is available only once the task is done, which happens only after the callback has been
+     * called. Thus, the end time is recorded here, just before the given callback is called.
+     */
+    private static class BlockingParticipantRequestFuture
+                    implements ParticipantRequestFuture, FutureCallback<Participant> {
+        public BlockingParticipantRequestFuture(FutureCallback<Participant> callback) {
+            super();
+            this.callback = callback;
+        }
+
+        public void setTask(HttpRequestFutureTask<Participant> task) {
+            this.task = task;
+        }
+
+        // FutureCallback<Participant>, called by the thread that executes the task
+
+        @Override
+        public void completed(Participant result) {
+            endedTime = System.currentTimeMillis();
+            if (callback != null) {
+                callback.completed(result);
+            }
+        }
+
+        @Override
+        public void failed(Exception ex) {
+            endedTime = System.currentTimeMillis();
+            if (callback != null) {
+                callback.failed(ex);
+            }
+        }
+
+        @Override
+        public void cancelled() {
+            if (callback != null) {
+                callback.cancelled();
+            }
+        }
+
+        // ParticipantRequestFuture
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return task.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return task.isDone();
+        }
+
+        @Override
+        public Participant get() throws InterruptedException, ExecutionException {
+            return task.get();
+        }
+
+        @Override
+        public Participant get(long timeout, TimeUnit unit)
+                        throws InterruptedException, ExecutionException, TimeoutException {
+            return task.get(timeout, unit);
+        }
+
+        @Override
+        public long startedTime() {
+            return task.startedTime();
+        }
+
+        @Override
+        public long endedTime() {
+            return endedTime;
+        }
+
+        @Override
+        public long taskDuration() {
+            // Like HttpRequestFutureTask.taskDuration(), the duration includes the time in which the task waited to
+            // be executed.
+            return endedTime - task.scheduledTime();
+        }
+
+        private final FutureCallback<Participant> callback;
+
+        private volatile HttpRequestFutureTask<Participant> task = null;
+        private volatile long endedTime = 0;
+    }
+
+    private static class DispatcherThreadFactory implements ThreadFactory {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "ParticipantRequest-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+        private final AtomicInteger threadNumber = new AtomicInteger(0);
+    }
+
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final ExecutorService executor;
+    private final FutureRequestExecutionService requestExecutor;
+
+    private static final org.apache.log4j.Logger logger =
+                    org.apache.log4j.Logger.getLogger(BlockingParticipantRequestDispatcher.class);
+}
@@ -0,0 +1,88 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.http_operation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * Receives a participant's response by the I/O threads, directly into a buffer taken from a
+ * {@link ResponseBufferPool}. The resulting response's entity is a {@link BoundedResponseBody.Entity}.
+ * <P>
+ * Once the body exceeds the pool's buffer size, a {@link ResponseTooLargeException} is thrown, and the connection is
+ * closed, rather than receiving the rest of the body.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class BoundedAsyncResponseConsumer extends AbstractAsyncResponseConsumer<HttpResponse> {
+    public BoundedAsyncResponseConsumer(ResponseBufferPool pool) {
+        super();
+        this.pool = pool;
+    }
+
+    @Override
+    protected void onResponseReceived(final HttpResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    protected void onEntityEnclosed(final HttpEntity entity, final ContentType contentType) throws IOException {
+        if (entity.getContentLength() > pool.getBufferSize()) {
+            throw new ResponseTooLargeException(pool.getBufferSize());
+        }
+        this.contentType = contentType;
+        this.buffer = ByteBuffer.wrap(pool.acquire());
+    }
+
+    @Override
+    protected void onContentReceived(final ContentDecoder decoder, final IOControl ioctrl) throws IOException {
+        if (buffer.hasRemaining()) {
+            decoder.read(buffer);
+        }
+        if ((!buffer.hasRemaining()) && (!decoder.isCompleted())) {
+            // The buffer is full. Any further byte exceeds the maximum.
+            final ByteBuffer probe = ByteBuffer.allocate(1);
+            if (decoder.read(probe) > 0) {
+                throw new ResponseTooLargeException(pool.getBufferSize());
+            }
+        }
+    }
+
+    @Override
+    protected HttpResponse buildResult(final HttpContext context) {
+        if (buffer != null) {
+            response.setEntity(new BoundedResponseBody.Entity(
+                            new BoundedResponseBody(buffer.array(), buffer.position(), pool), contentType));
+            // The body is now owned by the response.
+            buffer = null;
+        }
+        return response;
+    }
+
+    @Override
+    protected void releaseResources() {
+        if (buffer != null) {
+            pool.release(buffer.array());
+            buffer = null;
+        }
+        response = null;
+    }
+
+
+    private final ResponseBufferPool pool;
+
+    private HttpResponse response = null;
+    private ContentType contentType = null;
+    private ByteBuffer buffer = null;
+}
@@ -0,0 +1,168 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.http_operation;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+/**
+ * The body of a participant's response, held in a buffer taken from a {@link ResponseBufferPool}. The body is at most
+ * as long as the pool's buffers. A longer body is not read, and a {@link ResponseTooLargeException} is thrown instead.
+ * <P>
+ * The bytes are handed to the parser as they are, with no intermediate String or char[] copies. The body must be
+ * released, once parsed, such that its buffer returns to the pool.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class BoundedResponseBody {
+    /**
+     * Returns the body of the given entity. If the entity has been received by a {@link BoundedAsyncResponseConsumer},
+     * its body is returned as is. Otherwise, the entity's content is read until its end, or until the pool's buffer is
+     * full.
+     *
+     * @param entity An HTTP entity.
+     * @param pool The pool from which the buffer is taken.
+     * @return The entity's body.
+     * @throws ResponseTooLargeException If the entity's content is longer than the pool's buffers. The rest of the
+     *         content is not read, and the content stream is not closed, such that the caller can abort the
+     *         connection rather than drain it.
+     * @throws IOException If the entity's content could not be read.
+     */
+    public static BoundedResponseBody read(final HttpEntity entity, final ResponseBufferPool pool)
+                    throws ResponseTooLargeException, IOException {
+        if (entity instanceof Entity) {
+            return ((Entity) entity).getBody();
+        }
+        final byte[] buffer = pool.acquire();
+        if (null == entity) {
+            return new BoundedResponseBody(buffer, 0, pool);
+        }
+        if (entity.getContentLength() > buffer.length) {
+            pool.release(buffer);
+            throw new ResponseTooLargeException(buffer.length);
+        }
+        boolean read = false;
+        try {
+            final InputStream content = entity.getContent();
+            int length = 0;
+            if (content != null) {
+                int count = content.read(buffer, 0, buffer.length);
+                while (count >= 0) {
+                    length += count;
+                    if (length == buffer.length) {
+                        break;
+                    }
+                    count = content.read(buffer, length, buffer.length - length);
+                }
+                if ((length == buffer.length) && (content.read() >= 0)) {
+                    throw new ResponseTooLargeException(buffer.length);
+                }
+                content.close();
+            }
+            read = true;
+            return new BoundedResponseBody(buffer, length, pool);
+        } finally {
+            if (!read) {
+                pool.release(buffer);
+            }
+        }
+    }
+
+
+    public BoundedResponseBody(byte[] buffer, int length, ResponseBufferPool pool) {
+        super();
+        this.buffer = buffer;
+        this.length = length;
+        this.pool = pool;
+    }
+
+    /**
+     * The buffer, whose first {@link #getLength()} bytes are the body.
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public InputStream asInputStream() {
+        return new ByteArrayInputStream(buffer, 0, length);
+    }
+
+    public String toString(final Charset charset) {
+        return new String(buffer, 0, length, charset);
+    }
+
+    /**
+     * Returns the buffer to the pool. The body must not be used afterwards.
+     */
+    public void release() {
+        if (!released) {
+            released = true;
+            pool.release(buffer);
+        }
+    }
+
+
+    /**
+     * An entity which holds a body that has already been received.
+     */
+    public static class Entity extends AbstractHttpEntity {
+        public Entity(BoundedResponseBody body, ContentType contentType) {
+            super();
+            this.body = body;
+            if (contentType != null) {
+                setContentType(contentType.toString());
+            }
+        }
+
+        public BoundedResponseBody getBody() {
+            return body;
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        @Override
+        public long getContentLength() {
+            return body.getLength();
+        }
+
+        @Override
+        public InputStream getContent() {
+            return body.asInputStream();
+        }
+
+        @Override
+        public void writeTo(OutputStream outstream) throws IOException {
+            outstream.write(body.getBuffer(), 0, body.getLength());
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return false;
+        }
+
+        private final BoundedResponseBody body;
+    }
+
+
+    private final byte[] buffer;
+    private final int length;
+    private final ResponseBufferPool pool;
+    private boolean released = false;
+}
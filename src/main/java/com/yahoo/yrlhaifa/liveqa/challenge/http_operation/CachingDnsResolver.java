@@ -0,0 +1,69 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.http_operation;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+
+/**
+ * A {@link DnsResolver} which caches the addresses of the participant servers, such that sending a question does not
+ * wait for a DNS lookup. The hosts are typically resolved in advance, by the warm-up (see
+ * {@link ParticipantConnectionWarmUp}).
+ * <P>
+ * A cached entry is refreshed once it is older than a given time-to-live. If the refresh fails, the previously
+ * resolved addresses are used, since a participant server whose DNS record is temporarily unavailable is usually still
+ * reachable.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class CachingDnsResolver implements DnsResolver {
+    public CachingDnsResolver(long timeToLiveMilliseconds) {
+        super();
+        this.timeToLiveMilliseconds = timeToLiveMilliseconds;
+    }
+
+    @Override
+    public InetAddress[] resolve(final String host) throws UnknownHostException {
+        final CachedAddresses cached = cache.get(host);
+        if ((cached != null) && ((System.currentTimeMillis() - cached.resolvedTime) < timeToLiveMilliseconds)) {
+            return cached.addresses.clone();
+        }
+        try {
+            final InetAddress[] addresses = SystemDefaultDnsResolver.INSTANCE.resolve(host);
+            cache.put(host, new CachedAddresses(addresses, System.currentTimeMillis()));
+            return addresses.clone();
+        } catch (UnknownHostException e) {
+            if (cached != null) {
+                logger.warn("Failed to resolve host \"" + host + "\". Previously resolved addresses are used.", e);
+                return cached.addresses.clone();
+            }
+            throw e;
+        }
+    }
+
+
+    private static class CachedAddresses {
+        public CachedAddresses(InetAddress[] addresses, long resolvedTime) {
+            super();
+            this.addresses = addresses;
+            this.resolvedTime = resolvedTime;
+        }
+
+        private final InetAddress[] addresses;
+        private final long resolvedTime;
+    }
+
+
+    private final long timeToLiveMilliseconds;
+    private final ConcurrentMap<String, CachedAddresses> cache = new ConcurrentHashMap<String, CachedAddresses>();
+
+    private static final org.apache.log4j.Logger logger = org.apache.log4j.Logger.getLogger(CachingDnsResolver.class);
+}
@@ -0,0 +1,162 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.http_operation;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.ChallengeAutoCloseable;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeCloseException;
+
+/**
+ * Runs tasks at given deadlines, by a single thread. Used to enforce the deadlines of all the outstanding participant
+ * requests, of all the questions.
+ * <P>
+ * Implemented as a hashed timer wheel: the time is divided into ticks, and every deadline is put in the bucket of its
+ * tick (modulo the number of buckets). Each tick, the timer thread runs the due tasks of a single bucket. Thus,
+ * scheduling and cancelling take constant time, regardless of the number of outstanding deadlines, while the deadlines
+ * are met with the precision of one tick.
+ * <P>
+ * The tasks run on the timer thread, so they must be short and must not block.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class DeadlineTimer implements ChallengeAutoCloseable {
+    /**
+     * A scheduled task.
+     */
+    public static interface Timeout {
+        /**
+         * Cancels the task. Has no effect if the task has already run.
+         */
+        void cancel();
+    }
+
+    public DeadlineTimer(final String name, final long tickMilliseconds, final int numberOfBuckets) {
+        super();
+        this.tickMilliseconds = tickMilliseconds;
+        List<LinkedList<ScheduledTask>> buckets = new ArrayList<LinkedList<ScheduledTask>>(numberOfBuckets);
+        for (int index = 0; index < numberOfBuckets; ++index) {
+            buckets.add(new LinkedList<ScheduledTask>());
+        }
+        this.buckets = buckets;
+        this.startTime = System.currentTimeMillis();
+        this.thread = new Thread(new Worker(), name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Schedules the given task to run at the given time.
+     *
+     * @param deadline The time (as given by {@link System#currentTimeMillis()}) in which the task should run.
+     * @param task A short, non-blocking, task.
+     * @return A handle, by which the task can be cancelled.
+     */
+    public Timeout schedule(final long deadline, final Runnable task) {
+        ScheduledTask scheduledTask = new ScheduledTask(deadline, task);
+        // The buckets are accessed only by the timer thread. New tasks are handed to it through this queue.
+        newTasks.add(scheduledTask);
+        return scheduledTask;
+    }
+
+    @Override
+    public void close() throws ChallengeCloseException {
+        closed = true;
+        thread.interrupt();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ChallengeCloseException("Interrupted while closing the deadline timer.", e);
+        }
+    }
+
+
+    private class Worker implements Runnable {
+        @Override
+        public void run() {
+            long tick = 0;
+            while (!closed) {
+                final long tickEnd = startTime + ((tick + 1) * tickMilliseconds);
+                long sleep = tickEnd - System.currentTimeMillis();
+                if (sleep > 0) {
+                    try {
+                        Thread.sleep(sleep);
+                    } catch (InterruptedException e) {
+                        // close() has been called.
+                        continue;
+                    }
+                }
+                transferNewTasks(tick);
+                expireTasks(tickEnd, buckets.get((int) (tick % buckets.size())));
+                ++tick;
+            }
+        }
+
+        private void transferNewTasks(final long currentTick) {
+            ScheduledTask task = newTasks.poll();
+            while (task != null) {
+                if (!task.cancelled) {
+                    // A deadline which has already passed is due in the current tick.
+                    final long taskTick = Math.max(currentTick, (task.deadline - startTime) / tickMilliseconds);
+                    buckets.get((int) (taskTick % buckets.size())).add(task);
+                }
+                task = newTasks.poll();
+            }
+        }
+
+        private void expireTasks(final long now, final LinkedList<ScheduledTask> bucket) {
+            Iterator<ScheduledTask> iterator = bucket.iterator();
+            while (iterator.hasNext()) {
+                ScheduledTask task = iterator.next();
+                if (task.cancelled) {
+                    iterator.remove();
+                } else if (task.deadline < now) {
+                    iterator.remove();
+                    try {
+                        task.task.run();
+                    } catch (RuntimeException e) {
+                        logger.error("A deadline task failed. Program continues.", e);
+                    }
+                }
+                // Otherwise, the deadline is in one of the next rounds of the wheel.
+            }
+        }
+    }
+
+    private static class ScheduledTask implements Timeout {
+        public ScheduledTask(long deadline, Runnable task) {
+            super();
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private final long deadline;
+        private final Runnable task;
+        private volatile boolean cancelled = false;
+    }
+
+
+    private final long tickMilliseconds;
+    private final long startTime;
+    private final Thread thread;
+    // Accessed only by the timer thread.
+    private final List<LinkedList<ScheduledTask>> buckets;
+    private final Queue<ScheduledTask> newTasks = new ConcurrentLinkedQueue<ScheduledTask>();
+    private volatile boolean closed = false;
+
+    private static final org.apache.log4j.Logger logger = org.apache.log4j.Logger.getLogger(DeadlineTimer.class);
+}
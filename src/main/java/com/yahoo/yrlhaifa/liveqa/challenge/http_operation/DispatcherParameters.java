@@ -0,0 +1,87 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.http_operation;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.http_operation.ParticipantRequestDispatcher.DispatchEngine;
+
+/**
+ * Parameters (typically set in configuration file) for {@link ParticipantRequestDispatcher}.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class DispatcherParameters {
+    public DispatcherParameters(DispatchEngine dispatchEngine, int ioThreadCount, int participantFailureThreshold,
+                    long participantProbeIntervalMilliseconds, int warmUpConnectionsPerParticipant,
+                    boolean warmUpProbe, int responseParseThreadCount) {
+        super();
+        this.dispatchEngine = dispatchEngine;
+        this.ioThreadCount = ioThreadCount;
+        this.participantFailureThreshold = participantFailureThreshold;
+        this.participantProbeIntervalMilliseconds = participantProbeIntervalMilliseconds;
+        this.warmUpConnectionsPerParticipant = warmUpConnectionsPerParticipant;
+        this.warmUpProbe = warmUpProbe;
+        this.responseParseThreadCount = responseParseThreadCount;
+    }
+
+
+    public DispatchEngine getDispatchEngine() {
+        return dispatchEngine;
+    }
+
+    /**
+     * Number of I/O threads. Relevant only for {@link DispatchEngine#NON_BLOCKING}.
+     */
+    public int getIoThreadCount() {
+        return ioThreadCount;
+    }
+
+    /**
+     * Number of consecutive connection failures or time-outs after which a participant is considered unavailable, and
+     * questions are not sent to it. Zero means that questions are always sent. See {@link ParticipantHealthTracker}.
+     */
+    public int getParticipantFailureThreshold() {
+        return participantFailureThreshold;
+    }
+
+    /**
+     * Time between two probes of an unavailable participant.
+     */
+    public long getParticipantProbeIntervalMilliseconds() {
+        return participantProbeIntervalMilliseconds;
+    }
+
+    /**
+     * Number of connections opened to the server of each participant before the first question is sent. Zero means
+     * that only the participant servers' hosts are resolved in advance. See {@link ParticipantConnectionWarmUp}.
+     */
+    public int getWarmUpConnectionsPerParticipant() {
+        return warmUpConnectionsPerParticipant;
+    }
+
+    /**
+     * Whether a lightweight request is sent to each participant before the first question.
+     */
+    public boolean isWarmUpProbe() {
+        return warmUpProbe;
+    }
+
+    /**
+     * Number of threads which parse the participants' responses. See {@link ResponseParseStage}.
+     */
+    public int getResponseParseThreadCount() {
+        return responseParseThreadCount;
+    }
+
+
+
+    private final DispatchEngine dispatchEngine;
+    private final int ioThreadCount;
+    private final int participantFailureThreshold;
+    private final long participantProbeIntervalMilliseconds;
+    private final int warmUpConnectionsPerParticipant;
+    private final boolean warmUpProbe;
+    private final int responseParseThreadCount;
+}
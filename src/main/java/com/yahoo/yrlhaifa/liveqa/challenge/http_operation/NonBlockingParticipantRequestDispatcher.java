@@ -0,0 +1,296 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.http_operation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.NHttpClientConnection;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
+import com.yahoo.yrlhaifa.liveqa.challenge.Participant;
+import com.yahoo.yrlhaifa.liveqa.challenge.configuration.RequestGeneralParameters;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeCloseException;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeSystemException;
+
+
+/**
+ * A {@link ParticipantRequestDispatcher} which sends the requests and receives the responses over non-blocking sockets.
+ * A small, fixed, number of I/O threads (running an I/O reactor) serve all the in-flight requests, of all the
+ * questions. Thus, the number of threads does not grow with the number of participants, nor with the number of
+ * overlapping questions.
+ * <P>
+ * The response is handled (by the given {@link ResponseHandler}) once its body has been fully received, by a
+ * {@link BoundedAsyncResponseConsumer}.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class NonBlockingParticipantRequestDispatcher extends ParticipantRequestDispatcher {
+    public NonBlockingParticipantRequestDispatcher(List<Participant> participants, DispatcherParameters parameters,
+                    RequestGeneralParameters requestGeneralParameters, int maximumConcurrentQuestions)
+                    throws ChallengeSystemException {
+        super(parameters, requestGeneralParameters);
+        final int ioThreadCount = parameters.getIoThreadCount();
+        try {
+            IOReactorConfig ioReactorConfig = IOReactorConfig.custom().setIoThreadCount(ioThreadCount)
+                            .setConnectTimeout(requestConfig.getConnectTimeout())
+                            .setSoTimeout(requestConfig.getSocketTimeout()).build();
+            connectionManager = new PoolingNHttpClientConnectionManager(
+                            new DefaultConnectingIOReactor(ioReactorConfig), null,
+                            RegistryBuilder.<SchemeIOSessionStrategy> create()
+                                            .register("http", NoopIOSessionStrategy.INSTANCE)
+                                            .register("https", SSLIOSessionStrategy.getDefaultStrategy()).build(),
+                            DefaultSchemePortResolver.INSTANCE, dnsResolver,
+                            Constants.CONNECTION_TIME_TO_LIVE_MILLISECONDS, TimeUnit.MILLISECONDS);
+        } catch (IOReactorException e) {
+            throw new ChallengeSystemException(
+                            "Failed to create the I/O reactor of the participant request dispatcher.", e);
+        }
+        Map<HttpRoute, Integer> quotaPerRoute = connectionQuotaPerRoute(participants, maximumConcurrentQuestions);
+        for (Map.Entry<HttpRoute, Integer> routeAndQuota : quotaPerRoute.entrySet()) {
+            connectionManager.setMaxPerRoute(routeAndQuota.getKey(), routeAndQuota.getValue());
+        }
+        connectionManager.setMaxTotal(totalQuota(quotaPerRoute));
+        connectionManager.setDefaultMaxPerRoute(Math.max(1, maximumConcurrentQuestions));
+
+        httpClient = HttpAsyncClients.custom().setConnectionManager(connectionManager)
+                        .setDefaultRequestConfig(requestConfig).setKeepAliveStrategy(new ParticipantKeepAliveStrategy())
+                        .build();
+        httpClient.start();
+
+        logger.info("Non-blocking participant request dispatcher has been created, with " + ioThreadCount
+                        + " I/O thread(s), " + quotaPerRoute.size() + " participant route(s) and at most "
+                        + totalQuota(quotaPerRoute) + " pooled connections.");
+    }
+
+
+    @Override
+    protected ParticipantRequestFuture submit(final HttpPost request, final ResponseHandler<Participant> handler,
+                    final FutureCallback<Participant> callback) {
+        NonBlockingParticipantRequestFuture future = new NonBlockingParticipantRequestFuture(handler, callback);
+        future.setExchange(httpClient.execute(HttpAsyncMethods.create(request),
+                        new BoundedAsyncResponseConsumer(responseBufferPool), future));
+        return future;
+    }
+
+
+    @Override
+    protected int openConnections(final HttpRoute route, final int numberOfConnections)
+                    throws IOException, InterruptedException {
+        final int quota = Math.min(numberOfConnections, connectionManager.getMaxPerRoute(route));
+        // All the connections are requested at once, and are connected concurrently by the I/O reactor. They are
+        // released only after all of them have been leased, otherwise the pool would hand the same connection again.
+        List<Future<NHttpClientConnection>> futures = new ArrayList<Future<NHttpClientConnection>>(quota);
+        for (int index = 0; index < quota; ++index) {
+            futures.add(connectionManager.requestConnection(route, null, requestConfig.getConnectTimeout(),
+                            requestConfig.getConnectionRequestTimeout(), TimeUnit.MILLISECONDS, null));
+        }
+        List<NHttpClientConnection> connections = new ArrayList<NHttpClientConnection>(quota);
+        HttpClientContext context = HttpClientContext.create();
+        IOException failure = null;
+        int opened = 0;
+        try {
+            for (Future<NHttpClientConnection> future : futures) {
+                try {
+                    // Completes by the connect and lease timeouts given above.
+                    NHttpClientConnection connection = future.get();
+                    connections.add(connection);
+                    if (!connectionManager.isRouteComplete(connection)) {
+                        connectionManager.startRoute(connection, route, context);
+                        connectionManager.routeComplete(connection, route, context);
+                    }
+                    ++opened;
+                } catch (ExecutionException e) {
+                    failure = new IOException("Failed to open a connection.", e.getCause());
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+        } finally {
+            for (Future<NHttpClientConnection> future : futures) {
+                future.cancel(true);
+            }
+            for (NHttpClientConnection connection : connections) {
+                connectionManager.releaseConnection(connection, null,
+                                Constants.CONNECTION_DEFAULT_KEEP_ALIVE_MILLISECONDS, TimeUnit.MILLISECONDS);
+            }
+        }
+        if ((0 == opened) && (failure != null)) {
+            throw failure;
+        }
+        return opened;
+    }
+
+    @Override
+    protected int probe(final HttpRequestBase request) throws IOException, InterruptedException {
+        request.setConfig(createProbeRequestConfig());
+        try {
+            return httpClient.execute(request, null).get().getStatusLine().getStatusCode();
+        } catch (ExecutionException e) {
+            throw new IOException("Probe failed.", e.getCause());
+        }
+    }
+
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see com.yahoo.yrlhaifa.liveqa.challenge.ChallengeAutoCloseable#close()
+     */
+    @Override
+    public void close() throws ChallengeCloseException {
+        logger.info("Closing participant request dispatcher...");
+        try {
+            // Shuts down the I/O reactor, and closes the connection pool.
+            httpClient.close();
+        } catch (IOException | RuntimeException e) {
+            throw new ChallengeCloseException("Failed to close participant request dispatcher.", e);
+        } finally {
+            try {
+                deadlineTimer.close();
+            } finally {
+                responseParseStage.close();
+            }
+        }
+        logger.info("Participant request dispatcher has been closed.");
+    }
+
+
+    /**
+     * Completes when the participant's response has been handled. The handling is performed by the I/O thread that has
+     * received the response's last byte.
+     */
+    private static class NonBlockingParticipantRequestFuture
+                    implements ParticipantRequestFuture, FutureCallback<HttpResponse> {
+        public NonBlockingParticipantRequestFuture(ResponseHandler<Participant> handler,
+                        FutureCallback<Participant> callback) {
+            super();
+            this.handler = handler;
+            this.result = new BasicFuture<Participant>(callback);
+        }
+
+        public void setExchange(Future<HttpResponse> exchange) {
+            this.exchange = exchange;
+            if (result.isCancelled()) {
+                // cancelled before the exchange has been set.
+                exchange.cancel(true);
+            }
+        }
+
+        // FutureCallback<HttpResponse>, called by the I/O threads
+
+        @Override
+        public void completed(HttpResponse response) {
+            try {
+                Participant participant = handler.handleResponse(response);
+                endedTime = System.currentTimeMillis();
+                result.completed(participant);
+            } catch (IOException | RuntimeException e) {
+                endedTime = System.currentTimeMillis();
+                result.failed(e);
+            }
+        }
+
+        @Override
+        public void failed(Exception ex) {
+            endedTime = System.currentTimeMillis();
+            result.failed(ex);
+        }
+
+        @Override
+        public void cancelled() {
+            result.cancel();
+        }
+
+        // ParticipantRequestFuture
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            final boolean cancelled = result.cancel();
+            final Future<HttpResponse> currentExchange = exchange;
+            if (currentExchange != null) {
+                currentExchange.cancel(true);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return result.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return result.isDone();
+        }
+
+        @Override
+        public Participant get() throws InterruptedException, ExecutionException {
+            return result.get();
+        }
+
+        @Override
+        public Participant get(long timeout, TimeUnit unit)
+                        throws InterruptedException, ExecutionException, TimeoutException {
+            return result.get(timeout, unit);
+        }
+
+        @Override
+        public long startedTime() {
+            return startedTime;
+        }
+
+        @Override
+        public long endedTime() {
+            return endedTime;
+        }
+
+        @Override
+        public long taskDuration() {
+            return endedTime - startedTime;
+        }
+
+        private final ResponseHandler<Participant> handler;
+        private final BasicFuture<Participant> result;
+        private final long startedTime = System.currentTimeMillis();
+
+        private volatile Future<HttpResponse> exchange = null;
+        private volatile long endedTime = 0;
+    }
+
+
+    private final PoolingNHttpClientConnectionManager connectionManager;
+    private final CloseableHttpAsyncClient httpClient;
+
+    private static final org.apache.log4j.Logger logger =
+                    org.apache.log4j.Logger.getLogger(NonBlockingParticipantRequestDispatcher.class);
+}
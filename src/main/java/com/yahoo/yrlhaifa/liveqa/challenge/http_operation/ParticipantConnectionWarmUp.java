@@ -0,0 +1,195 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.http_operation;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.conn.routing.HttpRoute;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
+import com.yahoo.yrlhaifa.liveqa.challenge.Participant;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeSystemException;
+
+/**
+ * Prepares the connections to the participant servers before the first question is sent, such that the first questions
+ * do not pay for DNS lookups, TCP connects and TLS handshakes. For each participant server (route):
+ * <OL>
+ * <LI>The host is resolved, and its addresses are cached by the dispatcher's {@link CachingDnsResolver}.</LI>
+ * <LI>A given number of connections (per participant) are opened, and are put in the dispatcher's connection pool,
+ * where they are kept alive for the first questions.</LI>
+ * <LI>Optionally, a lightweight probe (an HTTP HEAD request) is sent to each participant. Any response, of any HTTP
+ * status, indicates that the participant server is reachable.</LI>
+ * </OL>
+ * The latency of each stage is reported in the log. The participant servers are warmed up in parallel. A failure to
+ * warm up a participant server is reported, but does not prevent the challenge from starting.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class ParticipantConnectionWarmUp {
+    public ParticipantConnectionWarmUp(ParticipantRequestDispatcher dispatcher, List<Participant> participants,
+                    int connectionsPerParticipant, boolean probe) {
+        super();
+        this.dispatcher = dispatcher;
+        this.participants = participants;
+        this.connectionsPerParticipant = connectionsPerParticipant;
+        this.probe = probe;
+    }
+
+    /**
+     * Warms up all the participant servers. Blocks until done.
+     *
+     * @throws InterruptedException If interrupted while waiting for the warm-up to end.
+     */
+    public void run() throws InterruptedException {
+        final long startTime = System.currentTimeMillis();
+        Map<HttpRoute, List<Participant>> participantsOfRoute = participantsOfRoute();
+        if (participantsOfRoute.isEmpty()) {
+            return;
+        }
+        logger.info("Warming up " + participantsOfRoute.size() + " participant server(s)...");
+
+        List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>(participantsOfRoute.size());
+        for (final Map.Entry<HttpRoute, List<Participant>> routeAndParticipants : participantsOfRoute.entrySet()) {
+            tasks.add(new Callable<Integer>() {
+                @Override
+                public Integer call() throws Exception {
+                    return warmUp(routeAndParticipants.getKey(), routeAndParticipants.getValue());
+                }
+            });
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(
+                        Math.min(tasks.size(), Constants.WARM_UP_MAXIMUM_NUMBER_OF_THREADS));
+        int numberOfConnections = 0;
+        int numberOfFailedServers = 0;
+        try {
+            for (Future<Integer> future : executor.invokeAll(tasks)) {
+                try {
+                    final int opened = future.get();
+                    if (opened < 0) {
+                        ++numberOfFailedServers;
+                    } else {
+                        numberOfConnections += opened;
+                    }
+                } catch (ExecutionException e) {
+                    ++numberOfFailedServers;
+                    logger.error("Warm-up of a participant server failed. Program continues.", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        logger.info("Warm-up ended in " + (System.currentTimeMillis() - startTime) + " milliseconds. "
+                        + numberOfConnections + " connection(s) are open. " + numberOfFailedServers
+                        + " participant server(s) failed to warm up.");
+    }
+
+
+    /**
+     * Warms up the given participant server.
+     *
+     * @return The number of connections opened, or -1 if the server could not be warmed up.
+     */
+    private int warmUp(final HttpRoute route, final List<Participant> participantsOnRoute)
+                    throws InterruptedException {
+        final String host = route.getTargetHost().getHostName();
+        final String participantIds = participantIdsOf(participantsOnRoute);
+
+        long time = System.currentTimeMillis();
+        try {
+            final InetAddress[] addresses = dispatcher.dnsResolver.resolve(host);
+            logger.info("Warm-up " + participantIds + ": host \"" + host + "\" has been resolved in "
+                            + (System.currentTimeMillis() - time) + " milliseconds. Addresses: "
+                            + Arrays.toString(addresses));
+        } catch (IOException e) {
+            logger.warn("Warm-up " + participantIds + ": failed to resolve host \"" + host + "\" ("
+                            + (System.currentTimeMillis() - time) + " milliseconds). Program continues.", e);
+            return -1;
+        }
+
+        int opened = 0;
+        final int numberOfConnections = connectionsPerParticipant * participantsOnRoute.size();
+        if (numberOfConnections > 0) {
+            time = System.currentTimeMillis();
+            try {
+                opened = dispatcher.openConnections(route, numberOfConnections);
+                final long elapsed = System.currentTimeMillis() - time;
+                logger.info("Warm-up " + participantIds + ": " + opened + " connection(s) to " + route.getTargetHost()
+                                + " have been opened in " + elapsed + " milliseconds ("
+                                + ((opened > 0) ? (elapsed / opened) : elapsed) + " milliseconds per connection).");
+            } catch (IOException e) {
+                logger.warn("Warm-up " + participantIds + ": failed to connect to " + route.getTargetHost() + " ("
+                                + (System.currentTimeMillis() - time) + " milliseconds). Program continues.", e);
+                return -1;
+            }
+        }
+
+        if (probe) {
+            for (Participant participant : participantsOnRoute) {
+                time = System.currentTimeMillis();
+                try {
+                    final int status = dispatcher.probe(new HttpHead(participant.getParticipantServerUrl()));
+                    logger.info("Warm-up " + participantIds + ": probe of participant \""
+                                    + participant.getUniqueSystemId() + "\" has been answered with HTTP status "
+                                    + status + " in " + (System.currentTimeMillis() - time) + " milliseconds.");
+                } catch (IOException | RuntimeException e) {
+                    logger.warn("Warm-up " + participantIds + ": probe of participant \""
+                                    + participant.getUniqueSystemId() + "\" failed ("
+                                    + (System.currentTimeMillis() - time) + " milliseconds). Program continues.", e);
+                }
+            }
+        }
+        return opened;
+    }
+
+    private Map<HttpRoute, List<Participant>> participantsOfRoute() {
+        Map<HttpRoute, List<Participant>> ret = new LinkedHashMap<HttpRoute, List<Participant>>();
+        for (Participant participant : participants) {
+            try {
+                HttpRoute route = ParticipantRequestDispatcher.routeOf(participant);
+                List<Participant> participantsOnRoute = ret.get(route);
+                if (null == participantsOnRoute) {
+                    participantsOnRoute = new LinkedList<Participant>();
+                    ret.put(route, participantsOnRoute);
+                }
+                participantsOnRoute.add(participant);
+            } catch (ChallengeSystemException e) {
+                logger.warn("Participant " + participant.getUniqueSystemId() + " is not warmed up. Program continues.",
+                                e);
+            }
+        }
+        return ret;
+    }
+
+    private static String participantIdsOf(final List<Participant> participantsOnRoute) {
+        StringBuilder sb = new StringBuilder();
+        for (Participant participant : participantsOnRoute) {
+            sb.append((sb.length() == 0) ? "[" : ", ").append(participant.getUniqueSystemId());
+        }
+        return sb.append("]").toString();
+    }
+
+
+    private final ParticipantRequestDispatcher dispatcher;
+    private final List<Participant> participants;
+    private final int connectionsPerParticipant;
+    private final boolean probe;
+
+    private static final org.apache.log4j.Logger logger =
+                    org.apache.log4j.Logger.getLogger(ParticipantConnectionWarmUp.class);
+}
@@ -0,0 +1,202 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.http_operation;
+
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.http.conn.ConnectTimeoutException;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.Participant;
+
+/**
+ * Tracks whether the server of each participant is available, and short-circuits requests to servers which are known
+ * to be unavailable (a "circuit breaker").
+ * <P>
+ * A participant starts as {@link State#CLOSED}, and requests are sent to it. After a given number of consecutive
+ * failures to connect or to respond in time, it becomes {@link State#OPEN}, and no requests are sent to it. Once in a
+ * given interval, a single request is sent to it as a probe ({@link State#HALF_OPEN}). If the probe succeeds, the
+ * participant becomes {@link State#CLOSED} again. Otherwise, it remains {@link State#OPEN} for another interval.
+ * <P>
+ * A response, of any HTTP status, indicates that the server is available.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class ParticipantHealthTracker {
+    public static enum State {
+        /**
+         * Requests are sent to the participant.
+         */
+        CLOSED,
+        /**
+         * Requests are not sent to the participant, which is considered unavailable.
+         */
+        OPEN,
+        /**
+         * A single request is being sent to the participant, to check whether it is available again.
+         */
+        HALF_OPEN;
+    }
+
+    /**
+     * @param failureThreshold Number of consecutive failures after which a participant is considered unavailable. Zero
+     *        means that requests are never short-circuited.
+     * @param probeIntervalMilliseconds Time between two probes of an unavailable participant.
+     */
+    public ParticipantHealthTracker(int failureThreshold, long probeIntervalMilliseconds) {
+        super();
+        this.failureThreshold = failureThreshold;
+        this.probeIntervalMilliseconds = probeIntervalMilliseconds;
+    }
+
+    /**
+     * Returns true if a request should be sent to the given participant. If the participant is unavailable, but it is
+     * time to probe it, true is returned, and the caller is expected to send the probe request.
+     */
+    public boolean allowRequest(final Participant participant) {
+        if (failureThreshold <= 0) {
+            return true;
+        }
+        return healthOf(participant).allowRequest(participant);
+    }
+
+    /**
+     * Records the outcome of a request to the given participant.
+     *
+     * @param participant A participant
+     * @param failure The exception by which the request has failed, or null if a response has been received.
+     */
+    public void recordOutcome(final Participant participant, final Exception failure) {
+        if (failureThreshold <= 0) {
+            return;
+        }
+        if ((failure != null) && isUnavailability(failure)) {
+            healthOf(participant).recordFailure(participant, failure);
+        } else {
+            healthOf(participant).recordSuccess(participant);
+        }
+    }
+
+    /**
+     * Records that a request to the given participant has been cancelled before its outcome was known.
+     */
+    public void recordCancellation(final Participant participant) {
+        if (failureThreshold <= 0) {
+            return;
+        }
+        healthOf(participant).recordCancellation();
+    }
+
+    public State getState(final Participant participant) {
+        return healthOf(participant).getState();
+    }
+
+
+    /**
+     * Returns true if the given exception indicates that the server could not be reached, or did not respond in time.
+     * Other failures (e.g., a malformed response) indicate that the server is available.
+     */
+    private static boolean isUnavailability(final Throwable failure) {
+        Throwable current = failure;
+        while (current != null) {
+            if ((current instanceof TimeoutException) || (current instanceof ConnectException)
+                            || (current instanceof ConnectTimeoutException)
+                            || (current instanceof NoRouteToHostException)
+                            || (current instanceof UnknownHostException)
+                            || (current instanceof InterruptedIOException)) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    private Health healthOf(final Participant participant) {
+        Health health = healthOfParticipant.get(participant);
+        if (null == health) {
+            Health newHealth = new Health();
+            health = healthOfParticipant.putIfAbsent(participant, newHealth);
+            if (null == health) {
+                health = newHealth;
+            }
+        }
+        return health;
+    }
+
+
+    private class Health {
+        public synchronized boolean allowRequest(final Participant participant) {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.currentTimeMillis() >= openUntil) {
+                        state = State.HALF_OPEN;
+                        logger.info("Probing participant \"" + participant.getUniqueSystemId() + "\"...");
+                        return true;
+                    }
+                    return false;
+                case HALF_OPEN:
+                default:
+                    // A probe is already in flight.
+                    return false;
+            }
+        }
+
+        public synchronized void recordSuccess(final Participant participant) {
+            if (state != State.CLOSED) {
+                logger.info("Participant \"" + participant.getUniqueSystemId()
+                                + "\" is available again. Questions are sent to it.");
+            }
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+        }
+
+        public synchronized void recordFailure(final Participant participant, final Exception failure) {
+            ++consecutiveFailures;
+            if ((state == State.HALF_OPEN)
+                            || ((state == State.CLOSED) && (consecutiveFailures >= failureThreshold))) {
+                if (state == State.CLOSED) {
+                    logger.warn("Participant \"" + participant.getUniqueSystemId() + "\" has failed "
+                                    + consecutiveFailures + " consecutive times (last failure: " + failure
+                                    + "). Questions are not sent to it, except for a probe every "
+                                    + probeIntervalMilliseconds + " milliseconds.");
+                }
+                state = State.OPEN;
+                openUntil = System.currentTimeMillis() + probeIntervalMilliseconds;
+            }
+        }
+
+        public synchronized void recordCancellation() {
+            if (state == State.HALF_OPEN) {
+                // The probe did not tell anything. Probe again with the next request.
+                state = State.OPEN;
+                openUntil = 0;
+            }
+        }
+
+        public synchronized State getState() {
+            return state;
+        }
+
+        private State state = State.CLOSED;
+        private int consecutiveFailures = 0;
+        private long openUntil = 0;
+    }
+
+
+    private final int failureThreshold;
+    private final long probeIntervalMilliseconds;
+    private final ConcurrentMap<Participant, Health> healthOfParticipant = new ConcurrentHashMap<Participant, Health>();
+
+    private static final org.apache.log4j.Logger logger =
+                    org.apache.log4j.Logger.getLogger(ParticipantHealthTracker.class);
+}
@@ -0,0 +1,493 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.http_operation;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.protocol.HttpContext;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.ChallengeAutoCloseable;
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
+import com.yahoo.yrlhaifa.liveqa.challenge.Participant;
+import com.yahoo.yrlhaifa.liveqa.challenge.configuration.RequestGeneralParameters;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeSystemException;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ParticipantUnavailableException;
+
+
+/**
+ * Sends HTTP requests to the participants' servers. A single dispatcher lives for the whole challenge, and is shared by
+ * all the questions (including questions whose operation overlap).
+ * <P>
+ * A dispatcher holds a pool of persistent (keep-alive) connections, with a separate quota for the route of each
+ * participant server. Thus, sending a question to the participants does not require a new TCP/TLS handshake once the
+ * first questions have been sent. How the requests are executed (i.e., by which threads) is determined by the concrete
+ * implementation. See {@link DispatchEngine}.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public abstract class ParticipantRequestDispatcher implements ChallengeAutoCloseable {
+    /**
+     * The available implementations of {@link ParticipantRequestDispatcher}.
+     */
+    public static enum DispatchEngine {
+        /**
+         * Each in-flight request occupies a thread, which blocks on the socket until the response arrives.
+         */
+        BLOCKING,
+        /**
+         * Requests are sent and received over non-blocking sockets, by a small number of I/O threads.
+         */
+        NON_BLOCKING;
+    }
+
+    /**
+     * Creates the dispatcher which is specified by the given parameters.
+     *
+     * @param participants List of participants
+     * @param parameters Dispatcher parameters, typically given in the configuration file.
+     * @param requestGeneralParameters Time constraints of the participants' responses, from which the connection and
+     *        socket timeouts are derived.
+     * @param maximumConcurrentQuestions Maximum number of questions sent concurrently to the participants. Determines
+     *        how many connections to each participant server may be open at the same time.
+     * @return a new dispatcher.
+     * @throws ChallengeSystemException If the dispatcher could not be created.
+     */
+    public static ParticipantRequestDispatcher create(List<Participant> participants, DispatcherParameters parameters,
+                    RequestGeneralParameters requestGeneralParameters, int maximumConcurrentQuestions)
+                                    throws ChallengeSystemException {
+        switch (parameters.getDispatchEngine()) {
+            case BLOCKING:
+                return new BlockingParticipantRequestDispatcher(participants, parameters, requestGeneralParameters,
+                                maximumConcurrentQuestions);
+            case NON_BLOCKING:
+                return new NonBlockingParticipantRequestDispatcher(participants, parameters, requestGeneralParameters,
+                                maximumConcurrentQuestions);
+            default:
+                throw new ChallengeSystemException("Unsupported dispatch engine: " + parameters.getDispatchEngine());
+        }
+    }
+
+
+    protected ParticipantRequestDispatcher(DispatcherParameters parameters,
+                    RequestGeneralParameters requestGeneralParameters) {
+        super();
+        this.requestConfig = createRequestConfig(requestGeneralParameters);
+        this.responseBufferPool = new ResponseBufferPool(requestGeneralParameters.getMaximumResponseBytes(),
+                        Constants.RESPONSE_BUFFER_POOL_MAXIMUM_RETAINED_BUFFERS);
+        this.healthTracker = new ParticipantHealthTracker(parameters.getParticipantFailureThreshold(),
+                        parameters.getParticipantProbeIntervalMilliseconds());
+        this.deadlineTimer = new DeadlineTimer("ParticipantRequestDeadlineTimer",
+                        Constants.DEADLINE_TIMER_TICK_MILLISECONDS, Constants.DEADLINE_TIMER_NUMBER_OF_BUCKETS);
+        this.dnsResolver = new CachingDnsResolver(Constants.DNS_CACHE_TIME_TO_LIVE_MILLISECONDS);
+        this.responseParseStage = new ResponseParseStage("ResponseParser", parameters.getResponseParseThreadCount(),
+                        Constants.RESPONSE_PARSE_QUEUE_CAPACITY);
+        this.warmUpConnectionsPerParticipant = parameters.getWarmUpConnectionsPerParticipant();
+        this.warmUpProbe = parameters.isWarmUpProbe();
+    }
+
+
+    /**
+     * The pool of buffers into which the participants' response bodies are read. See {@link BoundedResponseBody}.
+     */
+    public ResponseBufferPool getResponseBufferPool() {
+        return responseBufferPool;
+    }
+
+    /**
+     * The stage by which the participants' response bodies are parsed, once their request-response has completed.
+     */
+    public ResponseParseStage getResponseParseStage() {
+        return responseParseStage;
+    }
+
+
+    /**
+     * Resolves the participant servers' hosts, and opens connections to them in advance, such that the first questions
+     * see the same latency as the following ones. Should be called once, before the first question is sent. See
+     * {@link ParticipantConnectionWarmUp}.
+     *
+     * @param participants List of participants
+     * @throws InterruptedException If interrupted while waiting for the warm-up to end.
+     */
+    public void warmUp(final List<Participant> participants) throws InterruptedException {
+        new ParticipantConnectionWarmUp(this, participants, warmUpConnectionsPerParticipant, warmUpProbe).run();
+    }
+
+
+    /**
+     * Sends the given request, asynchronously. The returned future completes when the response has been handled by the
+     * given handler.
+     * <P>
+     * If the request-response has not completed by the given deadline, the request is aborted, and the given callback
+     * is notified by {@link FutureCallback#failed(Exception)} with a {@link TimeoutException}. The deadlines of all the
+     * requests (of all the questions) are enforced by a single {@link DeadlineTimer}.
+     * <P>
+     * If the participant's server is known to be unavailable (see {@link ParticipantHealthTracker}), the request is not
+     * sent at all, and the given callback is immediately notified by {@link FutureCallback#failed(Exception)} with a
+     * {@link ParticipantUnavailableException}.
+     *
+     * @param participant The participant to which the request is sent.
+     * @param request An HTTP-Post request, holding the question.
+     * @param handler Handles the participant's response.
+     * @param callback Notified, exactly once, when the request-response completes (either successfully or not), or
+     *        when the deadline is reached. When notified on completion, the timing information of the returned future
+     *        has already been set.
+     * @param deadline The time (as given by {@link System#currentTimeMillis()}) by which the request-response must
+     *        complete.
+     * @return A future which provides the result of the given handler, as well as timing information.
+     */
+    public ParticipantRequestFuture execute(final Participant participant, final HttpPost request,
+                    final ResponseHandler<Participant> handler, final FutureCallback<Participant> callback,
+                    final long deadline) {
+        if (!healthTracker.allowRequest(participant)) {
+            UnavailableParticipantRequestFuture future = new UnavailableParticipantRequestFuture();
+            if (callback != null) {
+                callback.failed(new ParticipantUnavailableException(
+                                "Participant " + participant.getUniqueSystemId() + " is unavailable."));
+            }
+            return future;
+        }
+        DeadlineCallback deadlineCallback = new DeadlineCallback(participant, request, callback, deadline);
+        ParticipantRequestFuture future = submit(request, handler, deadlineCallback);
+        deadlineCallback.setFuture(future, deadlineTimer.schedule(deadline, deadlineCallback));
+        return future;
+    }
+
+    /**
+     * Sends the given request, asynchronously.
+     *
+     * @param request An HTTP-Post request, holding the question.
+     * @param handler Handles the participant's response.
+     * @param callback Notified when the request-response completes (either successfully or not), right after the
+     *        timing information of the returned future has been set.
+     * @return A future which provides the result of the given handler, as well as timing information.
+     */
+    protected abstract ParticipantRequestFuture submit(final HttpPost request,
+                    final ResponseHandler<Participant> handler, final FutureCallback<Participant> callback);
+
+    /**
+     * Opens (at most) the given number of connections to the given route, and returns them to the connection pool,
+     * where they are kept alive for the next requests. Blocks until the connections have been opened.
+     *
+     * @param route A participant server route.
+     * @param numberOfConnections Number of connections to open. Limited by the route's connection quota.
+     * @return The number of open connections.
+     * @throws IOException If no connection could be opened.
+     * @throws InterruptedException If interrupted while waiting for the connections.
+     */
+    protected abstract int openConnections(final HttpRoute route, final int numberOfConnections)
+                    throws IOException, InterruptedException;
+
+    /**
+     * Sends the given request, which is not a question, and waits for the response.
+     *
+     * @param request A lightweight request.
+     * @return The HTTP status of the response.
+     * @throws IOException If no response has been received.
+     * @throws InterruptedException If interrupted while waiting for the response.
+     */
+    protected abstract int probe(final HttpRequestBase request) throws IOException, InterruptedException;
+
+
+    /**
+     * Creates the timeouts of every request, such that no stage of a request can outlive the time given to the
+     * participant:
+     * <UL>
+     * <LI>Connecting to a participant server, and obtaining a connection from the pool, should not take more than the
+     * extra time given for the request-response.</LI>
+     * <LI>A participant server may be silent for the whole answer time, plus the extra time, but not longer.</LI>
+     * </UL>
+     * A server which keeps sending bytes slowly is not stopped by these timeouts, but by the request's deadline (see
+     * {@link #execute(Participant, HttpPost, ResponseHandler, FutureCallback, long)}), on which the request is aborted.
+     */
+    protected static RequestConfig createRequestConfig(final RequestGeneralParameters requestGeneralParameters) {
+        final long total = requestGeneralParameters.getTimeForAnswerMilliseconds()
+                        + requestGeneralParameters.getExtraTimeForRequestResponseMilliseconds();
+        final long connect = Math.min(total, requestGeneralParameters.getExtraTimeForRequestResponseMilliseconds());
+        return RequestConfig.custom().setConnectTimeout(toTimeout(connect))
+                        .setConnectionRequestTimeout(toTimeout(connect)).setSocketTimeout(toTimeout(total)).build();
+    }
+
+    /**
+     * A probe is expected to be answered immediately, so it is given no more time than a connect.
+     */
+    protected RequestConfig createProbeRequestConfig() {
+        return RequestConfig.copy(requestConfig).setSocketTimeout(requestConfig.getConnectTimeout()).build();
+    }
+
+    private static int toTimeout(final long milliseconds) {
+        // Zero means infinite, so use at least one millisecond.
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, milliseconds));
+    }
+
+
+    /**
+     * Returns the route (i.e., target host, port and scheme) into which requests for the given participant are sent.
+     *
+     * @param participant A participant
+     * @return The route of the participant's server.
+     * @throws ChallengeSystemException If the participant's server URL cannot be parsed.
+     */
+    public static HttpRoute routeOf(final Participant participant) throws ChallengeSystemException {
+        try {
+            HttpHost host = URIUtils.extractHost(URI.create(participant.getParticipantServerUrl()));
+            if (null == host) {
+                throw new ChallengeSystemException("Could not extract host from the server URL of participant "
+                                + participant.getUniqueSystemId() + ": " + participant.getParticipantServerUrl());
+            }
+            // Make the route identical to the one the client computes when executing a request, so that the
+            // per-route quota applies to it.
+            final int port = DefaultSchemePortResolver.INSTANCE.resolve(host);
+            HttpHost target = new HttpHost(host.getHostName(), port, host.getSchemeName());
+            return new HttpRoute(target, null, "https".equalsIgnoreCase(target.getSchemeName()));
+        } catch (IllegalArgumentException | IOException e) {
+            throw new ChallengeSystemException("Malformed server URL for participant " + participant.getUniqueSystemId()
+                            + ": " + participant.getParticipantServerUrl(), e);
+        }
+    }
+
+
+    /**
+     * Returns, for each participant-server route, the maximum number of connections that might be required for it.
+     */
+    protected static Map<HttpRoute, Integer> connectionQuotaPerRoute(final List<Participant> participants,
+                    final int maximumConcurrentQuestions) {
+        Map<HttpRoute, Integer> ret = new LinkedHashMap<HttpRoute, Integer>();
+        for (Participant participant : participants) {
+            try {
+                HttpRoute route = routeOf(participant);
+                Integer quota = ret.get(route);
+                ret.put(route, ((null == quota) ? 0 : quota) + maximumConcurrentQuestions);
+            } catch (ChallengeSystemException e) {
+                // Requests to this participant will fail, and will be handled as any other participant failure.
+                logger.error("No connection quota is reserved for participant " + participant.getUniqueSystemId()
+                                + ". Program continues.", e);
+            }
+        }
+        return ret;
+    }
+
+    protected static int totalQuota(final Map<HttpRoute, Integer> quotaPerRoute) {
+        int total = 0;
+        for (Integer quota : quotaPerRoute.values()) {
+            total += quota;
+        }
+        return Math.max(1, total);
+    }
+
+
+    /**
+     * Keeps connections alive for the duration the server asks for (by the "Keep-Alive" header), or, if the server does
+     * not specify it, for a default duration.
+     */
+    protected static class ParticipantKeepAliveStrategy implements ConnectionKeepAliveStrategy {
+        @Override
+        public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+            final long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            if (duration > 0) {
+                return duration;
+            }
+            return Constants.CONNECTION_DEFAULT_KEEP_ALIVE_MILLISECONDS;
+        }
+    }
+
+
+    /**
+     * Notifies the given callback exactly once: either when the request-response completes, or when the deadline is
+     * reached, whichever comes first. In the latter case, the request is cancelled.
+     */
+    private class DeadlineCallback implements FutureCallback<Participant>, Runnable {
+        public DeadlineCallback(Participant participant, HttpPost request, FutureCallback<Participant> callback,
+                        long deadline) {
+            super();
+            this.participant = participant;
+            this.request = request;
+            this.callback = callback;
+            this.deadline = deadline;
+        }
+
+        public void setFuture(ParticipantRequestFuture future, DeadlineTimer.Timeout timeout) {
+            this.future = future;
+            this.timeout = timeout;
+            if (notified.get()) // completed before the deadline has been scheduled.
+            {
+                timeout.cancel();
+            }
+        }
+
+        // Runnable, called by the deadline timer
+
+        @Override
+        public void run() {
+            if (notified.compareAndSet(false, true)) {
+                final ParticipantRequestFuture currentFuture = future;
+                if (currentFuture != null) {
+                    currentFuture.cancel(true);
+                }
+                // Abort the request explicitly, such that its connection is shut down (rather than waiting for the
+                // participant server), even if the request-response is in a stage that does not respond to the
+                // cancellation.
+                request.abort();
+                final TimeoutException timeoutException = new TimeoutException(
+                                "Deadline reached " + (System.currentTimeMillis() - deadline) + " milliseconds ago.");
+                healthTracker.recordOutcome(participant, timeoutException);
+                if (callback != null) {
+                    callback.failed(timeoutException);
+                }
+            }
+        }
+
+        // FutureCallback<Participant>, called by the dispatcher's threads
+
+        @Override
+        public void completed(Participant result) {
+            if (notified.compareAndSet(false, true)) {
+                cancelTimeout();
+                healthTracker.recordOutcome(participant, null);
+                if (callback != null) {
+                    callback.completed(result);
+                }
+            }
+        }
+
+        @Override
+        public void failed(Exception ex) {
+            if (notified.compareAndSet(false, true)) {
+                cancelTimeout();
+                healthTracker.recordOutcome(participant, ex);
+                if (callback != null) {
+                    callback.failed(ex);
+                }
+            }
+        }
+
+        @Override
+        public void cancelled() {
+            if (notified.compareAndSet(false, true)) {
+                cancelTimeout();
+                healthTracker.recordCancellation(participant);
+                if (callback != null) {
+                    callback.cancelled();
+                }
+            }
+        }
+
+        private void cancelTimeout() {
+            final DeadlineTimer.Timeout currentTimeout = timeout;
+            if (currentTimeout != null) {
+                currentTimeout.cancel();
+            }
+        }
+
+        private final Participant participant;
+        private final HttpPost request;
+        private final FutureCallback<Participant> callback;
+        private final long deadline;
+        private final AtomicBoolean notified = new AtomicBoolean(false);
+
+        private volatile ParticipantRequestFuture future = null;
+        private volatile DeadlineTimer.Timeout timeout = null;
+    }
+
+
+    /**
+     * A request which has not been sent, since the participant is unavailable. Already done.
+     */
+    private static class UnavailableParticipantRequestFuture implements ParticipantRequestFuture {
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public boolean isDone() {
+            return true;
+        }
+
+        @Override
+        public Participant get() throws ExecutionException {
+            throw new ExecutionException(new ParticipantUnavailableException("Participant is unavailable."));
+        }
+
+        @Override
+        public Participant get(long timeout, TimeUnit unit) throws ExecutionException {
+            return get();
+        }
+
+        @Override
+        public long startedTime() {
+            return time;
+        }
+
+        @Override
+        public long endedTime() {
+            return time;
+        }
+
+        @Override
+        public long taskDuration() {
+            return 0;
+        }
+
+        private final long time = System.currentTimeMillis();
+    }
+
+
+    private final ParticipantHealthTracker healthTracker;
+
+    /**
+     * The timeouts of every request. See {@link #createRequestConfig(RequestGeneralParameters)}.
+     */
+    protected final RequestConfig requestConfig;
+
+    protected final ResponseBufferPool responseBufferPool;
+
+    /**
+     * Runs the tasks which enforce the requests' deadlines. Should be closed by the concrete implementation.
+     */
+    protected final DeadlineTimer deadlineTimer;
+
+    /**
+     * Parses the participants' responses. Should be closed by the concrete implementation.
+     */
+    protected final ResponseParseStage responseParseStage;
+
+    /**
+     * Resolves the participant servers' hosts. Should be used by the concrete implementation's connection pool.
+     */
+    protected final CachingDnsResolver dnsResolver;
+
+    private final int warmUpConnectionsPerParticipant;
+    private final boolean warmUpProbe;
+
+    private static final org.apache.log4j.Logger logger =
+                    org.apache.log4j.Logger.getLogger(ParticipantRequestDispatcher.class);
+}
@@ -0,0 +1,35 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.http_operation;
+
+import java.util.concurrent.Future;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.Participant;
+
+/**
+ * A request which has been sent to a participant by a {@link ParticipantRequestDispatcher}. The future completes when
+ * the participant's response has been handled. Cancelling the future aborts the request.
+ * <P>
+ * In addition, the timing of the request-response is provided (in milliseconds).
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public interface ParticipantRequestFuture extends Future<Participant> {
+    /**
+     * @return The time in which the request has started being executed.
+     */
+    long startedTime();
+
+    /**
+     * @return The time in which the handling of the response has ended. Meaningful only when the future is done.
+     */
+    long endedTime();
+
+    /**
+     * @return The duration of the request-response. Meaningful only when the future is done.
+     */
+    long taskDuration();
+}
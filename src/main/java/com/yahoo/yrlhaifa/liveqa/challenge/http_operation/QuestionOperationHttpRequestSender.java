@@ -3,50 +3,38 @@
 
 package com.yahoo.yrlhaifa.liveqa.challenge.http_operation;
 
-import static com.yahoo.yrlhaifa.liveqa.challenge.Constants.QUESTION_BODY_PARAMETER_NAME;
-import static com.yahoo.yrlhaifa.liveqa.challenge.Constants.QUESTION_ID_PARAMETER_NAME;
-import static com.yahoo.yrlhaifa.liveqa.challenge.Constants.QUESTION_TITLE_PARAMETER_NAME;
-import static com.yahoo.yrlhaifa.liveqa.challenge.Constants.QUESTION_CATEGORY_PARAMETER_NAME;
 import static com.yahoo.yrlhaifa.liveqa.challenge.Constants.WORKING_CHARSET;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.Reader;
 import java.util.ArrayList;
-import java.util.Date;
-import java.util.LinkedHashSet;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.CancellationException;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeoutException;
 
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
-import org.apache.http.NameValuePair;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.ResponseHandler;
-import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.FutureRequestExecutionService;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.impl.client.HttpRequestFutureTask;
-import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.concurrent.FutureCallback;
 
 import com.yahoo.yrlhaifa.liveqa.challenge.ChallengeSystemUtilities;
 import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
 import com.yahoo.yrlhaifa.liveqa.challenge.Participant;
 import com.yahoo.yrlhaifa.liveqa.challenge.configuration.RequestGeneralParameters;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ParticipantUnavailableException;
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.QuestionOperationException;
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.WrongUserResponseException;
 import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
-import com.yahoo.yrlhaifa.liveqa.challenge.storage.ParticipantAnswerFromXmlString;
+import com.yahoo.yrlhaifa.liveqa.challenge.storage.ParticipantAnswerFromJson;
+import com.yahoo.yrlhaifa.liveqa.challenge.storage.ParticipantAnswerXml;
 import com.yahoo.yrlhaifa.liveqa.challenge.storage.ParticipantResponse;
 import com.yahoo.yrlhaifa.liveqa.challenge.storage.ReasonWhyQuestionDiscardByParticipant;
 import com.yahoo.yrlhaifa.liveqa.challenge.storage.ResponseOperationInformation;
@@ -66,12 +54,13 @@ import com.yahoo.yrlhaifa.liveqa.challenge.storage.ResponseOperationInformation;
 public class QuestionOperationHttpRequestSender {
     public QuestionOperationHttpRequestSender(List<Participant> participants, Question question,
                     ConcurrentMap<Participant, ParticipantResponse> mapParticipantToAnswer,
-                    RequestGeneralParameters timeParameters) {
+                    RequestGeneralParameters timeParameters, ParticipantRequestDispatcher dispatcher) {
         super();
         this.participants = participants;
         this.question = question;
         this.mapParticipantToAnswer = mapParticipantToAnswer;
         this.requestGeneralParameters = timeParameters;
+        this.dispatcher = dispatcher;
     }
 
 
@@ -80,43 +69,9 @@ public class QuestionOperationHttpRequestSender {
             throw new QuestionOperationException("BUG: The given map from system-id to answers is not empty.");
         }
 
-        CloseableHttpClient httpClient = HttpClients.custom().setMaxConnPerRoute(participants.size()).build();
-        try {
-            ExecutorService executor = Executors.newFixedThreadPool(participants.size());
-            try {
-                FutureRequestExecutionService requestExecutor = new FutureRequestExecutionService(httpClient, executor);
-                logger.info("Sending requests using request-executor...");
-                sendRequestsWithRequestExecutor(requestExecutor);
-                logger.info("Sending requests using request-executor - done.");
-            } finally {
-                try {
-                    executor.shutdownNow();
-                } catch (RuntimeException e) {
-                    // TODO Add more error handling
-                    logger.error("Failed to shutdown executor. Program continues.", e);
-                }
-            }
-
-        } finally {
-            try {
-                httpClient.close();
-            } catch (IOException | RuntimeException e) {
-                // TODO Add more error handling
-                logger.error("Failed to close HTTP client. Program continues.", e);
-            }
-        }
-
-
-        // Remove those who did not finish on time, but did write results.
-        Set<Participant> didNotSucceed = new LinkedHashSet<Participant>();
-        for (Participant participant : mapParticipantToAnswer.keySet()) {
-            if (!(systemsSucceeded.contains(participant))) {
-                didNotSucceed.add(participant);
-            }
-        }
-        for (Participant toRemove : didNotSucceed) {
-            mapParticipantToAnswer.remove(toRemove);
-        }
+        logger.info("Sending requests using request-dispatcher...");
+        sendRequestsWithDispatcher();
+        logger.info("Sending requests using request-dispatcher - done.");
 
 
         if (exception != null) {
@@ -124,119 +79,209 @@ public class QuestionOperationHttpRequestSender {
         }
     }
 
-    private void sendRequestsWithRequestExecutor(final FutureRequestExecutionService requestExecutor)
-                    throws QuestionOperationException, InterruptedException {
+    private void sendRequestsWithDispatcher() throws QuestionOperationException, InterruptedException {
         final long timeOut = requestGeneralParameters.getTimeForAnswerMilliseconds()
                         + requestGeneralParameters.getExtraTimeForRequestResponseMilliseconds()
                         + requestGeneralParameters.getSlackTimeForRequestExecutorTimeOutMilliseconds();
         final long maximumAllowedDuration = requestGeneralParameters.getTimeForAnswerMilliseconds()
                         + requestGeneralParameters.getExtraTimeForRequestResponseMilliseconds();
-
-        List<HttpRequestFutureTask<Participant>> futures =
-                        new ArrayList<HttpRequestFutureTask<Participant>>(participants.size());
+        // A single deadline, identical for all participants. It is enforced by the dispatcher.
+        final long deadline = System.currentTimeMillis() + timeOut;
+
+        // The handlers do not write into the answer map. Only answers of requests that completed on time are put into
+        // the map, below. Since the dispatcher's threads are shared by all questions, a request that is late might
+        // still be running after this question has been completed, and must not touch the map.
+        // Each handler puts itself into the completion queue once its request-response completes, or once the deadline
+        // is reached, so the answers are collected in the order they arrive.
+        // The handlers only read the response bodies. The bodies are parsed by the dispatcher's parse stage, such that
+        // parsing neither holds the connections nor counts in the participants' response durations.
+        final BlockingQueue<AnswerResponseHandler> completionQueue = new LinkedBlockingQueue<AnswerResponseHandler>();
+        Map<AnswerResponseHandler, ParticipantRequestFuture> futures =
+                        new LinkedHashMap<AnswerResponseHandler, ParticipantRequestFuture>();
+        List<Future<?>> parseFutures = new ArrayList<Future<?>>(participants.size());
+        // The body parsed by each parse task, in the same order.
+        List<BoundedResponseBody> parseBodies = new ArrayList<BoundedResponseBody>(participants.size());
+        // The request body is identical for all participants. It is encoded once, and shared by all the requests.
+        final QuestionRequestBody requestBody =
+                        new QuestionRequestBody(question, Constants.REQUEST_COMPRESSION_MINIMUM_BYTES);
         for (Participant participant : participants) {
-            HttpRequestFutureTask<Participant> future = requestExecutor.execute(createRequest(participant), null,
-                            new AnswerResponseHandler(participant));
-            futures.add(future);
+            HttpPost request = createRequest(participant, requestBody);
+            AnswerResponseHandler handler = new AnswerResponseHandler(participant, request, completionQueue);
+            futures.put(handler, dispatcher.execute(participant, request, handler, handler, deadline));
         }
 
-        systemsSucceeded = new LinkedHashSet<Participant>();
-        final long loopStartTime = new Date().getTime();
-        long extraAdd = 0;
-        for (HttpRequestFutureTask<Participant> future : futures) {
-            try {
-                final long timePassed = (new Date().getTime() - loopStartTime);
-                extraAdd += Constants.EXTRA_ADD_TIMEOUT_FOR_EACH_THREAD_MILLISECONDS;
-                final long currentIterationTimeOut = extraAdd + Math.max(0, (timeOut - timePassed));
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Getting a future with time-out of " + currentIterationTimeOut + " milliseconds");
+        try {
+            for (int pending = futures.size(); pending > 0; --pending) {
+                // InterruptedException: I was interrupted (someone called Thread.interrupt() on this thread. This has
+                // nothing to do with the dispatcher's threads). I must stop, and the requests are cancelled below.
+                final AnswerResponseHandler handler = completionQueue.take();
+                collectAnswer(handler, futures.get(handler), maximumAllowedDuration, parseFutures, parseBodies);
+                // Unless it has been handed to a parse task, the body is not needed anymore.
+                handler.discardResponseBody();
+            }
+            for (Future<?> parseFuture : parseFutures) {
+                try {
+                    parseFuture.get();
+                } catch (ExecutionException e) {
+                    // A bug in parsing a single response. Never mind. The other responses are not affected.
+                    logger.error("Failed to parse a participant response. Program continues.", e.getCause());
+                }
+            }
+        } finally {
+            // Parse tasks which have not started (interruption) are not needed anymore. Their bodies are returned to
+            // the pool here, since the tasks will not release them.
+            for (int index = 0; index < parseFutures.size(); ++index) {
+                if (parseFutures.get(index).cancel(false)) {
+                    parseBodies.get(index).release();
                 }
-                Participant participantOfThisFuture = future.get(currentIterationTimeOut, TimeUnit.MILLISECONDS);
-                logger.info("System " + participantOfThisFuture.getUniqueSystemId()
-                                + " has finished the question processing.");
-                if (!future.isDone()) {
-                    logger.info("Processing by system: \"" + participantOfThisFuture.getUniqueSystemId()
-                                    + "\" is not done, and is being cancelled now.");
-                    future.cancel(true);
-                } else {
-                    if (!future.isCancelled()) {
-                        if (future.taskDuration() <= maximumAllowedDuration) {
-                            systemsSucceeded.add(participantOfThisFuture);
-                            boolean inMap = false;
-                            if (mapParticipantToAnswer.containsKey(participantOfThisFuture)) {
-                                final ParticipantResponse answer = mapParticipantToAnswer.get(participantOfThisFuture);
-                                if (answer != null) {
-                                    inMap = true;
-                                    ResponseOperationInformation responseOperationInformation =
-                                                    new ResponseOperationInformation(future.startedTime(),
-                                                                    future.endedTime(), future.taskDuration());
-                                    answer.setResponseOperationInformation(responseOperationInformation);
-                                }
-                            }
-                            if (!inMap) {
-                                logger.info("A request-response for participant \""
-                                                + participantOfThisFuture.getUniqueSystemId()
-                                                + "\" has completed with no answer."); // Such a behavior might follow
-                                                                                       // unsuccessful status code, or
-                                                                                       // when the participant decides
-                                                                                       // not to answer, while sending
-                                                                                       // an HTTP response.
-                                // logger.error("Unexpected behavior: A participant request-response ended successfully,
-                                // but the answer was not put in the map. This is a bug. Program continues, however.");
-                            }
-                        } else {
-                            logger.info("System \"" + participantOfThisFuture.getUniqueSystemId()
-                                            + "\" has finished, but not in time (time out has not been reached, thanks to slack executor time. However, the required time constraints were not met).\n"
-                                            + "It\'s answer (if exists) will be discarded."); // will be discarded by
-                                                                                              // not including that
-                                                                                              // system in the
-                                                                                              // "systemSucceeded" set.
+            }
+            // Requests which have not completed (interruption) should not keep running. Their output is discarded,
+            // since only the answers of requests that completed on time are put into the map.
+            for (Map.Entry<AnswerResponseHandler, ParticipantRequestFuture> handlerAndFuture : futures.entrySet()) {
+                if (!handlerAndFuture.getKey().isCompleted()) {
+                    logger.info("The request for participant \""
+                                    + handlerAndFuture.getKey().getParticipant().getUniqueSystemId()
+                                    + "\" is being cancelled now.");
+                    handlerAndFuture.getValue().cancel(true);
+                }
+                // A body which has been read, but not collected (e.g., when the deadline fired or the question was
+                // cancelled), is returned to the pool now, or as soon as it is read.
+                handlerAndFuture.getKey().discardResponseBody();
+            }
+        }
+    }
+
+    private void collectAnswer(final AnswerResponseHandler handler, final ParticipantRequestFuture future,
+                    final long maximumAllowedDuration, final List<Future<?>> parseFutures,
+                    final List<BoundedResponseBody> parseBodies) {
+        final Participant participant = handler.getParticipant();
+        if (handler.getFailure() instanceof TimeoutException) {
+            // A time-out has been reached. Nothing to worry about. The request has already been cancelled.
+            logger.info("The request for participant \"" + participant.getUniqueSystemId() + "\" has timed-out <"
+                            + handler.getFailure().getMessage() + ">. Program continues.");
+            return;
+        }
+        if (handler.getFailure() instanceof ParticipantUnavailableException) {
+            // The question has not been sent. Record it, with no stack trace.
+            logger.info("The question has not been sent to participant \"" + participant.getUniqueSystemId()
+                            + "\", since it is unavailable.");
+            ParticipantResponse response = new ParticipantResponse(handler.getFailure());
+            response.setResponseOperationInformation(new ResponseOperationInformation(future.startedTime(),
+                            future.endedTime(), future.taskDuration()));
+            putAnswerInMap(participant, response);
+            return;
+        }
+        if (handler.getFailure() instanceof ResponseTooLargeException) {
+            // The participant's error. Record it as a wrong response.
+            logger.info("The response of participant \"" + participant.getUniqueSystemId() + "\" is too large <"
+                            + handler.getFailure().getMessage() + ">. Program continues.");
+            ParticipantResponse response = new ParticipantResponse(new WrongUserResponseException(
+                            "The response is too large.", handler.getFailure()));
+            response.setResponseOperationInformation(new ResponseOperationInformation(future.startedTime(),
+                            future.endedTime(), future.taskDuration()));
+            putAnswerInMap(participant, response);
+            return;
+        }
+        if (handler.getFailure() != null) {
+            // An HTTP problem. Either IO or protocol problem. Never mind. This is not system-wide fatal problem.
+            // Let's log it, and continue.
+            logger.error("The request for participant \"" + participant.getUniqueSystemId()
+                            + "\" failed to execute. Program continues.", handler.getFailure());
+            return;
+        }
+        logger.info("System " + participant.getUniqueSystemId() + " has finished the question processing.");
+        if (future.taskDuration() <= maximumAllowedDuration) {
+            final BoundedResponseBody body = handler.takeResponseBody();
+            final boolean jsonAnswer = handler.isJsonAnswer();
+            if (body != null) {
+                // The timing has been captured by the dispatcher when the request-response completed. It does not
+                // include the parsing.
+                final ResponseOperationInformation responseOperationInformation = new ResponseOperationInformation(
+                                future.startedTime(), future.endedTime(), future.taskDuration());
+                parseFutures.add(dispatcher.getResponseParseStage().submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            ParticipantResponse answer = constructResponse(body, jsonAnswer);
+                            answer.setResponseOperationInformation(responseOperationInformation);
+                            putAnswerInMap(participant, answer);
+                        } finally {
+                            body.release();
                         }
                     }
-                }
-            } catch (InterruptedException e) {
-                // I was interrupted (someone called Thread.interrupt() on this thread. This has nothing to do with the
-                // executor's threads).
-                // I must stop. There is nothing special for cleanup, so let's just stop.
-                throw e;
-            } catch (CancellationException e) {
-                // The task was cancelled. Nothing to worry about. If it has been cancelled, than it will not write into
-                // the map. Just log it.
-                logger.info("One of the requests was cancelled: " + e.getMessage() + ". Program continues.");
-            } catch (ExecutionException e) {
-                // An HTTP problem. Either IO or protocol problem. Never mind. This is not system-wide fatal problem.
-                // Let's log it, and continue.
-                logger.error("One of the requests failed to execute. Program continues.", e);
-            } catch (TimeoutException e) {
-                // A time-out has been reached. Again, nothing to worry about. I have to cancel the task.
-                // Its output should be discarded, and I take care of it above (in the try block) implicitly, when I do
-                // not include this
-                // system-id in the "systemsSucceeded" set.
-                // Even if the task writes its result into the map, it will be removed, and the removal happens after
-                // the executor.shutdownNow(),
-                // So we can be sure it is finally not in the map.
-                String exceptionMessage = e.getMessage();
-                if (null == exceptionMessage) {
-                    exceptionMessage = "";
-                } else
-                    exceptionMessage = " <" + exceptionMessage + ">";
-                logger.info("One of the requests has timed-out" + exceptionMessage + ". Program continues.");
-                future.cancel(true);
+                }));
+                parseBodies.add(body);
+            } else {
+                // Such a behavior might follow unsuccessful status code, or when the participant decides not to
+                // answer, while sending an HTTP response.
+                logger.info("A request-response for participant \"" + participant.getUniqueSystemId()
+                                + "\" has completed with no answer.");
             }
+        } else {
+            logger.info("System \"" + participant.getUniqueSystemId()
+                            + "\" has finished, but not in time (time out has not been reached, thanks to slack executor time. However, the required time constraints were not met).\n"
+                            + "It\'s answer (if exists) will be discarded."); // will be discarded by not putting it in
+                                                                              // the map.
+        }
+    }
 
+    /**
+     * Parses the given response body, which is either in the XML format, or in the JSON format. See
+     * {@link ParticipantAnswerFromJson}.
+     */
+    private ParticipantResponse constructResponse(final BoundedResponseBody body, final boolean jsonAnswer) {
+        // TODO perform check on foci well-formedness
+        ParticipantResponse participantResponse = null;
+        final ParticipantAnswerXml fromXml;
+        if (jsonAnswer) {
+            fromXml = new ParticipantAnswerFromJson(body.getBuffer(), 0, body.getLength(),
+                            requestGeneralParameters.getMaximumAnswerLength(),
+                            requestGeneralParameters.getMaximumSummaryLength(),
+                            requestGeneralParameters.getAnswerXmlLimits());
+        } else {
+            fromXml = requestGeneralParameters.getAnswerXmlParser().newAnswerXml(body.getBuffer(), 0,
+                            body.getLength(), requestGeneralParameters.getMaximumAnswerLength(),
+                            requestGeneralParameters.getMaximumSummaryLength(),
+                            requestGeneralParameters.getAnswerXmlLimits());
         }
+        try {
+            fromXml.create();
+            if (fromXml.isAnswered()) {
+                participantResponse = new ParticipantResponse(fromXml.getAnswer());
+            } else {
+                ReasonWhyQuestionDiscardByParticipant whyNoAnswered = fromXml.getWhyNotAnswered();
+                if (null == whyNoAnswered) {
+                    // This is unexpected, and is not supposed to happen at all. However, to be on the safe side...
+                    logger.error("Internal minor unexpected error of ParticipantAnswerFromXmlString returning null for both answer and discard-reason. Overriding here with an empty reason.");
+                    whyNoAnswered = new ReasonWhyQuestionDiscardByParticipant("");
+                }
+                participantResponse = new ParticipantResponse(whyNoAnswered);
+            }
+        } catch (WrongUserResponseException userException) {
+            participantResponse = new ParticipantResponse(userException);
+        }
+        return participantResponse;
     }
 
-    private HttpPost createRequest(final Participant participant) {
-        List<NameValuePair> requestParameters = new LinkedList<NameValuePair>();
-        requestParameters.add(new BasicNameValuePair(QUESTION_ID_PARAMETER_NAME, question.getId()));
-        requestParameters.add(new BasicNameValuePair(QUESTION_TITLE_PARAMETER_NAME, question.getTitle()));
-        requestParameters.add(new BasicNameValuePair(QUESTION_BODY_PARAMETER_NAME, question.getBody()));
-        requestParameters.add(new BasicNameValuePair(QUESTION_CATEGORY_PARAMETER_NAME, question.getCategory()));
+    private void putAnswerInMap(final Participant participant, final ParticipantResponse participantResponse) {
+        ParticipantResponse responseInMap = mapParticipantToAnswer.putIfAbsent(participant, participantResponse);
+        if (null != responseInMap) {
+            // TODO Improve this error handling
+            logger.error("Unexpected error. The mapParticipantToAnswer has already contained value for the given system unique id.\n"
+                            + "Program does not stop, but this indicates a bug, and might indicate that all the results are incorrect.\n"
+                            + "The system is inherently corrupted !!!\n" + "Value tried to put = "
+                            + participantResponse + ".\n" + "Existing value = " + responseInMap);
+        }
+    }
 
-        UrlEncodedFormEntity entity = new UrlEncodedFormEntity(requestParameters, Constants.WORKING_CHARSET);
+    private HttpPost createRequest(final Participant participant, final QuestionRequestBody requestBody) {
         HttpPost httpPost = new HttpPost(participant.getParticipantServerUrl());
-        httpPost.setEntity(entity);
+        httpPost.setEntity(requestBody.getEntity(participant));
+        if (participant.hasCapability(Participant.CAPABILITY_JSON_ANSWER)) {
+            // The participant may answer in either format. The format of its response is given by the response's
+            // content type.
+            httpPost.setHeader(HttpHeaders.ACCEPT, JSON_OR_XML_ACCEPT_HEADER);
+        }
 
         return httpPost;
     }
@@ -247,10 +292,33 @@ public class QuestionOperationHttpRequestSender {
      *
      *
      */
-    private class AnswerResponseHandler implements ResponseHandler<Participant> {
-        public AnswerResponseHandler(Participant participant) {
+    private class AnswerResponseHandler implements ResponseHandler<Participant>, FutureCallback<Participant> {
+        public AnswerResponseHandler(Participant participant, HttpPost request,
+                        BlockingQueue<AnswerResponseHandler> completionQueue) {
             super();
             this.participant = participant;
+            this.request = request;
+            this.completionQueue = completionQueue;
+        }
+
+        // FutureCallback<Participant>, called by the dispatcher's threads when the request-response completes.
+
+        @Override
+        public void completed(Participant result) {
+            completed = true;
+            completionQueue.offer(this);
+        }
+
+        @Override
+        public void failed(Exception ex) {
+            failure = ex;
+            completed = true;
+            completionQueue.offer(this);
+        }
+
+        @Override
+        public void cancelled() {
+            // Only requests which are no longer collected are cancelled. Nothing to do.
         }
 
 
@@ -279,97 +347,118 @@ public class QuestionOperationHttpRequestSender {
             final int statusCode = response.getStatusLine().getStatusCode();
 
             if (ChallengeSystemUtilities.httpStatusCodeOK(statusCode)) {
-                try (InputStream content = response.getEntity().getContent()) {
-                    try (Reader reader = new InputStreamReader(content, WORKING_CHARSET)) {
-                        // Take care on future.cancel() from the executor's thread:
-                        if (Thread.interrupted()) {
-                            throw new InterruptedException();
-                        }
-
-                        final int answerMaximumLength = Constants.ANSWER_XML_LENGTH_IN_ADDITION_TO_ANSWER_LENGTH
-                                        + requestGeneralParameters.getMaximumAnswerLength();
-                        char[] answerBuffer = new char[answerMaximumLength + 1 + 1]; // I add +1 to see whether answer
-                                                                                     // length exceeded maximum length,
-                                                                                     // and also add an addition +1 to
-                                                                                     // be on the safe side.
-                        final int charactersRead = reader.read(answerBuffer, 0, answerMaximumLength + 1);
-                        if (charactersRead > requestGeneralParameters.getMaximumAnswerLength()) {
-                            // Note: this might result in a malformed XML.
-                            // TODO This should be propagated to the participant
-                            logger.info("Participant " + participant.getUniqueSystemId()
-                                            + " returned answer longer than permitted. The answer is truncated to "
-                                            + requestGeneralParameters.getMaximumAnswerLength() + " characters.");
-                            // TODO check if same check required for summary
-                        }
-                        String answerString =
-                                        new String(answerBuffer, 0, Math.min(charactersRead, answerMaximumLength));
-                        if (logger.isDebugEnabled()) {
-                            logger.debug("Answer string of participant " + participant.getUniqueSystemId()
-                                            + " for question " + question.getId() + " is:\n" + answerString);
-                        }
-
-                        if (Thread.interrupted()) {
-                            throw new InterruptedException();
-                        }
-                        ParticipantResponse participantResponse = constructResponseFromXmlString(answerString);
-                        ParticipantResponse responseInMap =
-                                        mapParticipantToAnswer.putIfAbsent(participant, participantResponse);
-                        if (null != responseInMap) {
-                            // TODO Improve this error handling
-                            logger.error("Unexpected error. The mapParticipantToAnswer has already contained value for the given system unique id.\n"
-                                            + "Program does not stop, but this indicates a bug, and might indicate that all the results are incorrect.\n"
-                                            + "The system is inherently corrupted !!!\n" + "Value tried to put = "
-                                            + participantResponse + ".\n" + "Existing value = " + responseInMap);
-                        }
-                        // TODO perform check on foci well-formedness
+                // Take care on future.cancel() from the executor's thread:
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                final BoundedResponseBody body;
+                try {
+                    body = BoundedResponseBody.read(response.getEntity(), dispatcher.getResponseBufferPool());
+                } catch (ResponseTooLargeException e) {
+                    // Do not read (nor drain) the rest of the response. The connection is closed.
+                    request.abort();
+                    throw e;
+                }
+                try {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Answer string of participant " + participant.getUniqueSystemId()
+                                        + " for question " + question.getId() + " is:\n"
+                                        + body.toString(WORKING_CHARSET));
                     }
 
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                } catch (InterruptedException e) {
+                    body.release();
+                    throw e;
                 }
+                // Parsed by the parse stage, if the request-response completed on time. See collectAnswer().
+                final Header contentType = response.getEntity().getContentType();
+                jsonAnswer = ParticipantAnswerFromJson.isJsonContentType(
+                                (null == contentType) ? null : contentType.getValue());
+                setResponseBody(body);
             } else {
                 logger.warn("Unsuccessful http status code, for participant \"" + participant.getUniqueSystemId()
                                 + "\". Status code = " + statusCode + ". Status line = " + response.getStatusLine());
             }
         }
 
-        private ParticipantResponse constructResponseFromXmlString(final String answerString) {
-            ParticipantResponse participantResponse = null;
-            ParticipantAnswerFromXmlString fromXml = new ParticipantAnswerFromXmlString(answerString,
-                            requestGeneralParameters.getMaximumAnswerLength(),
-                            requestGeneralParameters.getMaximumSummaryLength());
-            try {
-                fromXml.create();
-                if (fromXml.isAnswered()) {
-                    participantResponse = new ParticipantResponse(fromXml.getAnswer());
-                } else {
-                    ReasonWhyQuestionDiscardByParticipant whyNoAnswered = fromXml.getWhyNotAnswered();
-                    if (null == whyNoAnswered) {
-                        // This is unexpected, and is not supposed to happen at all. However, to be on the safe side...
-                        logger.error("Internal minor unexpected error of ParticipantAnswerFromXmlString returning null for both answer and discard-reason. Overriding here with an empty reason.");
-                        whyNoAnswered = new ReasonWhyQuestionDiscardByParticipant("");
-                    }
-                    participantResponse = new ParticipantResponse(whyNoAnswered);
-                }
-            } catch (WrongUserResponseException userException) {
-                participantResponse = new ParticipantResponse(userException);
+        public Participant getParticipant() {
+            return participant;
+        }
+
+        /**
+         * Takes the response body, if the response has been read successfully, such that it is not released by
+         * {@link #discardResponseBody()}. It is released by its parse task.
+         */
+        public synchronized BoundedResponseBody takeResponseBody() {
+            final BoundedResponseBody ret = responseBody;
+            responseBody = null;
+            return ret;
+        }
+
+        /**
+         * Returns the response body, unless it has been taken, to the pool. A body which is read afterwards is returned
+         * to the pool right away.
+         */
+        public synchronized void discardResponseBody() {
+            discarded = true;
+            if (responseBody != null) {
+                responseBody.release();
+                responseBody = null;
             }
-            return participantResponse;
         }
 
-        private final Participant participant;
+        private synchronized void setResponseBody(final BoundedResponseBody body) {
+            if (discarded) {
+                body.release();
+            } else {
+                responseBody = body;
+            }
+        }
 
+        /**
+         * Whether the response body is in the JSON format (rather than XML).
+         */
+        public boolean isJsonAnswer() {
+            return jsonAnswer;
+        }
+
+        public Exception getFailure() {
+            return failure;
+        }
+
+        public boolean isCompleted() {
+            return completed;
+        }
+
+        private final Participant participant;
+        private final HttpPost request;
+        private final BlockingQueue<AnswerResponseHandler> completionQueue;
+
+        private volatile boolean jsonAnswer = false;
+        // Guarded by this.
+        private BoundedResponseBody responseBody = null;
+        private boolean discarded = false;
+        private volatile Exception failure = null;
+        private volatile boolean completed = false;
     }
 
+    private static final String JSON_OR_XML_ACCEPT_HEADER =
+                    ParticipantAnswerFromJson.JSON_MEDIA_TYPE + ", text/xml;q=0.9, application/xml;q=0.9";
+
     private final List<Participant> participants;
     private final Question question;
     private final ConcurrentMap<Participant, ParticipantResponse> mapParticipantToAnswer;
     private final RequestGeneralParameters requestGeneralParameters;
+    private final ParticipantRequestDispatcher dispatcher;
 
     /**
      * A fatal exception, which should stop the system.
      */
     private QuestionOperationException exception = null;
 
-    private Set<Participant> systemsSucceeded = null;
 
     private static final org.apache.log4j.Logger logger =
                     org.apache.log4j.Logger.getLogger(QuestionOperationHttpRequestSender.class);
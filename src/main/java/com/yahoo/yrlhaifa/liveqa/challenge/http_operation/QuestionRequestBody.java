@@ -0,0 +1,114 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.http_operation;
+
+import static com.yahoo.yrlhaifa.liveqa.challenge.Constants.QUESTION_BODY_PARAMETER_NAME;
+import static com.yahoo.yrlhaifa.liveqa.challenge.Constants.QUESTION_CATEGORY_PARAMETER_NAME;
+import static com.yahoo.yrlhaifa.liveqa.challenge.Constants.QUESTION_ID_PARAMETER_NAME;
+import static com.yahoo.yrlhaifa.liveqa.challenge.Constants.QUESTION_TITLE_PARAMETER_NAME;
+import static com.yahoo.yrlhaifa.liveqa.challenge.Constants.WORKING_CHARSET;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.message.BasicNameValuePair;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.Participant;
+import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
+
+/**
+ * The body of the HTTP request by which a question is sent to the participants. The body is identical for all the
+ * participants, so it is URL-encoded once per question, and its bytes are shared by the requests of all the
+ * participants.
+ * <P>
+ * A participant which advertises {@link Participant#CAPABILITY_GZIP_REQUEST} receives the body gzip-compressed, if
+ * the body is long enough for the compression to pay off. The compressed bytes are computed once, when first needed.
+ * <P>
+ * The entities returned by this class are repeatable and immutable, and may be sent concurrently by any number of
+ * requests.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class QuestionRequestBody {
+    public static final String GZIP_CONTENT_ENCODING = "gzip";
+
+    /**
+     * Constructor with the question, and the minimum length of a body which is compressed.
+     *
+     * @param question The question
+     * @param minimumBytesToCompress Bodies shorter than this number of bytes are never compressed.
+     */
+    public QuestionRequestBody(Question question, int minimumBytesToCompress) {
+        super();
+        List<NameValuePair> requestParameters = new ArrayList<NameValuePair>(4);
+        requestParameters.add(new BasicNameValuePair(QUESTION_ID_PARAMETER_NAME, question.getId()));
+        requestParameters.add(new BasicNameValuePair(QUESTION_TITLE_PARAMETER_NAME, question.getTitle()));
+        requestParameters.add(new BasicNameValuePair(QUESTION_BODY_PARAMETER_NAME, question.getBody()));
+        requestParameters.add(new BasicNameValuePair(QUESTION_CATEGORY_PARAMETER_NAME, question.getCategory()));
+        this.bytes = URLEncodedUtils.format(requestParameters, WORKING_CHARSET).getBytes(WORKING_CHARSET);
+        this.entity = new ByteArrayEntity(bytes, CONTENT_TYPE);
+        this.compressible = (bytes.length >= minimumBytesToCompress);
+    }
+
+    /**
+     * Returns the entity to be sent to the given participant.
+     */
+    public HttpEntity getEntity(final Participant participant) {
+        if (compressible && participant.hasCapability(Participant.CAPABILITY_GZIP_REQUEST)) {
+            return getGzipEntity();
+        }
+        return entity;
+    }
+
+    /**
+     * Length of the body, in bytes, before compression.
+     */
+    public int getLength() {
+        return bytes.length;
+    }
+
+
+    private HttpEntity getGzipEntity() {
+        if (null == gzipEntity) {
+            synchronized (this) {
+                if (null == gzipEntity) {
+                    ByteArrayEntity compressedEntity = new ByteArrayEntity(gzip(bytes), CONTENT_TYPE);
+                    compressedEntity.setContentEncoding(GZIP_CONTENT_ENCODING);
+                    gzipEntity = compressedEntity;
+                }
+            }
+        }
+        return gzipEntity;
+    }
+
+    private static byte[] gzip(final byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 2 + 32);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressed)) {
+            gzipStream.write(bytes);
+        } catch (IOException e) {
+            // Never happens: the stream is written into memory.
+            throw new IllegalStateException("Failed to compress the request body.", e);
+        }
+        return compressed.toByteArray();
+    }
+
+
+    private static final ContentType CONTENT_TYPE = ContentType.create(URLEncodedUtils.CONTENT_TYPE, WORKING_CHARSET);
+
+    private final byte[] bytes;
+    private final HttpEntity entity;
+    private final boolean compressible;
+
+    private volatile HttpEntity gzipEntity = null;
+}
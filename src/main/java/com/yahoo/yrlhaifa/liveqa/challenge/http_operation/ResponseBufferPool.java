@@ -0,0 +1,57 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.http_operation;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of fixed-size byte buffers, into which the participants' response bodies are read. The pool is shared by all
+ * the questions, such that reading a response does not allocate a new buffer once the first questions have been
+ * answered.
+ * <P>
+ * The pool retains at most a given number of buffers. A buffer which is acquired while the pool is empty is newly
+ * allocated, and a buffer which is released while the pool is full is left to the garbage collector.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class ResponseBufferPool {
+    public ResponseBufferPool(int bufferSize, int maximumRetainedBuffers) {
+        super();
+        this.bufferSize = bufferSize;
+        this.maximumRetainedBuffers = maximumRetainedBuffers;
+    }
+
+    public byte[] acquire() {
+        byte[] buffer = buffers.poll();
+        if (null == buffer) {
+            return new byte[bufferSize];
+        }
+        numberOfRetainedBuffers.decrementAndGet();
+        return buffer;
+    }
+
+    public void release(final byte[] buffer) {
+        if ((buffer != null) && (buffer.length == bufferSize)) {
+            if (numberOfRetainedBuffers.incrementAndGet() <= maximumRetainedBuffers) {
+                buffers.offer(buffer);
+            } else {
+                numberOfRetainedBuffers.decrementAndGet();
+            }
+        }
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+
+    private final int bufferSize;
+    private final int maximumRetainedBuffers;
+    private final Queue<byte[]> buffers = new ConcurrentLinkedQueue<byte[]>();
+    private final AtomicInteger numberOfRetainedBuffers = new AtomicInteger(0);
+}
@@ -0,0 +1,102 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.http_operation;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.ChallengeAutoCloseable;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeCloseException;
+
+/**
+ * Parses the participants' responses, by a bounded pool of worker threads which is shared by all the questions.
+ * <P>
+ * The dispatcher's threads (which own the connections) only read the response bodies. The bodies are parsed here,
+ * once the request-response has completed. Thus, a slow or hostile response does not hold a connection (nor an I/O
+ * thread), and the time spent on parsing is not part of the participant's measured response duration.
+ * <P>
+ * The number of waiting tasks is bounded. When the workers are busy and the queue is full, a task runs on the thread
+ * that submits it (i.e., the question's thread, never a dispatcher's thread). Thus, the memory held by waiting
+ * response bodies is bounded, and a burst of responses slows down only the questions that produced it.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class ResponseParseStage implements ChallengeAutoCloseable {
+    public ResponseParseStage(final String name, final int numberOfThreads, final int queueCapacity) {
+        super();
+        this.executor = new ThreadPoolExecutor(numberOfThreads, numberOfThreads, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<Runnable>(queueCapacity), new ParseThreadFactory(name),
+                        new RunInCallerPolicy());
+    }
+
+    /**
+     * Runs the given parse task by a worker thread, or by the current thread if the stage is saturated.
+     *
+     * @param task The task, which parses a response and stores its outcome.
+     * @return A future which completes when the task ends.
+     */
+    public Future<?> submit(final Runnable task) {
+        return executor.submit(task);
+    }
+
+    @Override
+    public void close() throws ChallengeCloseException {
+        // The waiting tasks still run, since questions might be waiting for them.
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(TERMINATION_WAIT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                logger.warn("Response parse stage did not terminate within " + TERMINATION_WAIT_MILLISECONDS
+                                + " milliseconds. Interrupting its remaining tasks.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new ChallengeCloseException("Interrupted while closing the response parse stage.", e);
+        }
+    }
+
+
+    /**
+     * Runs a rejected task on the submitting thread. Unlike {@link ThreadPoolExecutor.CallerRunsPolicy}, the task runs
+     * even if the stage has been closed, so that a question which waits for its parse tasks never waits forever.
+     */
+    private static class RunInCallerPolicy implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            task.run();
+        }
+    }
+
+    private static class ParseThreadFactory implements ThreadFactory {
+        public ParseThreadFactory(String name) {
+            super();
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+        private final String name;
+        private final AtomicInteger threadNumber = new AtomicInteger(0);
+    }
+
+
+    private static final long TERMINATION_WAIT_MILLISECONDS = 5000;
+
+    private final ThreadPoolExecutor executor;
+
+    private static final org.apache.log4j.Logger logger = org.apache.log4j.Logger.getLogger(ResponseParseStage.class);
+}
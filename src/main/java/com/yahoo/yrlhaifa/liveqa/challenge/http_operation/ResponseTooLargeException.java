@@ -0,0 +1,22 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.http_operation;
+
+import java.io.IOException;
+
+/**
+ * Thrown when the body of a participant's response exceeds the maximum number of bytes. The rest of the body is not
+ * read, and the connection is not reused.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class ResponseTooLargeException extends IOException {
+    private static final long serialVersionUID = -3164904409812287115L;
+
+    public ResponseTooLargeException(int maximumBytes) {
+        super("The response body exceeds the maximum of " + maximumBytes + " bytes.");
+    }
+}
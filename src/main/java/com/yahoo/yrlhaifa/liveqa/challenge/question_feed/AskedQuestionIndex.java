@@ -0,0 +1,253 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.question_feed;
+
+import static com.yahoo.yrlhaifa.liveqa.challenge.Constants.QUESTION_ID_YAHOO_ANSWERS_NAMESPACE_PREFIX;
+import static com.yahoo.yrlhaifa.liveqa.common.HashUtilities.FNV_OFFSET_BASIS;
+import static com.yahoo.yrlhaifa.liveqa.common.HashUtilities.FNV_PRIME;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.ChallengeAutoCloseable;
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeCloseException;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.QuestionFeedFatalException;
+import com.yahoo.yrlhaifa.liveqa.common.HashUtilities;
+
+/**
+ * The IDs of all the questions which have ever been asked, such that no question is sent twice, even across restarts
+ * of the challenge.
+ * <P>
+ * The IDs are kept in a text file, one ID per line, to which each newly asked ID is appended. The lines are Yahoo
+ * Answers IDs without the {@link Constants#QUESTION_ID_YAHOO_ANSWERS_NAMESPACE_PREFIX} namespace prefix, so a list of
+ * asked IDs (such as data/asked-qids-until-0720.txt) can be used as the file, or appended to it.
+ * <P>
+ * In memory, each ID is kept as a 64-bit hash, in an open-addressing table of longs (about 16 bytes per ID, rather than
+ * about 100 bytes for a String in a HashSet). The file is loaded by hashing the bytes of its lines, without creating a
+ * String per line. A hash collision might make a new question seem asked, with a probability of about n^2/2^65 for n
+ * IDs (i.e., practically never).
+ * <P>
+ * The methods are thread safe.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class AskedQuestionIndex implements ChallengeAutoCloseable {
+    /**
+     * Loads the IDs in the given file (if it exists), and opens it for appending new IDs.
+     */
+    public static AskedQuestionIndex open(final File file) throws QuestionFeedFatalException {
+        final long startTime = System.currentTimeMillis();
+        AskedQuestionIndex index = new AskedQuestionIndex();
+        boolean endsWithNewLine = true;
+        try {
+            if (file.exists()) {
+                final byte[] bytes = Files.readAllBytes(file.toPath());
+                index.load(bytes);
+                endsWithNewLine = (bytes.length == 0) || (bytes[bytes.length - 1] == '\n');
+            }
+            index.output = new FileOutputStream(file, true);
+            if (!endsWithNewLine) {
+                // The last line was written partially, e.g., when the system crashed. It is loaded, and kept as is.
+                index.output.write('\n');
+            }
+        } catch (IOException e) {
+            throw new QuestionFeedFatalException("Failed to open the asked-questions file " + file.getPath(), e);
+        }
+        logger.info("Loaded " + index.size + " asked question IDs from " + file.getPath() + " in "
+                        + (System.currentTimeMillis() - startTime) + " milliseconds.");
+        return index;
+    }
+
+
+    /**
+     * Returns true if the question with the given ID has already been asked.
+     */
+    public synchronized boolean contains(final String questionId) {
+        return containsHash(hash(questionId));
+    }
+
+    /**
+     * Records that the question with the given ID has been asked, and appends its ID to the file.
+     *
+     * @return true if the question had not been asked before.
+     */
+    public synchronized boolean add(final String questionId) throws QuestionFeedFatalException {
+        if (!addHash(hash(questionId))) {
+            return false;
+        }
+        try {
+            output.write((stripPrefix(questionId) + "\n").getBytes(Constants.WORKING_CHARSET));
+            output.flush();
+        } catch (IOException e) {
+            throw new QuestionFeedFatalException("Failed to append to the asked-questions file.", e);
+        }
+        return true;
+    }
+
+    /**
+     * Number of question IDs in the index.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized void close() throws ChallengeCloseException {
+        if (output != null) {
+            try {
+                output.close();
+            } catch (IOException e) {
+                throw new ChallengeCloseException("Failed to close the asked-questions file.", e);
+            }
+        }
+    }
+
+
+
+    private AskedQuestionIndex() {
+        super();
+    }
+
+    private void load(final byte[] bytes) {
+        // Sized by the expected number of IDs, so the table is not rehashed while loading.
+        final int expectedSize = bytes.length / TYPICAL_LINE_LENGTH;
+        if (expectedSize * 2 > table.length) {
+            table = new long[Integer.highestOneBit(expectedSize * 2 - 1) << 1];
+        }
+        int lineStart = 0;
+        for (int position = 0; position <= bytes.length; ++position) {
+            if ((position == bytes.length) || (bytes[position] == '\n')) {
+                int start = lineStart;
+                int end = position;
+                while ((start < end) && ((bytes[start] & 0xFF) <= ' ')) {
+                    ++start;
+                }
+                while ((end > start) && ((bytes[end - 1] & 0xFF) <= ' ')) {
+                    --end;
+                }
+                if (start < end) {
+                    addHash(hash(bytes, start + prefixLength(bytes, start, end), end));
+                }
+                lineStart = position + 1;
+            }
+        }
+    }
+
+    private boolean containsHash(final long hash) {
+        int slot = slot(hash, table.length);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == hash) {
+                return true;
+            }
+            slot = (slot + 1) & (table.length - 1);
+        }
+        return false;
+    }
+
+    private boolean addHash(final long hash) {
+        int slot = slot(hash, table.length);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == hash) {
+                return false;
+            }
+            slot = (slot + 1) & (table.length - 1);
+        }
+        table[slot] = hash;
+        ++size;
+        if (size * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        return true;
+    }
+
+    private void rehash(final int newLength) {
+        final long[] newTable = new long[newLength];
+        for (long hash : table) {
+            if (hash != EMPTY) {
+                int slot = slot(hash, newLength);
+                while (newTable[slot] != EMPTY) {
+                    slot = (slot + 1) & (newLength - 1);
+                }
+                newTable[slot] = hash;
+            }
+        }
+        table = newTable;
+    }
+
+    private static int slot(final long hash, final int length) {
+        return (int) (hash ^ (hash >>> 32)) & (length - 1);
+    }
+
+    private static String stripPrefix(final String questionId) {
+        final int length = QUESTION_ID_YAHOO_ANSWERS_NAMESPACE_PREFIX.length();
+        if ((questionId.length() > length) && questionId.startsWith(QUESTION_ID_YAHOO_ANSWERS_NAMESPACE_PREFIX)) {
+            return questionId.substring(length);
+        }
+        return questionId;
+    }
+
+    private static int prefixLength(final byte[] bytes, final int start, final int end) {
+        final int length = QUESTION_ID_YAHOO_ANSWERS_NAMESPACE_PREFIX.length();
+        if (end - start <= length) {
+            return 0;
+        }
+        for (int index = 0; index < length; ++index) {
+            if (bytes[start + index] != QUESTION_ID_YAHOO_ANSWERS_NAMESPACE_PREFIX.charAt(index)) {
+                return 0;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * The hash of the ID's UTF-8 bytes, without the namespace prefix. Equals the hash of the ID's line in the file.
+     */
+    private static long hash(final String questionId) {
+        final String id = stripPrefix(questionId);
+        long hash = FNV_OFFSET_BASIS;
+        for (int index = 0; index < id.length(); ++index) {
+            final char c = id.charAt(index);
+            if (c >= 0x80) {
+                final byte[] bytes = id.getBytes(Constants.WORKING_CHARSET);
+                return hash(bytes, 0, bytes.length);
+            }
+            hash = (hash ^ c) * FNV_PRIME;
+        }
+        return finish(hash);
+    }
+
+    private static long hash(final byte[] bytes, final int start, final int end) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int index = start; index < end; ++index) {
+            hash = (hash ^ (bytes[index] & 0xFF)) * FNV_PRIME;
+        }
+        return finish(hash);
+    }
+
+    /**
+     * Mixes the bits of an FNV-1a hash (whose low bits, which choose the slot, are weak), and keeps the value
+     * {@link #EMPTY} for empty slots.
+     */
+    private static long finish(final long hash) {
+        final long mixed = HashUtilities.mix(hash);
+        return (mixed == EMPTY) ? 1 : mixed;
+    }
+
+
+    private static final long EMPTY = 0;
+    // e.g., "20150607042815AAKuoDd\n"
+    private static final int TYPICAL_LINE_LENGTH = 22;
+
+    private long[] table = new long[Constants.ASKED_QUESTION_INDEX_INITIAL_CAPACITY];
+    private int size = 0;
+    private OutputStream output = null;
+
+    private static final org.apache.log4j.Logger logger = org.apache.log4j.Logger.getLogger(AskedQuestionIndex.class);
+}
@@ -0,0 +1,306 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.question_feed;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Properties;
+
+import yr.haifa.ML.classifiers.ClassificationResult;
+
+/**
+ * An {@link EnglishClassifier} by a naive-Bayes model of character n-grams (of lengths 1 to {@link #ORDER}), which
+ * tells English texts from texts in other languages.
+ * <P>
+ * The text is viewed as lower-cased letters, where each run of other characters is a single space. Each n-gram is
+ * hashed into a table of {@link #TABLE_SIZE} floats, which holds the log-likelihood ratio of the n-grams of the slot:
+ * log(P(n-gram | English) / P(n-gram | other languages)). The score of a text is the average ratio of its n-grams,
+ * minus a threshold, and the text is classified as English if its score is positive. The confidence is the
+ * probability of the label by the model, i.e., a logistic function of the sum of the ratios (minus the threshold).
+ * <P>
+ * Classifying a text scans its characters once (at most {@link #MAXIMUM_CHARACTERS} of them), with one table lookup
+ * per n-gram, and allocates nothing but the result and a small accumulator. A question of a few hundred characters
+ * takes a few microseconds. Training scans the texts the same way.
+ * <P>
+ * The model is kept in two files: the "language model" - the table of ratios (binary), and the "model" - the threshold
+ * (a properties file). Both are created by {@link #train(Collection, Collection)},
+ * {@link #tuneThreshold(Collection, Collection)} and {@link #save(File, File)} (see
+ * com.yahoo.yrlhaifa.liveqa.utils.EnglishClassifierTrainer).
+ * <P>
+ * Instances are immutable, and thread safe.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class CharacterNGramEnglishClassifier implements EnglishClassifier {
+    public static final int ORDER = 3;
+    public static final int TABLE_BITS = 18;
+    public static final int TABLE_SIZE = 1 << TABLE_BITS;
+    public static final int MAXIMUM_CHARACTERS = 4000;
+
+    /**
+     * Loads the classifier from the given language-model file and model file.
+     */
+    public static CharacterNGramEnglishClassifier load(final File languageModelFile, final File modelFile)
+                    throws IOException {
+        final float[] weights = new float[TABLE_SIZE];
+        try (DataInputStream input = new DataInputStream(
+                        new BufferedInputStream(new FileInputStream(languageModelFile), BUFFER_SIZE))) {
+            if ((input.readInt() != MAGIC) || (input.readInt() != ORDER) || (input.readInt() != TABLE_BITS)) {
+                throw new IOException("The file " + languageModelFile.getPath()
+                                + " is not a character n-gram language model of order " + ORDER + " and "
+                                + TABLE_SIZE + " slots.");
+            }
+            for (int index = 0; index < weights.length; ++index) {
+                weights[index] = input.readFloat();
+            }
+        }
+        final Properties properties = new Properties();
+        try (InputStream input = new FileInputStream(modelFile)) {
+            properties.load(input);
+        }
+        final String threshold = properties.getProperty(THRESHOLD_PROPERTY);
+        if (null == threshold) {
+            throw new IOException("The model file " + modelFile.getPath() + " has no " + THRESHOLD_PROPERTY + ".");
+        }
+        try {
+            return new CharacterNGramEnglishClassifier(weights, Double.parseDouble(threshold.trim()));
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed " + THRESHOLD_PROPERTY + " in the model file " + modelFile.getPath(), e);
+        }
+    }
+
+    /**
+     * Trains a classifier on the given English texts and texts in other languages. The threshold is zero, and is
+     * typically tuned, on texts which are not used for training, by {@link #tuneThreshold(Collection, Collection)}.
+     */
+    public static CharacterNGramEnglishClassifier train(final Collection<String> englishTexts,
+                    final Collection<String> otherTexts) {
+        final int[] englishCounts = new int[TABLE_SIZE];
+        final int[] otherCounts = new int[TABLE_SIZE];
+        final long englishTotal = addNGramCounts(englishTexts, englishCounts);
+        final long otherTotal = addNGramCounts(otherTexts, otherCounts);
+        final float[] weights = new float[TABLE_SIZE];
+        final double englishDenominator = englishTotal + SMOOTHING * TABLE_SIZE;
+        final double otherDenominator = otherTotal + SMOOTHING * TABLE_SIZE;
+        for (int slot = 0; slot < TABLE_SIZE; ++slot) {
+            weights[slot] = (float) (Math.log((englishCounts[slot] + SMOOTHING) / englishDenominator)
+                            - Math.log((otherCounts[slot] + SMOOTHING) / otherDenominator));
+        }
+        return new CharacterNGramEnglishClassifier(weights, 0);
+    }
+
+
+    @Override
+    public ClassificationResult classify(final String questionString) {
+        final ScoreSum scoreSum = new ScoreSum(weights);
+        scanNGrams(questionString, scoreSum);
+        final int count = scoreSum.count;
+        if (0 == count) {
+            return new ClassificationResult(true, 0.0, 0.5);
+        }
+        final double score = scoreSum.sum / count - threshold;
+        final double confidence = 1 / (1 + Math.exp(-Math.abs(score) * count));
+        return new ClassificationResult(score > 0, score, confidence);
+    }
+
+    /**
+     * Returns a classifier of the same language model, whose threshold maximizes the balanced accuracy (the average of
+     * the accuracies on English texts and on other texts) on the given texts.
+     */
+    public CharacterNGramEnglishClassifier tuneThreshold(final Collection<String> englishTexts,
+                    final Collection<String> otherTexts) {
+        final double[] englishScores = scores(englishTexts);
+        final double[] otherScores = scores(otherTexts);
+        final double[] allScores = new double[englishScores.length + otherScores.length];
+        System.arraycopy(englishScores, 0, allScores, 0, englishScores.length);
+        System.arraycopy(otherScores, 0, allScores, englishScores.length, otherScores.length);
+        Arrays.sort(allScores);
+        double bestThreshold = threshold;
+        double bestAccuracy = -1;
+        for (int index = 0; index + 1 < allScores.length; ++index) {
+            if (allScores[index] == allScores[index + 1]) {
+                continue;
+            }
+            // The middle of the gap between two consecutive scores. English if the score is above it.
+            final double candidate = (allScores[index] + allScores[index + 1]) / 2;
+            final double englishAccuracy =
+                            (double) countAbove(englishScores, candidate) / Math.max(englishScores.length, 1);
+            final double otherAccuracy = (double) (otherScores.length - countAbove(otherScores, candidate))
+                            / Math.max(otherScores.length, 1);
+            final double accuracy = (englishAccuracy + otherAccuracy) / 2;
+            if (accuracy > bestAccuracy) {
+                bestAccuracy = accuracy;
+                bestThreshold = threshold + candidate;
+            }
+        }
+        return new CharacterNGramEnglishClassifier(weights, bestThreshold);
+    }
+
+    /**
+     * Saves the classifier into the given language-model file and model file.
+     */
+    public void save(final File languageModelFile, final File modelFile) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(
+                        new BufferedOutputStream(new FileOutputStream(languageModelFile), BUFFER_SIZE))) {
+            output.writeInt(MAGIC);
+            output.writeInt(ORDER);
+            output.writeInt(TABLE_BITS);
+            for (float weight : weights) {
+                output.writeFloat(weight);
+            }
+        }
+        final Properties properties = new Properties();
+        properties.setProperty(THRESHOLD_PROPERTY, Double.toString(threshold));
+        try (OutputStream output = new FileOutputStream(modelFile)) {
+            properties.store(output, "Character n-gram English classifier");
+        }
+    }
+
+    public double getThreshold() {
+        return threshold;
+    }
+
+
+
+    private CharacterNGramEnglishClassifier(final float[] weights, final double threshold) {
+        super();
+        this.weights = weights;
+        this.threshold = threshold;
+    }
+
+    private double[] scores(final Collection<String> texts) {
+        final double[] ret = new double[texts.size()];
+        int index = 0;
+        for (String text : texts) {
+            ret[index++] = classify(text).score();
+        }
+        Arrays.sort(ret);
+        return ret;
+    }
+
+    /**
+     * Number of values greater than the given value, in the given sorted array.
+     */
+    private static int countAbove(final double[] sorted, final double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (sorted[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return sorted.length - low;
+    }
+
+    /**
+     * Counts the n-grams of the given texts by their slots, as scanned by {@link #classify(String)}.
+     *
+     * @return the total number of n-grams.
+     */
+    private static long addNGramCounts(final Collection<String> texts, final int[] counts) {
+        final long[] total = new long[1];
+        final NGramVisitor counter = new NGramVisitor() {
+            @Override
+            public void visit(int slot) {
+                ++counts[slot];
+                ++total[0];
+            }
+        };
+        for (String text : texts) {
+            scanNGrams(text, counter);
+        }
+        return total[0];
+    }
+
+    /**
+     * Scans the n-grams of the given text (of its first {@link #MAXIMUM_CHARACTERS} characters), and passes the slot of
+     * each of them to the given visitor. Null is treated as an empty text.
+     */
+    private static void scanNGrams(final String text, final NGramVisitor visitor) {
+        if (null == text) {
+            return;
+        }
+        long window = SPACE;
+        int length = 1;
+        boolean afterSpace = true;
+        final int end = Math.min(text.length(), MAXIMUM_CHARACTERS);
+        for (int index = 0; index <= end; ++index) {
+            final char c = (index < end) ? text.charAt(index) : SPACE;
+            if (Character.isLetter(c)) {
+                window = (window << Character.SIZE) | Character.toLowerCase(c);
+                afterSpace = false;
+            } else if (!afterSpace) {
+                window = (window << Character.SIZE) | SPACE;
+                afterSpace = true;
+            } else {
+                continue;
+            }
+            if (length < ORDER) {
+                ++length;
+            }
+            for (int n = 1; n <= length; ++n) {
+                visitor.visit(slot(window, n));
+            }
+        }
+    }
+
+    /**
+     * The slot of the n-gram of the last n characters of the given window (in which each character takes 16 bits).
+     */
+    private static int slot(final long window, final int n) {
+        final long nGram = window & ((1L << (Character.SIZE * n)) - 1);
+        return (int) (((nGram + n) * HASH_MULTIPLIER) >>> (Long.SIZE - TABLE_BITS));
+    }
+
+
+    private static interface NGramVisitor {
+        public void visit(int slot);
+    }
+
+    /**
+     * Sums the ratios of the visited n-grams.
+     */
+    private static final class ScoreSum implements NGramVisitor {
+        public ScoreSum(float[] weights) {
+            super();
+            this.weights = weights;
+        }
+
+        @Override
+        public void visit(int slot) {
+            sum += weights[slot];
+            ++count;
+        }
+
+        private final float[] weights;
+        private double sum = 0;
+        private int count = 0;
+    }
+
+
+    private static final char SPACE = ' ';
+    private static final int MAGIC = 0x4e47524d; // "NGRM"
+    private static final double SMOOTHING = 0.5;
+    private static final long HASH_MULTIPLIER = 0x9e3779b97f4a7c15L;
+    private static final String THRESHOLD_PROPERTY = "threshold";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final float[] weights;
+    private final double threshold;
+}
@@ -0,0 +1,52 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.question_feed;
+
+import java.io.File;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.QuestionFeederFromCorpus.ReplayOrder;
+
+/**
+ * Parameters (typically set in configuration file) for {@link QuestionFeederFromCorpus}.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class CorpusReplayParameters {
+    public CorpusReplayParameters(File corpusFile, ReplayOrder order, double questionsPerSecond) {
+        super();
+        this.corpusFile = corpusFile;
+        this.order = order;
+        this.questionsPerSecond = questionsPerSecond;
+    }
+
+
+    public File getCorpusFile() {
+        return corpusFile;
+    }
+
+    public ReplayOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * The replay rate. Zero means as fast as the questions are requested.
+     */
+    public double getQuestionsPerSecond() {
+        return questionsPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return "corpus = " + corpusFile.getPath() + ", order = " + order + ", questions per second = "
+                        + questionsPerSecond;
+    }
+
+
+
+    private final File corpusFile;
+    private final ReplayOrder order;
+    private final double questionsPerSecond;
+}
@@ -0,0 +1,174 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.question_feed;
+
+import static com.yahoo.yrlhaifa.liveqa.challenge.Constants.QUESTION_ID_YAHOO_ANSWERS_NAMESPACE_PREFIX;
+import static com.yahoo.yrlhaifa.liveqa.challenge.Constants.WORKING_CHARSET;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.QuestionFeedFatalException;
+import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
+
+/**
+ * A corpus of questions, in the tab-separated format of data/liveqa-5k.gz: qid, category, top-level category, date,
+ * title and body (the body might contain tabs as well). The file may be gzip-compressed.
+ * <P>
+ * The file is decompressed once, into a single byte array, and the start of each field of each question is indexed.
+ * The strings of a question are decoded only when the question is retrieved, so the corpus takes about the size of
+ * the uncompressed file in memory.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class QuestionCorpus {
+    public static final int NUMBER_OF_FIELDS = 6;
+
+    /**
+     * Loads the corpus from the given file. Lines with fewer than {@link #NUMBER_OF_FIELDS} fields are skipped.
+     */
+    public static QuestionCorpus load(final File file) throws QuestionFeedFatalException {
+        final long startTime = System.currentTimeMillis();
+        final byte[] data;
+        try (InputStream stream = file.getName().endsWith(GZIP_SUFFIX)
+                        ? new GZIPInputStream(new FileInputStream(file), BUFFER_SIZE) : new FileInputStream(file)) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream((int) Math.min(file.length() * 4, 1 << 26));
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            for (int length = stream.read(buffer); length >= 0; length = stream.read(buffer)) {
+                output.write(buffer, 0, length);
+            }
+            data = output.toByteArray();
+        } catch (IOException e) {
+            throw new QuestionFeedFatalException("Failed to read the question corpus " + file.getPath(), e);
+        }
+        QuestionCorpus corpus = new QuestionCorpus(data);
+        logger.info("Loaded " + corpus.size() + " questions, of " + corpus.getNumberOfTopLevelCategories()
+                        + " top-level categories, from " + file.getPath() + " in "
+                        + (System.currentTimeMillis() - startTime) + " milliseconds.");
+        return corpus;
+    }
+
+
+    public int size() {
+        return size;
+    }
+
+    public int getNumberOfTopLevelCategories() {
+        return topLevelCategories.size();
+    }
+
+    /**
+     * The index (in the range [0, {@link #getNumberOfTopLevelCategories()})) of the top-level category of the given
+     * question.
+     */
+    public int getTopLevelCategoryIndex(final int questionIndex) {
+        return topLevelCategoryIndexes[questionIndex];
+    }
+
+    /**
+     * Creates the question at the given index.
+     *
+     * @param idSuffix Appended to the question's ID, e.g., to distinguish between repetitions of the corpus.
+     * @param publishedDate The publication time given to the question.
+     */
+    public Question getQuestion(final int questionIndex, final String idSuffix, final Calendar publishedDate) {
+        final String id = QUESTION_ID_YAHOO_ANSWERS_NAMESPACE_PREFIX + field(questionIndex, QID_FIELD) + idSuffix;
+        return new Question(id, field(questionIndex, TITLE_FIELD), field(questionIndex, BODY_FIELD),
+                        field(questionIndex, CATEGORY_FIELD), publishedDate);
+    }
+
+
+
+    private QuestionCorpus(final byte[] data) {
+        super();
+        this.data = data;
+        final Map<String, Integer> categoryIndexes = new LinkedHashMap<String, Integer>();
+        int[] starts = new int[1024 * FIELD_STARTS_PER_QUESTION];
+        int[] categories = new int[1024];
+        int count = 0;
+        int lineStart = 0;
+        while (lineStart < data.length) {
+            int lineEnd = lineStart;
+            while ((lineEnd < data.length) && (data[lineEnd] != '\n')) {
+                ++lineEnd;
+            }
+            final int next = lineEnd + 1;
+            if ((lineEnd > lineStart) && (data[lineEnd - 1] == '\r')) {
+                --lineEnd;
+            }
+            if ((count + 1) * FIELD_STARTS_PER_QUESTION > starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+                categories = Arrays.copyOf(categories, categories.length * 2);
+            }
+            final int base = count * FIELD_STARTS_PER_QUESTION;
+            int field = 0;
+            starts[base] = lineStart;
+            for (int position = lineStart; (position < lineEnd) && (field < BODY_FIELD); ++position) {
+                if (data[position] == '\t') {
+                    starts[base + (++field)] = position + 1;
+                }
+            }
+            if (field == BODY_FIELD) {
+                starts[base + NUMBER_OF_FIELDS] = lineEnd + 1; // As if the line ended by a tab.
+                final String topLevelCategory = decode(starts[base + TOP_LEVEL_CATEGORY_FIELD],
+                                starts[base + TOP_LEVEL_CATEGORY_FIELD + 1] - 1);
+                Integer categoryIndex = categoryIndexes.get(topLevelCategory);
+                if (null == categoryIndex) {
+                    categoryIndex = categoryIndexes.size();
+                    categoryIndexes.put(topLevelCategory, categoryIndex);
+                }
+                categories[count] = categoryIndex;
+                ++count;
+            } else if (lineEnd > lineStart) {
+                logger.warn("Skipping a malformed line of the question corpus: \"" + decode(lineStart, lineEnd) + "\"");
+            }
+            lineStart = next;
+        }
+        this.size = count;
+        this.fieldStarts = starts;
+        this.topLevelCategoryIndexes = categories;
+        this.topLevelCategories = new ArrayList<String>(categoryIndexes.keySet());
+    }
+
+    private String field(final int questionIndex, final int field) {
+        final int base = questionIndex * FIELD_STARTS_PER_QUESTION;
+        return decode(fieldStarts[base + field], fieldStarts[base + field + 1] - 1);
+    }
+
+    private String decode(final int start, final int end) {
+        return new String(data, start, end - start, WORKING_CHARSET);
+    }
+
+
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final int QID_FIELD = 0;
+    private static final int CATEGORY_FIELD = 1;
+    private static final int TOP_LEVEL_CATEGORY_FIELD = 2;
+    private static final int TITLE_FIELD = 4;
+    private static final int BODY_FIELD = 5;
+    // The start of each field, and the end of the line (plus one).
+    private static final int FIELD_STARTS_PER_QUESTION = NUMBER_OF_FIELDS + 1;
+
+    private final byte[] data;
+    private final int size;
+    private final int[] fieldStarts;
+    private final int[] topLevelCategoryIndexes;
+    private final List<String> topLevelCategories;
+
+    private static final org.apache.log4j.Logger logger = org.apache.log4j.Logger.getLogger(QuestionCorpus.class);
+}
@@ -5,6 +5,7 @@ package com.yahoo.yrlhaifa.liveqa.challenge.question_feed;
 
 import com.yahoo.yrlhaifa.liveqa.challenge.ChallengeAutoCloseable;
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.QuestionFeedFatalException;
+import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
 
 /**
  * Feeds questions to the system. Each call to {@link #next()} returns the next question.
@@ -16,4 +17,16 @@ import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.QuestionFeedFatalException
  */
 public interface QuestionFeeder extends ChallengeAutoCloseable {
     public QuestionFeederNextQuestion next() throws QuestionFeedFatalException;
+
+    /**
+     * Called when the operation on a question returned by {@link #next()} starts, i.e., when the question is actually
+     * sent to the participants. A question which is never sent (e.g., it expired while waiting for admission) is not
+     * reported.
+     */
+    public void questionDispatched(Question question) throws QuestionFeedFatalException;
+
+    /**
+     * Statistics of the feeder (e.g., of its filters), for logging.
+     */
+    public String statistics();
 }
@@ -3,6 +3,8 @@
 
 package com.yahoo.yrlhaifa.liveqa.challenge.question_feed;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -10,6 +12,8 @@ import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeSystemException;
 import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.AggregatedQuestionFilter;
 import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.BadWordsQuestionFilter;
 import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.ByCategoryFilter;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.CategoryTaxonomy;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.NearDuplicateQuestionFilter;
 import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.QuestionFilter;
 import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
 
@@ -22,6 +26,20 @@ import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
  * 
  */
 public class QuestionFeederFactory {
+    /**
+     * The available sources of questions.
+     */
+    public static enum FeedType {
+        /**
+         * The live RSS feed of Yahoo Answers' questions ({@link QuestionFeederFromRss}).
+         */
+        RSS,
+        /**
+         * Replay of a question corpus, for offline load tests ({@link QuestionFeederFromCorpus}).
+         */
+        REPLAY;
+    }
+
     public QuestionFeederFactory(QuestionFeederFactoryParameters feederParameters) {
         super();
         this.feederParameters = feederParameters;
@@ -29,44 +47,108 @@ public class QuestionFeederFactory {
 
     public QuestionFeeder createQuestionFeeder() throws ChallengeSystemException {
         List<QuestionFilter> filters = new LinkedList<>();
-        filters.add(new DummyEnglishClassifierQuestionFilter());
+        filters.add(new EnglishClassifierQuestionFilter(createEnglishClassifier()));
         filters.add(BadWordsQuestionFilter.createInstanceFromFile(feederParameters.getBadWordsFile().getPath()));
         if (feederParameters.getFilterCategories() != null) {
-            filters.add(new ByCategoryFilter(feederParameters.getFilterCategories(),
+            filters.add(new ByCategoryFilter(loadCategoryTaxonomy(), feederParameters.getFilterCategories(),
                             feederParameters.getCategoryFilterIsBlacklist()));
         }
+        // A replay passes over the corpus again and again, so each question of a pass is a duplicate of the same
+        // question of the previous pass. Filtering near-duplicates would leave every pass but the first empty.
+        if ((feederParameters.getNearDuplicateWindowMilliseconds() > 0)
+                        && (feederParameters.getFeedType() != FeedType.REPLAY)) {
+            filters.add(new NearDuplicateQuestionFilter(feederParameters.getNearDuplicateWindowMilliseconds(),
+                            feederParameters.getNearDuplicateMaximumDistance()));
+        }
+
+        QuestionFilter filter = new AggregatedQuestionFilter(filters, feederParameters.isAdaptiveFilterOrder());
+
+        if (FeedType.REPLAY == feederParameters.getFeedType()) {
+            // Replayed questions are not recorded as asked, since the replay is not a part of the challenge.
+            final CorpusReplayParameters replayParameters = feederParameters.getReplayParameters();
+            return new QuestionFeederFromCorpus(filter, QuestionCorpus.load(replayParameters.getCorpusFile()),
+                            replayParameters.getOrder(), replayParameters.getQuestionsPerSecond());
+        }
 
-        QuestionFilter filter = new AggregatedQuestionFilter(filters);
+        AskedQuestionIndex askedQuestions = null;
+        if (feederParameters.getAskedQuestionsFile() != null) {
+            askedQuestions = AskedQuestionIndex.open(feederParameters.getAskedQuestionsFile());
+        }
 
-        QuestionFeederFromRss feeder = new QuestionFeederFromRss(filter, feederParameters.getRssUrl(),
-                        feederParameters.getMaximumAgeOfQuestion());
+        final RssPollingParameters rssParameters = feederParameters.getRssPollingParameters();
+        QuestionFeederFromRss feeder = new QuestionFeederFromRss(filter, askedQuestions, rssParameters.getRssUrl(),
+                        feederParameters.getMaximumAgeOfQuestion(), rssParameters.getPollIntervalMilliseconds(),
+                        rssParameters.getLookAheadThreads());
 
         return feeder;
     }
 
 
-    private class DummyEnglishClassifierQuestionFilter implements QuestionFilter {
+    /**
+     * Loads the English classifier, or returns null (such that all the questions are considered English) if no model is
+     * configured, or the model files do not exist.
+     */
+    private EnglishClassifier createEnglishClassifier() throws ChallengeSystemException {
+        final File languageModelFile = feederParameters.getEnglishClassifierLanguageModelFile();
+        final File modelFile = feederParameters.getEnglishClassifierModelFile();
+        if ((null == languageModelFile) || (null == modelFile)) {
+            logger.warn("No English classifier is configured. Questions are not filtered by language.");
+            return null;
+        }
+        if (!(languageModelFile.exists() && modelFile.exists())) {
+            logger.warn("The English classifier files " + languageModelFile.getPath() + " and " + modelFile.getPath()
+                            + " do not exist. Questions are not filtered by language.");
+            return null;
+        }
+        try {
+            EnglishClassifier classifier = CharacterNGramEnglishClassifier.load(languageModelFile, modelFile);
+            logger.info("Loaded the English classifier from " + languageModelFile.getPath() + " and "
+                            + modelFile.getPath());
+            return classifier;
+        } catch (IOException e) {
+            throw new ChallengeSystemException("Could not construct English classifier.", e);
+        }
+    }
 
-        private EnglishClassifier classifier;
 
-        public DummyEnglishClassifierQuestionFilter() throws ChallengeSystemException {
-            try {
-                // TODO initialize English language classifier, change log message
-                logger.warn("No English classifier implemented, using dummy classifier.");
-            } catch (Exception e) {
-                throw new ChallengeSystemException("Could not construct English classifier.", e);
-            }
+    /**
+     * Loads the category taxonomy, or returns null if no taxonomy is configured (such that each filter category stands
+     * for itself only).
+     */
+    private CategoryTaxonomy loadCategoryTaxonomy() throws ChallengeSystemException {
+        if (null == feederParameters.getCategoryTaxonomyFile()) {
+            return null;
+        }
+        try {
+            return CategoryTaxonomy.load(feederParameters.getCategoryTaxonomyFile(),
+                            feederParameters.getCategoryParentsFile());
+        } catch (IOException e) {
+            throw new ChallengeSystemException("Could not load the category taxonomy.", e);
+        }
+    }
 
+
+    private static class EnglishClassifierQuestionFilter implements QuestionFilter {
+
+        private final EnglishClassifier classifier;
+
+        /**
+         * @param classifier The English classifier, or null if all the questions are considered English.
+         */
+        public EnglishClassifierQuestionFilter(EnglishClassifier classifier) {
+            super();
+            this.classifier = classifier;
         }
 
         @Override
         public boolean questionOK(Question question) {
-        	if (classifier == null) {
-        		logger.warn("No English classifier implemented, using dummy classifier.");
-        		return true;
+            if (classifier == null) {
+                return true;
             }
-        	
-        	String questionString = (question.getTitle() + " " + question.getBody()).replaceAll("\\s+", " ");
+
+            // A missing title or body is an empty text, rather than the text "null".
+            String questionString = ((question.getTitle() != null) ? question.getTitle() : "") + " "
+                            + ((question.getBody() != null) ? question.getBody() : "");
             boolean ok = classifier.classify(questionString).label();
             if (ok) {
                 logger.info("Question " + question.getId() + " was classified as an English question.");
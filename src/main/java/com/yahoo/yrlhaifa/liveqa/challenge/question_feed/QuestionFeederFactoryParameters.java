@@ -6,6 +6,7 @@ package com.yahoo.yrlhaifa.liveqa.challenge.question_feed;
 import java.io.File;
 import java.util.Set;
 
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.QuestionFeederFactory.FeedType;
 import com.yahoo.yrlhaifa.liveqa.common.HoursMinutesSeconds;
 
 /**
@@ -17,25 +18,68 @@ import com.yahoo.yrlhaifa.liveqa.common.HoursMinutesSeconds;
  * 
  */
 public class QuestionFeederFactoryParameters {
-    public QuestionFeederFactoryParameters(String rssUrl, HoursMinutesSeconds maximumAgeOfQuestion, File badWordsFile,
-                    Set<String> filterCategories, boolean categoryFilterIsBlacklist) {
+    public QuestionFeederFactoryParameters(FeedType feedType, CorpusReplayParameters replayParameters,
+                    RssPollingParameters rssPollingParameters, HoursMinutesSeconds maximumAgeOfQuestion,
+                    File englishClassifierLanguageModelFile, File englishClassifierModelFile, File badWordsFile,
+                    Set<String> filterCategories, boolean categoryFilterIsBlacklist, File categoryTaxonomyFile,
+                    File categoryParentsFile, long nearDuplicateWindowMilliseconds, int nearDuplicateMaximumDistance,
+                    boolean adaptiveFilterOrder, File askedQuestionsFile) {
         super();
-        this.rssUrl = rssUrl;
+        this.feedType = feedType;
+        this.replayParameters = replayParameters;
+        this.rssPollingParameters = rssPollingParameters;
         this.maximumAgeOfQuestion = maximumAgeOfQuestion;
+        this.englishClassifierLanguageModelFile = englishClassifierLanguageModelFile;
+        this.englishClassifierModelFile = englishClassifierModelFile;
         this.badWordsFile = badWordsFile;
         this.filterCategories = filterCategories;
         this.categoryFilterIsBlacklist = categoryFilterIsBlacklist;
+        this.categoryTaxonomyFile = categoryTaxonomyFile;
+        this.categoryParentsFile = categoryParentsFile;
+        this.nearDuplicateWindowMilliseconds = nearDuplicateWindowMilliseconds;
+        this.nearDuplicateMaximumDistance = nearDuplicateMaximumDistance;
+        this.adaptiveFilterOrder = adaptiveFilterOrder;
+        this.askedQuestionsFile = askedQuestionsFile;
     }
 
 
-    public String getRssUrl() {
-        return rssUrl;
+    public FeedType getFeedType() {
+        return feedType;
+    }
+
+    /**
+     * The parameters of the {@link FeedType#REPLAY} feed, or null for other feeds.
+     */
+    public CorpusReplayParameters getReplayParameters() {
+        return replayParameters;
+    }
+
+    /**
+     * The parameters of the {@link FeedType#RSS} feed, or null for other feeds.
+     */
+    public RssPollingParameters getRssPollingParameters() {
+        return rssPollingParameters;
     }
 
     public HoursMinutesSeconds getMaximumAgeOfQuestion() {
         return maximumAgeOfQuestion;
     }
 
+    /**
+     * The language-model file of {@link CharacterNGramEnglishClassifier}, or null if questions are not filtered by
+     * language.
+     */
+    public File getEnglishClassifierLanguageModelFile() {
+        return englishClassifierLanguageModelFile;
+    }
+
+    /**
+     * The model file of {@link CharacterNGramEnglishClassifier}, or null if questions are not filtered by language.
+     */
+    public File getEnglishClassifierModelFile() {
+        return englishClassifierModelFile;
+    }
+
     public File getBadWordsFile() {
         return badWordsFile;
     }
@@ -48,13 +92,74 @@ public class QuestionFeederFactoryParameters {
         return categoryFilterIsBlacklist;
     }
 
+    /**
+     * The file of the category names of
+     * {@link com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.CategoryTaxonomy}, or null if the filter
+     * categories have no sub-categories.
+     */
+    public File getCategoryTaxonomyFile() {
+        return categoryTaxonomyFile;
+    }
+
+    /**
+     * The file of the category parents of
+     * {@link com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.CategoryTaxonomy}, or null if the categories
+     * have no parents.
+     */
+    public File getCategoryParentsFile() {
+        return categoryParentsFile;
+    }
+
+    /**
+     * How long a question is remembered by
+     * {@link com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.NearDuplicateQuestionFilter}. Zero means that
+     * near-duplicate questions are not filtered out. They are never filtered out of the {@link FeedType#REPLAY} feed.
+     */
+    public long getNearDuplicateWindowMilliseconds() {
+        return nearDuplicateWindowMilliseconds;
+    }
+
+    /**
+     * The maximum number of different bits of the SimHashes of near-duplicate questions.
+     */
+    public int getNearDuplicateMaximumDistance() {
+        return nearDuplicateMaximumDistance;
+    }
 
+    /**
+     * Whether the question filters are reordered by their measured cost and rejection rate (see
+     * {@link com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.AggregatedQuestionFilter}).
+     */
+    public boolean isAdaptiveFilterOrder() {
+        return adaptiveFilterOrder;
+    }
 
-    private final String rssUrl;
+    /**
+     * The file of the IDs of the questions that have already been asked, or null if asked questions are not tracked.
+     */
+    public File getAskedQuestionsFile() {
+        return askedQuestionsFile;
+    }
+
+
+
+    private final FeedType feedType;
+    private final CorpusReplayParameters replayParameters;
+
+    private final RssPollingParameters rssPollingParameters;
     private final HoursMinutesSeconds maximumAgeOfQuestion;
 
+    private final File englishClassifierLanguageModelFile;
+    private final File englishClassifierModelFile;
     private final File badWordsFile;
 
     private final Set<String> filterCategories;
     private final boolean categoryFilterIsBlacklist;
+    private final File categoryTaxonomyFile;
+    private final File categoryParentsFile;
+    private final long nearDuplicateWindowMilliseconds;
+    private final int nearDuplicateMaximumDistance;
+    private final boolean adaptiveFilterOrder;
+
+    private final File askedQuestionsFile;
 }
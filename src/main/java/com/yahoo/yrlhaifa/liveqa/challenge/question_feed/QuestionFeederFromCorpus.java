@@ -0,0 +1,168 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.question_feed;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeCloseException;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.QuestionFeedFatalException;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.QuestionFilter;
+import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
+
+/**
+ * A {@link QuestionFeeder} which replays the questions of a {@link QuestionCorpus}, at a given rate, such that the
+ * system can be load-tested offline.
+ * <P>
+ * The questions are given the current time as their publication time. When the corpus is exhausted, it is replayed
+ * again, in the same order, and the IDs of the repeated questions get the suffix "-N" (N being the repetition number),
+ * so that they are stored as distinct questions.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class QuestionFeederFromCorpus extends QuestionFeederWithFilter {
+    /**
+     * The order by which the corpus questions are replayed.
+     */
+    public static enum ReplayOrder {
+        /**
+         * The order of the corpus file.
+         */
+        ORIGINAL,
+        /**
+         * A random order, which is the same in all runs.
+         */
+        SHUFFLED,
+        /**
+         * The top-level categories take turns, so that the categories are equally represented throughout the replay
+         * (until the questions of the smaller categories are exhausted). Each category's questions are in the order
+         * of the corpus file.
+         */
+        STRATIFIED
+    }
+
+    /**
+     * @param questionsPerSecond The replay rate. Zero means as fast as the questions are requested.
+     */
+    public QuestionFeederFromCorpus(QuestionFilter questionFilter, QuestionCorpus corpus, ReplayOrder order,
+                    double questionsPerSecond) {
+        super(questionFilter);
+        this.corpus = corpus;
+        this.order = createOrder(corpus, order);
+        this.intervalNanoseconds =
+                        (questionsPerSecond > 0) ? (long) (TimeUnit.SECONDS.toNanos(1) / questionsPerSecond) : 0;
+    }
+
+
+    @Override
+    public void close() throws ChallengeCloseException {}
+
+
+    @Override
+    protected QuestionFeederNextQuestion nextBeforeFiltring(final Set<String> excludeIDs)
+                    throws QuestionFeedFatalException {
+        if (excludeIDs.size() >= order.length) {
+            return null; // All the questions have been filtered out.
+        }
+        if (excludeIDs.isEmpty()) {
+            // A new question is requested. Questions which are filtered out are not paced.
+            try {
+                waitForNextQuestionTime();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new QuestionFeederNextQuestion(null, null, "Interrupted while waiting to replay a question.");
+            }
+        }
+        final int questionIndex = order[position];
+        final String idSuffix = (repetition > 0) ? ("-" + repetition) : "";
+        ++position;
+        if (position == order.length) {
+            position = 0;
+            ++repetition;
+            logger.info("The question corpus has been replayed " + repetition + " time(s). Replaying it again.");
+        }
+        final Calendar now = Calendar.getInstance(Constants.WORKING_TIME_ZONE, Constants.WORKING_LOCALE);
+        final Question question = corpus.getQuestion(questionIndex, idSuffix, now);
+        return new QuestionFeederNextQuestion(question.getId(), question, null);
+    }
+
+
+    private void waitForNextQuestionTime() throws InterruptedException {
+        if (0 == intervalNanoseconds) {
+            return;
+        }
+        final long now = System.nanoTime();
+        long questionNanoTime = now;
+        if (started) {
+            if (nextQuestionNanoTime > now) {
+                TimeUnit.NANOSECONDS.sleep(nextQuestionNanoTime - now);
+                questionNanoTime = nextQuestionNanoTime;
+            }
+            // else - the system has lagged behind. The lost time is not made up by a burst of questions.
+        }
+        started = true;
+        nextQuestionNanoTime = questionNanoTime + intervalNanoseconds;
+    }
+
+    private static int[] createOrder(final QuestionCorpus corpus, final ReplayOrder order) {
+        final int[] ret = new int[corpus.size()];
+        switch (order) {
+            case ORIGINAL:
+                for (int index = 0; index < ret.length; ++index) {
+                    ret[index] = index;
+                }
+                break;
+            case SHUFFLED:
+                for (int index = 0; index < ret.length; ++index) {
+                    ret[index] = index;
+                }
+                final Random random = new Random(Constants.REPLAY_SHUFFLE_SEED);
+                for (int index = ret.length - 1; index > 0; --index) {
+                    final int other = random.nextInt(index + 1);
+                    final int swap = ret[index];
+                    ret[index] = ret[other];
+                    ret[other] = swap;
+                }
+                break;
+            case STRATIFIED:
+                final List<List<Integer>> byCategory = new ArrayList<List<Integer>>();
+                for (int category = 0; category < corpus.getNumberOfTopLevelCategories(); ++category) {
+                    byCategory.add(new ArrayList<Integer>());
+                }
+                for (int index = 0; index < ret.length; ++index) {
+                    byCategory.get(corpus.getTopLevelCategoryIndex(index)).add(index);
+                }
+                int filled = 0;
+                for (int turn = 0; filled < ret.length; ++turn) {
+                    for (List<Integer> questions : byCategory) {
+                        if (turn < questions.size()) {
+                            ret[filled++] = questions.get(turn);
+                        }
+                    }
+                }
+                break;
+        }
+        return ret;
+    }
+
+
+    private final QuestionCorpus corpus;
+    private final int[] order;
+    private final long intervalNanoseconds;
+
+    private int position = 0;
+    private int repetition = 0;
+    private boolean started = false;
+    private long nextQuestionNanoTime = 0;
+
+    private static final org.apache.log4j.Logger logger =
+                    org.apache.log4j.Logger.getLogger(QuestionFeederFromCorpus.class);
+}
@@ -3,23 +3,15 @@
 
 package com.yahoo.yrlhaifa.liveqa.challenge.question_feed;
 
-import java.io.IOException;
-import java.net.URL;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.Iterator;
 import java.util.Set;
 
-import com.sun.syndication.feed.synd.SyndEntry;
-import com.sun.syndication.feed.synd.SyndFeed;
-import com.sun.syndication.io.FeedException;
-import com.sun.syndication.io.SyndFeedInput;
-import com.sun.syndication.io.XmlReader;
+import com.yahoo.yrlhaifa.liveqa.challenge.ChallengeSystemUtilities;
 import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeCloseException;
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.QuestionFeedBugException;
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.QuestionFeedFatalException;
-import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.QuestionFeedNonFatalException;
 import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.QuestionFilter;
 import com.yahoo.yrlhaifa.liveqa.common.HoursMinutesSeconds;
 
@@ -33,18 +25,44 @@ import com.yahoo.yrlhaifa.liveqa.common.HoursMinutesSeconds;
  *
  */
 public class QuestionFeederFromRss extends QuestionFeederWithFilter {
-    public QuestionFeederFromRss(QuestionFilter questionFilter, String rssUrl,
-                    HoursMinutesSeconds maximumAgeOfQuestion) {
-        super(questionFilter);
+    /**
+     * @param askedQuestions The questions that have already been asked, or null to not track them. The feeder closes
+     *        it.
+     * @param lookAheadThreads If positive, the questions are filtered by the {@link RssFeedPoller} right after each
+     *        read of the feed, by this number of threads. Otherwise, they are filtered when taken.
+     */
+    public QuestionFeederFromRss(QuestionFilter questionFilter, AskedQuestionIndex askedQuestions, String rssUrl,
+                    HoursMinutesSeconds maximumAgeOfQuestion, long pollIntervalMilliseconds, int lookAheadThreads) {
+        super(questionFilter, askedQuestions);
         this.rssUrl = rssUrl;
         this.maximumAgeOfQuestion = maximumAgeOfQuestion;
+        this.lookAhead = (lookAheadThreads > 0);
+        this.poller = new RssFeedPoller(rssUrl, pollIntervalMilliseconds, maximumAgeOfQuestion,
+                        lookAhead ? questionFilter : null, lookAheadThreads);
     }
 
 
     @Override
-    public void close() throws ChallengeCloseException {}
+    public void close() throws ChallengeCloseException {
+        try {
+            poller.close();
+        } finally {
+            if (askedQuestions != null) {
+                askedQuestions.close();
+            }
+        }
+    }
 
 
+    @Override
+    protected boolean candidatesArePreFiltered() {
+        return lookAhead;
+    }
+
+    /**
+     * Takes the freshest entry that has been read by the {@link RssFeedPoller}, and has not been taken before. Does not
+     * wait for the network, except for the first time, in which the first read of the feed is awaited.
+     */
     @Override
     protected QuestionFeederNextQuestion nextBeforeFiltring(final Set<String> excludeIDs)
                     throws QuestionFeedFatalException {
@@ -52,42 +70,33 @@ public class QuestionFeederFromRss extends QuestionFeederWithFilter {
             previousSentTime = previousCandidateTime;
         }
         try {
-            SyndFeedInput input = new SyndFeedInput();
-            SyndFeed feed = input.build(new XmlReader(new URL(rssUrl)));
-
-            QuestionFromRssEntry fromRss = null;
-            QuestionFeederNextQuestion ret = null;
-            @SuppressWarnings("unchecked")
-            Iterator<? extends Object> entryObjectsIterator = feed.getEntries().iterator();
-            while (entryObjectsIterator.hasNext() && (null == ret)) {
-                Object entryObj = entryObjectsIterator.next();
-                if (entryObj instanceof SyndEntry) {
-                    try {
-                        SyndEntry entry = (SyndEntry) entryObj;
-                        fromRss = QuestionFromRssEntry.createFromRssEntry(entry);
-                        if (!(excludeIDs.contains(fromRss.getId()))) {
-                            ret = createQuestionFromRssQuestion(fromRss);
-                        } else {
-                            // else - ret is null, and loop continues.
-                            logger.info("Encountered a filtered question \"" + fromRss.getId()
-                                            + "\". Searching for another question.");
-                        }
-                    } catch (QuestionFeedNonFatalException e) {
-                        logger.error("Reading an RSS feed has failed. Assuming this is not a permanent problem, the program continues and tries to read the next feed.",
-                                        e);
-                    }
-                } else {
-                    logger.error("One of the entries in the list of RSS feed entries is not a \"SyndEntry\". Program continues, with the hope that other entries are fine.");
-                }
-            } // end of while
-              // Note: it is OK to return null here. If iterator.hasNext()==false, then null is returned.
-            return ret;
-        } catch (IllegalArgumentException | FeedException | IOException e) {
-            logger.error("Failed to read RSS feed. It is assumed that this is a local problem and not an inherent failure.\n"
-                            + "This failure will be dealt with by higher levels, but is not considered as fatal. Problem is:",
-                            e);
-            return new QuestionFeederNextQuestion(null, null, e.getClass().getName() + ": " + e.getMessage());
+            poller.awaitFirstPoll(Constants.RSS_FETCH_TIMEOUT_MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new QuestionFeederNextQuestion(null, null, "Interrupted while waiting for the RSS feed.");
+        }
+        poller.checkFatalFailure();
+
+        QuestionFromRssEntry fromRss = poller.pollFreshest();
+        // Entries which are not newer than the previously sent question would never be sent.
+        while ((fromRss != null) && (previousSentTime != null)
+                        && (!previousSentTime.before(fromRss.getPublishedDate()))) {
+            fromRss = poller.pollFreshest();
         }
+        if (null == fromRss) {
+            if (!excludeIDs.isEmpty()) {
+                // No more candidates.
+                return null;
+            }
+            final String lastFailure = poller.getLastFailure();
+            if (lastFailure != null) {
+                return new QuestionFeederNextQuestion(null, null, lastFailure);
+            }
+            logger.info("Could not find a question that is newer than the one previously sent.");
+            return new QuestionFeederNextQuestion(null, null,
+                            "No new question was asked since the last question was sent.");
+        }
+        return createQuestionFromRssQuestion(fromRss);
     }
 
     private QuestionFeederNextQuestion createQuestionFromRssQuestion(final QuestionFromRssEntry fromRss)
@@ -98,13 +107,7 @@ public class QuestionFeederFromRss extends QuestionFeederWithFilter {
         Calendar current = Calendar.getInstance(Constants.WORKING_TIME_ZONE, Constants.WORKING_LOCALE);
         current.setTime(new Date());
 
-        Calendar publishedPlusMaximumAge = Calendar.getInstance(Constants.WORKING_TIME_ZONE, Constants.WORKING_LOCALE);
-        publishedPlusMaximumAge.setTime(publishedDate.getTime());
-        publishedPlusMaximumAge.add(Calendar.HOUR, maximumAgeOfQuestion.getHours());
-        publishedPlusMaximumAge.add(Calendar.MINUTE, maximumAgeOfQuestion.getMinutes());
-        publishedPlusMaximumAge.add(Calendar.SECOND, maximumAgeOfQuestion.getSeconds());
-
-        if (publishedPlusMaximumAge.before(current)) {
+        if (ChallengeSystemUtilities.olderThan(publishedDate, maximumAgeOfQuestion, current)) {
             logger.info("Cound not find sufficiently-fresh question.");
             ret = new QuestionFeederNextQuestion(null, null,
                             "Freshest question is too old. Current time = " + printTime(current)
@@ -149,6 +152,8 @@ public class QuestionFeederFromRss extends QuestionFeederWithFilter {
     // input
     protected final String rssUrl;
     protected final HoursMinutesSeconds maximumAgeOfQuestion;
+    private final boolean lookAhead;
+    private final RssFeedPoller poller;
 
 
     // internals
@@ -7,12 +7,18 @@ import java.util.LinkedHashSet;
 import java.util.Set;
 
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.QuestionFeedFatalException;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.AggregatedQuestionFilter;
 import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.QuestionFilter;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.StatefulQuestionFilter;
+import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
 
 
 /**
  * An abstract implementation of {@link QuestionFeeder} that returns only those questions that pass a given
- * {@link QuestionFilter}.
+ * {@link QuestionFilter}. If an {@link AskedQuestionIndex} is given, questions which have already been asked (possibly
+ * by a previous run of the challenge) are skipped, and each question is recorded as asked when it is dispatched to the
+ * participants (see {@link #questionDispatched(Question)}), so a question which is never sent can be asked after a
+ * restart. If the filter is a {@link StatefulQuestionFilter}, it is notified of each returned question.
  *
  * Date: Jan 15, 2015
  * 
@@ -21,8 +27,16 @@ import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.QuestionFilter;
  */
 public abstract class QuestionFeederWithFilter implements QuestionFeeder {
     public QuestionFeederWithFilter(QuestionFilter questionFilter) {
+        this(questionFilter, null);
+    }
+
+    /**
+     * @param askedQuestions The questions that have already been asked, or null to not track them.
+     */
+    public QuestionFeederWithFilter(QuestionFilter questionFilter, AskedQuestionIndex askedQuestions) {
         super();
         this.questionFilter = questionFilter;
+        this.askedQuestions = askedQuestions;
     }
 
 
@@ -37,7 +51,11 @@ public abstract class QuestionFeederWithFilter implements QuestionFeeder {
                 ret = new QuestionFeederNextQuestion(null, null,
                                 "No sufficiently-fresh question that passes the filter(s) could be retrieved.");
             } else if (candidate.isFeedSucceeded()) {
-                if (questionFilter.questionOK(candidate.getQuestion())) {
+                if ((askedQuestions != null) && askedQuestions.contains(candidate.getId())) {
+                    logger.info("Question " + candidate.getId() + " has already been asked.");
+                    excludeIDs.add(candidate.getId());
+                } else if ((candidatesArePreFiltered() || questionFilter.questionOK(candidate.getQuestion()))
+                                && selected(candidate)) {
                     ret = candidate;
                 } else {
                     logger.debug("Question " + candidate.getId() + " is filtered out.");
@@ -53,6 +71,31 @@ public abstract class QuestionFeederWithFilter implements QuestionFeeder {
         return ret;
     }
 
+    /**
+     * Records the question as asked, if an {@link AskedQuestionIndex} is given.
+     */
+    @Override
+    public void questionDispatched(final Question question) throws QuestionFeedFatalException {
+        if (askedQuestions != null) {
+            askedQuestions.add(question.getId());
+        }
+    }
+
+    @Override
+    public String statistics() {
+        if (questionFilter instanceof AggregatedQuestionFilter) {
+            return "filters: " + ((AggregatedQuestionFilter) questionFilter).statistics();
+        }
+        return "";
+    }
+
+
+    private boolean selected(QuestionFeederNextQuestion candidate) {
+        if (questionFilter instanceof StatefulQuestionFilter) {
+            return ((StatefulQuestionFilter) questionFilter).questionSelected(candidate.getQuestion());
+        }
+        return true;
+    }
 
     /**
      * May return null if no more questions are available.
@@ -62,8 +105,17 @@ public abstract class QuestionFeederWithFilter implements QuestionFeeder {
     protected abstract QuestionFeederNextQuestion nextBeforeFiltring(final Set<String> excludeIDs)
                     throws QuestionFeedFatalException;
 
+    /**
+     * Returns true if the candidates returned by {@link #nextBeforeFiltring(Set)} have already passed the filter (e.g.,
+     * by a look-ahead stage), so they are not evaluated again.
+     */
+    protected boolean candidatesArePreFiltered() {
+        return false;
+    }
+
 
     protected final QuestionFilter questionFilter;
+    protected final AskedQuestionIndex askedQuestions;
 
     private static final org.apache.log4j.Logger logger =
                     org.apache.log4j.Logger.getLogger(QuestionFeederWithFilter.class);
@@ -35,13 +35,32 @@ public class QuestionFromRssEntry {
         if (null == rssSyndEntry) {
             throw new QuestionFeedBugException("Received null rssSyncEntry.");
         }
+        return createFromRssFields((null == rssSyndEntry.getTitleEx()) ? null : rssSyndEntry.getTitleEx().getValue(),
+                        rssSyndEntry.getLink(),
+                        (null == rssSyndEntry.getDescription()) ? null : rssSyndEntry.getDescription().getValue(),
+                        rssSyndEntry.getPublishedDate());
+    }
+
+    /**
+     * Creates the question from the values of an RSS entry's fields, as read by {@link RssEntryStreamReader} (or by
+     * ROME).
+     *
+     * @param grossTitle The entry's title, which includes the category.
+     * @param link The entry's link, which includes the question ID.
+     * @param description The entry's description, which is the question's body.
+     * @param publishedDateObject The entry's publication date.
+     */
+    public static QuestionFromRssEntry createFromRssFields(final String grossTitle, final String link,
+                    final String description, final Date publishedDateObject) throws QuestionFeedNonFatalException {
         String id = null;
         String title = null;
         String body = null;
         Calendar publishedDate = null;
         String category = null;
 
-        final String grossTitle = rssSyndEntry.getTitleEx().getValue();
+        if (null == grossTitle) {
+            throw new QuestionFeedNonFatalException("Missing title.");
+        }
         boolean titleAndCategoryExtractionOK = false;
         int categoryStartIndex = grossTitle.indexOf(CATEGORY_START);
         if (categoryStartIndex >= 0) {
@@ -60,13 +79,15 @@ public class QuestionFromRssEntry {
                             "Failed to extract title and category. The gross title is: \"" + grossTitle + "\".");
         }
 
-        id = extractIdFromLink(rssSyndEntry.getLink());
+        id = extractIdFromLink(link);
         if (null == id) {
-            throw new QuestionFeedNonFatalException("Failed to extract ID. line = " + rssSyndEntry.getLink());
+            throw new QuestionFeedNonFatalException("Failed to extract ID. line = " + link);
+        }
+        if (null == description) {
+            throw new QuestionFeedNonFatalException("Missing description. link = " + link);
         }
-        body = rssSyndEntry.getDescription().getValue();
+        body = description;
         publishedDate = Calendar.getInstance(TimeZone.getTimeZone("UTC"), WORKING_LOCALE);
-        final Date publishedDateObject = rssSyndEntry.getPublishedDate();
         if (null == publishedDateObject) {
             throw new QuestionFeedNonFatalException("\"published date\" is null.");
         }
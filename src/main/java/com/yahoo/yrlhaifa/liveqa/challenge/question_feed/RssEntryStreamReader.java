@@ -0,0 +1,237 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.question_feed;
+
+import java.io.InputStream;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.sun.syndication.io.impl.DateParser;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.QuestionFeedNonFatalException;
+
+/**
+ * Reads the entries of an RSS feed directly from its byte stream, by a streaming (StAX) parser, into
+ * {@link QuestionFromRssEntry}s. Only the fields that make a question are read: the title, link, description and
+ * publication date. Unlike ROME's {@link com.sun.syndication.io.SyndFeedInput}, no document tree and no feed object
+ * graph are built.
+ * <P>
+ * The feed lists its entries from the freshest to the oldest. Reading stops at the first entry which was published
+ * before a given time, so the (typically long) tail of old entries is not parsed at all.
+ * <P>
+ * RSS 0.9x/2.0 and RSS 1.0 items are supported, as are Atom entries. An entry which cannot be made a question is
+ * logged and skipped, as done for the entries read by ROME.
+ * <P>
+ * An instance is not thread safe. The DTD of the feed (if any) is not processed, and external entities are not
+ * resolved.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class RssEntryStreamReader {
+    public RssEntryStreamReader() {
+        super();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    /**
+     * Reads the feed's entries, in the feed's order.
+     *
+     * @param stream The feed. The stream is not closed.
+     * @param charset The character encoding given by the HTTP response, or null to detect it from the feed itself.
+     * @param oldest Reading stops at the first entry published before this time. If null, all the entries are read.
+     * @return The entries that were read.
+     * @throws QuestionFeedNonFatalException If the feed is not well-formed XML.
+     */
+    public List<QuestionFromRssEntry> read(final InputStream stream, final String charset, final Calendar oldest)
+                    throws QuestionFeedNonFatalException {
+        final List<QuestionFromRssEntry> entries = new ArrayList<QuestionFromRssEntry>();
+        XMLStreamReader reader = null;
+        try {
+            reader = (null == charset) ? factory.createXMLStreamReader(stream)
+                            : factory.createXMLStreamReader(stream, charset);
+            final Date oldestDate = (null == oldest) ? null : oldest.getTime();
+            boolean tooOld = false;
+            while (reader.hasNext() && (!tooOld)) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    final String name = reader.getLocalName();
+                    if (ITEM_ELEMENT_NAME.equals(name) || ATOM_ENTRY_ELEMENT_NAME.equals(name)) {
+                        tooOld = readEntry(reader, oldestDate, entries);
+                    }
+                }
+            }
+            if (tooOld && logger.isDebugEnabled()) {
+                logger.debug("Stopped reading the RSS feed at an entry older than " + oldestDate + ". Entries read = "
+                                + entries.size());
+            }
+            return entries;
+        } catch (XMLStreamException e) {
+            throw new QuestionFeedNonFatalException("Failed to parse the RSS feed.", e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // The underlying stream is closed by the caller.
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Reads one entry, from its start element to its end element.
+     *
+     * @return true if the entry was published before the given time, in which case it is not added.
+     */
+    private boolean readEntry(final XMLStreamReader reader, final Date oldest, final List<QuestionFromRssEntry> entries)
+                    throws XMLStreamException {
+        String title = null;
+        String link = null;
+        String description = null;
+        String published = null;
+        String updated = null;
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (XMLStreamConstants.END_ELEMENT == event) {
+                break; // The end of the entry, since the fields' elements are read by readText().
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            final String name = reader.getLocalName();
+            if (TITLE_ELEMENT_NAME.equals(name)) {
+                title = readText(reader);
+            } else if (LINK_ELEMENT_NAME.equals(name)) {
+                final String href = reader.getAttributeValue(null, ATOM_HREF_ATTRIBUTE_NAME);
+                final String rel = reader.getAttributeValue(null, ATOM_REL_ATTRIBUTE_NAME);
+                final String text = readText(reader);
+                if (href != null) {
+                    if ((null == link) && ((null == rel) || ATOM_ALTERNATE_REL.equals(rel))) {
+                        link = href;
+                    }
+                } else {
+                    link = text;
+                }
+            } else if (DESCRIPTION_ELEMENT_NAME.equals(name) || ATOM_SUMMARY_ELEMENT_NAME.equals(name)) {
+                description = readText(reader);
+            } else if (ATOM_CONTENT_ELEMENT_NAME.equals(name)) {
+                final String content = readText(reader);
+                if (null == description) {
+                    description = content;
+                }
+            } else if (PUB_DATE_ELEMENT_NAME.equals(name) || ATOM_PUBLISHED_ELEMENT_NAME.equals(name)) {
+                published = readText(reader).trim();
+            } else if (DC_DATE_ELEMENT_NAME.equals(name) || ATOM_UPDATED_ELEMENT_NAME.equals(name)) {
+                updated = readText(reader).trim();
+            } else {
+                skipElement(reader);
+            }
+        }
+
+        final String dateText = (published != null) ? published : updated;
+        final Date publishedDate = (null == dateText) ? null : parseDate(dateText);
+        if ((oldest != null) && (publishedDate != null) && publishedDate.before(oldest)) {
+            return true;
+        }
+        try {
+            entries.add(QuestionFromRssEntry.createFromRssFields(title, link, description, publishedDate));
+        } catch (QuestionFeedNonFatalException e) {
+            logger.error("Reading an RSS entry has failed. Assuming this is not a permanent problem, the program continues with the other entries.",
+                            e);
+        }
+        return false;
+    }
+
+    /**
+     * Reads the text of the current element, including the text of its descendants (e.g., an Atom XHTML content), up to
+     * and including the element's end.
+     */
+    private String readText(final XMLStreamReader reader) throws XMLStreamException {
+        text.setLength(0);
+        int depth = 1;
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    ++depth;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    --depth;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    break;
+                default:
+                    break;
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Parses a date in the RSS 2.0 format (e.g., "Mon, 17 Oct 2016 10:00:00 GMT") by a format created once, and any
+     * other date by ROME's {@link DateParser}, which tries many formats, each created anew.
+     */
+    private Date parseDate(final String dateText) {
+        final ParsePosition position = new ParsePosition(0);
+        final Date date = rfc822DateFormat.parse(dateText, position);
+        if ((date != null) && (position.getIndex() == dateText.length())) {
+            return date;
+        }
+        return DateParser.parseDate(dateText);
+    }
+
+    /**
+     * Skips the current element, up to and including its end.
+     */
+    private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (XMLStreamConstants.START_ELEMENT == event) {
+                ++depth;
+            } else if (XMLStreamConstants.END_ELEMENT == event) {
+                --depth;
+            }
+        }
+    }
+
+
+    private static final String ITEM_ELEMENT_NAME = "item";
+    private static final String TITLE_ELEMENT_NAME = "title";
+    private static final String LINK_ELEMENT_NAME = "link";
+    private static final String DESCRIPTION_ELEMENT_NAME = "description";
+    private static final String PUB_DATE_ELEMENT_NAME = "pubDate";
+    private static final String DC_DATE_ELEMENT_NAME = "date";
+    private static final String ATOM_ENTRY_ELEMENT_NAME = "entry";
+    private static final String ATOM_SUMMARY_ELEMENT_NAME = "summary";
+    private static final String ATOM_CONTENT_ELEMENT_NAME = "content";
+    private static final String ATOM_PUBLISHED_ELEMENT_NAME = "published";
+    private static final String ATOM_UPDATED_ELEMENT_NAME = "updated";
+    private static final String ATOM_HREF_ATTRIBUTE_NAME = "href";
+    private static final String ATOM_REL_ATTRIBUTE_NAME = "rel";
+    private static final String ATOM_ALTERNATE_REL = "alternate";
+    private static final String RFC822_DATE_PATTERN = "EEE, dd MMM yyyy HH:mm:ss z";
+
+    private final XMLInputFactory factory = XMLInputFactory.newInstance();
+    private final StringBuilder text = new StringBuilder();
+    private final SimpleDateFormat rfc822DateFormat = new SimpleDateFormat(RFC822_DATE_PATTERN, Locale.US);
+
+    private static final org.apache.log4j.Logger logger =
+                    org.apache.log4j.Logger.getLogger(RssEntryStreamReader.class);
+}
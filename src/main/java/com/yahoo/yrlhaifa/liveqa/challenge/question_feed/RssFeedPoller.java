@@ -0,0 +1,372 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.question_feed;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.http.ParseException;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.ChallengeAutoCloseable;
+import com.yahoo.yrlhaifa.liveqa.challenge.ChallengeSystemUtilities;
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeCloseException;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.QuestionFeedFatalException;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.QuestionFeedNonFatalException;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.QuestionFilter;
+import com.yahoo.yrlhaifa.liveqa.common.HoursMinutesSeconds;
+
+/**
+ * Fetches an RSS feed of questions periodically, by a background thread, and keeps the entries which have not been
+ * seen before, until they are taken by {@link #pollFreshest()}. Thus, the question feeder does not wait for the
+ * network, and the feed is fetched and parsed once per interval, regardless of how many questions are taken (or
+ * filtered out).
+ * <P>
+ * The feed is fetched by a conditional GET: The feed's ETag and Last-Modified headers are sent back to the server, so
+ * an unchanged feed is neither transferred nor parsed again. A changed feed is read by {@link RssEntryStreamReader},
+ * which stops at the first entry that is older than the maximum age of a question. The rest of the response is not
+ * read, and its connection is discarded.
+ * <P>
+ * Entries older than the maximum age of a question are discarded, and at most a fixed number of entries are kept, such
+ * that the memory held by the poller is bounded even if no question is taken.
+ * <P>
+ * If a look-ahead filter is given, the new entries of each read of the feed are evaluated by the filter, in parallel,
+ * by a small pool of threads, and only the entries which pass it are kept. Thus, the entries taken by
+ * {@link #pollFreshest()} have already been filtered, and the cost of the filters (e.g., a language classifier) is paid
+ * in the background, rather than between the time a question should be sent and the time it is sent.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class RssFeedPoller implements ChallengeAutoCloseable {
+    public RssFeedPoller(String rssUrl, long pollIntervalMilliseconds, HoursMinutesSeconds maximumAgeOfQuestion) {
+        this(rssUrl, pollIntervalMilliseconds, maximumAgeOfQuestion, null, 0);
+    }
+
+    /**
+     * @param lookAheadFilter The filter by which the new entries are evaluated, or null to keep all of them.
+     * @param lookAheadThreads Number of threads which evaluate the look-ahead filter.
+     */
+    public RssFeedPoller(String rssUrl, long pollIntervalMilliseconds, HoursMinutesSeconds maximumAgeOfQuestion,
+                    QuestionFilter lookAheadFilter, int lookAheadThreads) {
+        super();
+        this.rssUrl = rssUrl;
+        this.pollIntervalMilliseconds = pollIntervalMilliseconds;
+        this.maximumAgeOfQuestion = maximumAgeOfQuestion;
+        this.lookAheadFilter = lookAheadFilter;
+        this.lookAheadExecutor = (null == lookAheadFilter) ? null
+                        : Executors.newFixedThreadPool(lookAheadThreads, new LookAheadThreadFactory());
+        final int timeout = (int) Constants.RSS_FETCH_TIMEOUT_MILLISECONDS;
+        this.httpClient = HttpClients.custom().setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(timeout).setSocketTimeout(timeout).setConnectionRequestTimeout(timeout)
+                        .build()).build();
+        this.thread = new Thread(new Poller(), "RssFeedPoller");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Waits until the feed has been fetched for the first time (successfully or not), or until the given time elapses.
+     */
+    public void awaitFirstPoll(final long timeoutMilliseconds) throws InterruptedException {
+        firstPollDone.await(timeoutMilliseconds, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Removes and returns the freshest entry which has not been taken yet, or null if there is none.
+     */
+    public QuestionFromRssEntry pollFreshest() {
+        synchronized (pendingEntries) {
+            return pendingEntries.pollFirst();
+        }
+    }
+
+    /**
+     * A human-readable description of why the last fetch of the feed failed, or null if it succeeded.
+     */
+    public String getLastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * @throws QuestionFeedFatalException If the poller has encountered a fatal problem (i.e., a bug).
+     */
+    public void checkFatalFailure() throws QuestionFeedFatalException {
+        if (fatalFailure != null) {
+            throw new QuestionFeedFatalException("The RSS feed poller has failed.", fatalFailure);
+        }
+    }
+
+    @Override
+    public void close() throws ChallengeCloseException {
+        closed = true;
+        thread.interrupt();
+        try {
+            // Closing the client aborts a fetch in progress.
+            httpClient.close();
+            thread.join();
+            if (lookAheadExecutor != null) {
+                lookAheadExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ChallengeCloseException("Interrupted while closing the RSS feed poller.", e);
+        } catch (IOException e) {
+            throw new ChallengeCloseException("Failed to close the RSS feed poller.", e);
+        }
+    }
+
+
+    private class Poller implements Runnable {
+        @Override
+        public void run() {
+            while (!closed) {
+                try {
+                    pollOnce();
+                } catch (RuntimeException e) {
+                    logger.error("The RSS feed poller has failed, and stops.", e);
+                    fatalFailure = e;
+                    firstPollDone.countDown();
+                    return;
+                }
+                firstPollDone.countDown();
+                try {
+                    Thread.sleep(pollIntervalMilliseconds);
+                } catch (InterruptedException e) {
+                    // close() has been called.
+                }
+            }
+        }
+    }
+
+    private void pollOnce() {
+        HttpGet request = new HttpGet(rssUrl);
+        if (entityTag != null) {
+            request.setHeader(HttpHeaders.IF_NONE_MATCH, entityTag);
+        }
+        if (lastModified != null) {
+            request.setHeader(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        }
+        try (CloseableHttpResponse response = httpClient.execute(request)) {
+            final int statusCode = response.getStatusLine().getStatusCode();
+            if (HttpStatus.SC_NOT_MODIFIED == statusCode) {
+                EntityUtils.consume(response.getEntity());
+                if (logger.isDebugEnabled()) {
+                    logger.debug("RSS feed has not been modified since it was last fetched.");
+                }
+            } else if (ChallengeSystemUtilities.httpStatusCodeOK(statusCode)) {
+                final HttpEntity entity = response.getEntity();
+                publish(feedReader.read(entity.getContent(), charsetName(entity), oldestPublishedDate()));
+                entityTag = headerValue(response.getFirstHeader(HttpHeaders.ETAG));
+                lastModified = headerValue(response.getFirstHeader(HttpHeaders.LAST_MODIFIED));
+            } else {
+                EntityUtils.consume(response.getEntity());
+                lastFailure = "Failed to read RSS feed. Status line = " + response.getStatusLine();
+                logger.error(lastFailure);
+                return;
+            }
+            lastFailure = null;
+        } catch (IllegalArgumentException | QuestionFeedNonFatalException | IOException e) {
+            logger.error("Failed to read RSS feed. It is assumed that this is a local problem and not an inherent failure.\n"
+                            + "The feed will be read again in " + pollIntervalMilliseconds + " milliseconds. Problem is:",
+                            e);
+            lastFailure = e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+    private void publish(final List<QuestionFromRssEntry> entries) {
+        List<QuestionFromRssEntry> newEntries = new ArrayList<QuestionFromRssEntry>();
+        synchronized (pendingEntries) {
+            for (QuestionFromRssEntry entry : entries) {
+                if (null == seenIds.put(entry.getId(), Boolean.TRUE)) {
+                    newEntries.add(entry);
+                }
+            }
+        }
+        final int numberOfNewEntries = newEntries.size();
+        if (lookAheadFilter != null) {
+            newEntries = filter(newEntries);
+            if (null == newEntries) {
+                return; // Interrupted by close().
+            }
+        }
+        synchronized (pendingEntries) {
+            pendingEntries.addAll(newEntries);
+            discardOldEntries();
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("RSS feed has been read. New entries = " + numberOfNewEntries + ", passed the filter(s) = "
+                            + newEntries.size() + ", pending entries = " + pendingEntries.size());
+        }
+    }
+
+    /**
+     * Evaluates the look-ahead filter on the given entries, in parallel, and returns those which pass it (in the given
+     * order), or null if interrupted.
+     */
+    private List<QuestionFromRssEntry> filter(final List<QuestionFromRssEntry> entries) {
+        List<Callable<Boolean>> tasks = new ArrayList<Callable<Boolean>>(entries.size());
+        for (final QuestionFromRssEntry entry : entries) {
+            tasks.add(new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    return lookAheadFilter.questionOK(entry.createQuestion());
+                }
+            });
+        }
+        List<QuestionFromRssEntry> ret = new ArrayList<QuestionFromRssEntry>(entries.size());
+        try {
+            final List<Future<Boolean>> results = lookAheadExecutor.invokeAll(tasks);
+            for (int index = 0; index < entries.size(); ++index) {
+                if (results.get(index).get()) {
+                    ret.add(entries.get(index));
+                } else if (logger.isDebugEnabled()) {
+                    logger.debug("Question " + entries.get(index).getId() + " is filtered out.");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A question filter has failed.", e.getCause());
+        }
+        return ret;
+    }
+
+    /**
+     * Discards the entries which are older than the maximum age, and the oldest entries beyond the maximum number of
+     * pending entries. Called while holding the lock of the pending entries.
+     */
+    private void discardOldEntries() {
+        final Calendar oldest = oldestPublishedDate();
+        Iterator<QuestionFromRssEntry> iterator = pendingEntries.descendingIterator();
+        while (iterator.hasNext()) {
+            QuestionFromRssEntry entry = iterator.next();
+            if ((pendingEntries.size() > Constants.RSS_MAXIMUM_PENDING_ENTRIES)
+                            || entry.getPublishedDate().before(oldest)) {
+                iterator.remove();
+            } else {
+                break;
+            }
+        }
+    }
+
+    /**
+     * The publication time of the oldest question which is not too old to be sent.
+     */
+    private Calendar oldestPublishedDate() {
+        Calendar oldest = Calendar.getInstance(Constants.WORKING_TIME_ZONE, Constants.WORKING_LOCALE);
+        oldest.add(Calendar.HOUR, -maximumAgeOfQuestion.getHours());
+        oldest.add(Calendar.MINUTE, -maximumAgeOfQuestion.getMinutes());
+        oldest.add(Calendar.SECOND, -maximumAgeOfQuestion.getSeconds());
+        return oldest;
+    }
+
+    /**
+     * The character encoding declared by the response, or null if none (or an unknown one) is declared, in which case
+     * the encoding is detected from the feed itself.
+     */
+    private static String charsetName(final HttpEntity entity) {
+        try {
+            final ContentType contentType = ContentType.get(entity);
+            final Charset charset = (null == contentType) ? null : contentType.getCharset();
+            return (null == charset) ? null : charset.name();
+        } catch (ParseException | UnsupportedCharsetException e) {
+            return null;
+        }
+    }
+
+    private static String headerValue(final Header header) {
+        return (null == header) ? null : header.getValue();
+    }
+
+
+    /**
+     * Orders the entries from the freshest to the oldest.
+     */
+    private static class FreshestFirstComparator implements Comparator<QuestionFromRssEntry> {
+        @Override
+        public int compare(QuestionFromRssEntry entry1, QuestionFromRssEntry entry2) {
+            final int byDate = entry2.getPublishedDate().compareTo(entry1.getPublishedDate());
+            return (byDate != 0) ? byDate : entry1.getId().compareTo(entry2.getId());
+        }
+    }
+
+
+    private static class LookAheadThreadFactory implements ThreadFactory {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "RssLookAheadFilter-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+        private final AtomicInteger threadNumber = new AtomicInteger(0);
+    }
+
+
+    private final String rssUrl;
+    private final long pollIntervalMilliseconds;
+    private final HoursMinutesSeconds maximumAgeOfQuestion;
+    private final QuestionFilter lookAheadFilter;
+    private final ExecutorService lookAheadExecutor;
+    private final CloseableHttpClient httpClient;
+    private final Thread thread;
+    // Used only by the poller thread.
+    private final RssEntryStreamReader feedReader = new RssEntryStreamReader();
+    private final CountDownLatch firstPollDone = new CountDownLatch(1);
+
+    private final TreeSet<QuestionFromRssEntry> pendingEntries =
+                    new TreeSet<QuestionFromRssEntry>(new FreshestFirstComparator());
+    /**
+     * The IDs of the most recently seen entries. Guarded by the lock of the pending entries.
+     */
+    @SuppressWarnings("serial")
+    private final Map<String, Boolean> seenIds = new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > Constants.RSS_SEEN_ENTRIES_CAPACITY;
+        }
+    };
+
+    // Accessed only by the poller thread.
+    private String entityTag = null;
+    private String lastModified = null;
+
+    private volatile String lastFailure = null;
+    private volatile Exception fatalFailure = null;
+    private volatile boolean closed = false;
+
+    private static final org.apache.log4j.Logger logger = org.apache.log4j.Logger.getLogger(RssFeedPoller.class);
+}
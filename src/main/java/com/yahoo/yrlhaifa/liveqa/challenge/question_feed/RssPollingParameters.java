@@ -0,0 +1,52 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.question_feed;
+
+/**
+ * Parameters (typically set in configuration file) for {@link QuestionFeederFromRss} and its {@link RssFeedPoller}.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class RssPollingParameters {
+    public RssPollingParameters(String rssUrl, long pollIntervalMilliseconds, int lookAheadThreads) {
+        super();
+        this.rssUrl = rssUrl;
+        this.pollIntervalMilliseconds = pollIntervalMilliseconds;
+        this.lookAheadThreads = lookAheadThreads;
+    }
+
+
+    public String getRssUrl() {
+        return rssUrl;
+    }
+
+    /**
+     * Interval between two consecutive reads of the RSS feed.
+     */
+    public long getPollIntervalMilliseconds() {
+        return pollIntervalMilliseconds;
+    }
+
+    /**
+     * Number of threads which filter the questions of the RSS feed right after each read of the feed. Zero means that
+     * the questions are filtered when taken.
+     */
+    public int getLookAheadThreads() {
+        return lookAheadThreads;
+    }
+
+    @Override
+    public String toString() {
+        return "RSS URL = " + rssUrl + ", poll interval (milliseconds) = " + pollIntervalMilliseconds
+                        + ", look-ahead threads = " + lookAheadThreads;
+    }
+
+
+
+    private final String rssUrl;
+    private final long pollIntervalMilliseconds;
+    private final int lookAheadThreads;
+}
@@ -3,34 +3,248 @@
 
 package com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
 import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
 
 /**
  * A filter which passes a question if and only if it passes all the given underlying filters.
+ * <P>
+ * The filters are evaluated one after the other, until one of them rejects the question. For each filter, the number of
+ * evaluations, the number of rejections and the evaluation time are counted (see {@link #getStatistics()}).
+ * <P>
+ * In the adaptive mode, the filters are reordered every {@link Constants#ADAPTIVE_FILTER_REORDER_INTERVAL} questions,
+ * such that the expected cost per question is minimal: for independent filters, that is the order of increasing ratio
+ * of the average evaluation time to the rejection rate. So a cheap filter which rejects many questions (e.g., a category
+ * whitelist) is evaluated before an expensive one (e.g., a language classifier). A filter's rejection rate is measured
+ * on the questions which reach it, and is smoothed, so a filter which has not been evaluated yet is moved forward, and
+ * is measured. The order does not change which questions pass.
+ * <P>
+ * {@link #questionSelected(Question)} is forwarded to the underlying filters which are {@link StatefulQuestionFilter}s.
+ * <P>
+ * The methods are thread safe.
  *
  * <P>
  * Date: Feb 3, 2015
- * 
+ *
  * @author Asher Stern
  *
  */
-public class AggregatedQuestionFilter implements QuestionFilter {
+public class AggregatedQuestionFilter implements StatefulQuestionFilter {
+    /**
+     * Statistics of one of the underlying filters.
+     */
+    public static class FilterStatistics {
+        public FilterStatistics(String name, long evaluations, long rejections, long nanoseconds) {
+            super();
+            this.name = name;
+            this.evaluations = evaluations;
+            this.rejections = rejections;
+            this.nanoseconds = nanoseconds;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getEvaluations() {
+            return evaluations;
+        }
+
+        public long getRejections() {
+            return rejections;
+        }
+
+        /**
+         * The total evaluation time.
+         */
+        public long getNanoseconds() {
+            return nanoseconds;
+        }
+
+        public double getRejectionRate() {
+            return (evaluations > 0) ? ((double) rejections / evaluations) : 0;
+        }
+
+        public double getAverageNanoseconds() {
+            return (evaluations > 0) ? ((double) nanoseconds / evaluations) : 0;
+        }
+
+        @Override
+        public String toString() {
+            return name + ": evaluations = " + evaluations + ", rejections = " + rejections + " ("
+                            + String.format("%.1f", getRejectionRate() * 100) + "%), average time = "
+                            + String.format("%.1f", getAverageNanoseconds() / 1000) + " us";
+        }
+
+        private final String name;
+        private final long evaluations;
+        private final long rejections;
+        private final long nanoseconds;
+    }
+
+
     public AggregatedQuestionFilter(List<QuestionFilter> actualFilters) {
+        this(actualFilters, false);
+    }
+
+    /**
+     * @param adaptive Whether the filters are reordered by their measured cost and rejection rate, or evaluated in the
+     *        given order.
+     */
+    public AggregatedQuestionFilter(List<QuestionFilter> actualFilters, boolean adaptive) {
         super();
-        this.actualFilters = actualFilters;
+        this.adaptive = adaptive;
+        this.instrumentedFilters = new InstrumentedFilter[actualFilters.size()];
+        for (int index = 0; index < instrumentedFilters.length; ++index) {
+            instrumentedFilters[index] = new InstrumentedFilter(actualFilters.get(index));
+        }
+        this.order = instrumentedFilters.clone();
     }
 
     @Override
     public boolean questionOK(Question question) {
-        for (QuestionFilter actualFilter : actualFilters) {
+        final InstrumentedFilter[] currentOrder = order;
+        boolean ret = true;
+        for (InstrumentedFilter actualFilter : currentOrder) {
             if (!(actualFilter.questionOK(question))) {
+                ret = false;
+                break;
+            }
+        }
+        if (adaptive && (numberOfQuestions.incrementAndGet() % Constants.ADAPTIVE_FILTER_REORDER_INTERVAL == 0)) {
+            reorder();
+        }
+        return ret;
+    }
+
+    /**
+     * Forwarded to the underlying {@link StatefulQuestionFilter}s, in the order they were given, until one of them
+     * returns false.
+     */
+    @Override
+    public boolean questionSelected(Question question) {
+        for (InstrumentedFilter instrumentedFilter : instrumentedFilters) {
+            if ((instrumentedFilter.filter instanceof StatefulQuestionFilter)
+                            && (!((StatefulQuestionFilter) instrumentedFilter.filter).questionSelected(question))) {
                 return false;
             }
         }
         return true;
     }
 
-    private final List<QuestionFilter> actualFilters;
+    /**
+     * The statistics of the underlying filters, in the order they were given.
+     */
+    public List<FilterStatistics> getStatistics() {
+        final List<FilterStatistics> ret = new ArrayList<FilterStatistics>(instrumentedFilters.length);
+        for (InstrumentedFilter instrumentedFilter : instrumentedFilters) {
+            ret.add(instrumentedFilter.statistics());
+        }
+        return ret;
+    }
+
+    public String statistics() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("order = ").append(names(order));
+        for (FilterStatistics filterStatistics : getStatistics()) {
+            sb.append("; ").append(filterStatistics);
+        }
+        return sb.toString();
+    }
+
+
+
+    private synchronized void reorder() {
+        final InstrumentedFilter[] newOrder = order.clone();
+        final double[] ranks = new double[newOrder.length];
+        for (int index = 0; index < newOrder.length; ++index) {
+            ranks[index] = newOrder[index].rank();
+        }
+        final List<Integer> indexes = new ArrayList<Integer>(newOrder.length);
+        for (int index = 0; index < newOrder.length; ++index) {
+            indexes.add(index);
+        }
+        // Stable, so filters of equal ranks keep their order.
+        Collections.sort(indexes, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2) {
+                return Double.compare(ranks[o1], ranks[o2]);
+            }
+        });
+        for (int index = 0; index < newOrder.length; ++index) {
+            newOrder[index] = order[indexes.get(index)];
+        }
+        if (!Arrays.equals(newOrder, order)) {
+            order = newOrder;
+            logger.info("Question filters are reordered: " + names(newOrder));
+        }
+    }
+
+    private static String names(final InstrumentedFilter[] filters) {
+        StringBuilder sb = new StringBuilder();
+        for (InstrumentedFilter filter : filters) {
+            sb.append((sb.length() > 0) ? ", " : "").append(filter.name);
+        }
+        return sb.toString();
+    }
+
+
+    private static class InstrumentedFilter {
+        public InstrumentedFilter(QuestionFilter filter) {
+            super();
+            this.filter = filter;
+            this.name = filter.getClass().getSimpleName();
+        }
+
+        public boolean questionOK(Question question) {
+            final long startTime = System.nanoTime();
+            final boolean ok = filter.questionOK(question);
+            nanoseconds.addAndGet(System.nanoTime() - startTime);
+            evaluations.incrementAndGet();
+            if (!ok) {
+                rejections.incrementAndGet();
+            }
+            return ok;
+        }
+
+        /**
+         * The expected cost of evaluating the filter per rejected question. The lower the rank, the earlier the filter
+         * should be evaluated.
+         */
+        public double rank() {
+            final long evaluationsCount = evaluations.get();
+            final double averageNanoseconds = (evaluationsCount > 0) ? ((double) nanoseconds.get() / evaluationsCount)
+                            : 0;
+            final double rejectionRate = (rejections.get() + 1.0) / (evaluationsCount + 2.0);
+            return averageNanoseconds / rejectionRate;
+        }
+
+        public FilterStatistics statistics() {
+            return new FilterStatistics(name, evaluations.get(), rejections.get(), nanoseconds.get());
+        }
+
+        private final QuestionFilter filter;
+        private final String name;
+        private final AtomicLong evaluations = new AtomicLong(0);
+        private final AtomicLong rejections = new AtomicLong(0);
+        private final AtomicLong nanoseconds = new AtomicLong(0);
+    }
+
+
+    private final boolean adaptive;
+    // In the order given to the constructor.
+    private final InstrumentedFilter[] instrumentedFilters;
+    // In the order of evaluation. Replaced (never modified) when the filters are reordered.
+    private volatile InstrumentedFilter[] order;
+    private final AtomicLong numberOfQuestions = new AtomicLong(0);
+
+    private static final org.apache.log4j.Logger logger =
+                    org.apache.log4j.Logger.getLogger(AggregatedQuestionFilter.class);
 }
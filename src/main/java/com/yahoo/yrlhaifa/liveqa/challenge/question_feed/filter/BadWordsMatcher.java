@@ -0,0 +1,175 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Finds whether a text contains any of a given set of words and phrases, case-insensitively and on word boundaries, by
+ * an Aho-Corasick automaton.
+ * <P>
+ * The text is viewed as a sequence of words: letters and digits are lower-cased, and each run of other characters
+ * (white spaces, punctuation, etc.) is a single separator. A phrase is normalized the same way, so the phrase "bad
+ * word" is found in "A BAD, word!", and the word "bad" is found in "bad." and in "(bad)", but not in "badge". A phrase
+ * may consist of letters, digits and white spaces only: a phrase with any other character (e.g., "a$$") would match
+ * much more than it says (e.g., the word "a"), so it is ignored, with a warning. The automaton is built once, with a
+ * separator at both ends of each phrase, and the text is scanned in a single pass, as if surrounded by separators, such
+ * that a match always starts and ends on a word boundary. The scan allocates nothing.
+ * <P>
+ * The states of the automaton are the nodes of a {@link CompactTrie} of the phrases. The failure transitions are
+ * followed while scanning, and each state records whether a phrase ends in it or in any state of its failure chain.
+ * <P>
+ * Instances are immutable, and thread safe.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public final class BadWordsMatcher {
+    /**
+     * Builds the automaton of the given words and phrases. Phrases which have no letter or digit, or have characters
+     * other than letters, digits and white spaces, are ignored.
+     */
+    public BadWordsMatcher(final Collection<String> phrases) {
+        super();
+        final CompactTrie.Builder builder = new CompactTrie.Builder();
+        final List<Integer> ends = new ArrayList<Integer>();
+        for (String phrase : phrases) {
+            if (!onlyLettersDigitsAndSpaces(phrase)) {
+                logger.warn("The bad word \"" + phrase + "\" has characters other than letters, digits and white "
+                                + "spaces. It is ignored.");
+                continue;
+            }
+            final String normalized = normalize(phrase);
+            if (normalized.length() <= 1) {
+                continue; // No letter or digit.
+            }
+            ends.add(builder.add(normalized));
+        }
+
+        this.trie = builder.build();
+        final int numberOfStates = trie.size();
+        this.failure = new int[numberOfStates];
+        this.match = new boolean[numberOfStates];
+        int numberOfPhrases = 0;
+        for (int state : ends) {
+            if (!match[state]) {
+                match[state] = true;
+                ++numberOfPhrases;
+            }
+        }
+        this.numberOfPhrases = numberOfPhrases;
+
+        // Failure transitions, in breadth-first order, such that the failure of a state's parent is already known.
+        final int[] queue = new int[numberOfStates];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = CompactTrie.ROOT;
+        while (head < tail) {
+            final int state = queue[head++];
+            for (int index = trie.firstTransition(state); index < trie.firstTransition(state + 1); ++index) {
+                final int child = trie.transitionTarget(index);
+                if (state != CompactTrie.ROOT) {
+                    failure[child] = next(failure[state], trie.transitionCharacter(index));
+                    match[child] |= match[failure[child]];
+                }
+                queue[tail++] = child;
+            }
+        }
+    }
+
+    /**
+     * Returns true if the given text contains any of the words or phrases of this matcher. Null is treated as an empty
+     * text.
+     */
+    public boolean containedIn(final CharSequence text) {
+        if ((null == text) || (0 == numberOfPhrases)) {
+            return false;
+        }
+        int state = next(CompactTrie.ROOT, SEPARATOR);
+        boolean afterSeparator = true;
+        for (int index = 0; index < text.length(); ++index) {
+            final char c = text.charAt(index);
+            if (Character.isLetterOrDigit(c)) {
+                state = next(state, Character.toLowerCase(c));
+                afterSeparator = false;
+            } else if (!afterSeparator) {
+                state = next(state, SEPARATOR);
+                afterSeparator = true;
+            } else {
+                continue;
+            }
+            if (match[state]) {
+                return true;
+            }
+        }
+        return (!afterSeparator) && match[next(state, SEPARATOR)];
+    }
+
+    /**
+     * Number of (distinct, normalized) words and phrases.
+     */
+    public int getNumberOfPhrases() {
+        return numberOfPhrases;
+    }
+
+
+
+    private int next(int state, final char c) {
+        while (true) {
+            final int target = trie.transition(state, c);
+            if (target != CompactTrie.NONE) {
+                return target;
+            }
+            if (CompactTrie.ROOT == state) {
+                return CompactTrie.ROOT;
+            }
+            state = failure[state];
+        }
+    }
+
+    private static boolean onlyLettersDigitsAndSpaces(final String phrase) {
+        for (int index = 0; index < phrase.length(); ++index) {
+            final char c = phrase.charAt(index);
+            if (!(Character.isLetterOrDigit(c) || Character.isWhitespace(c))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The phrase as scanned: lower-cased letters and digits, a single separator between words, and a separator at both
+     * ends.
+     */
+    private static String normalize(final String phrase) {
+        StringBuilder sb = new StringBuilder(phrase.length() + 2);
+        sb.append(SEPARATOR);
+        for (int index = 0; index < phrase.length(); ++index) {
+            final char c = phrase.charAt(index);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            } else if (sb.charAt(sb.length() - 1) != SEPARATOR) {
+                sb.append(SEPARATOR);
+            }
+        }
+        if (sb.charAt(sb.length() - 1) != SEPARATOR) {
+            sb.append(SEPARATOR);
+        }
+        return sb.toString();
+    }
+
+
+    private static final char SEPARATOR = ' ';
+
+    private final int numberOfPhrases;
+    private final CompactTrie trie;
+    private final int[] failure;
+    // True if a phrase ends in the state, or in any state of its failure chain.
+    private final boolean[] match;
+
+    private static final org.apache.log4j.Logger logger = org.apache.log4j.Logger.getLogger(BadWordsMatcher.class);
+}
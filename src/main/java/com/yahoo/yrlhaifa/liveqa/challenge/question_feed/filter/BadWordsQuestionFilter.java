@@ -9,13 +9,15 @@ import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
-import com.yahoo.yrlhaifa.haifa_utils.utils.StringUtils;
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.ChallengeSystemException;
 import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
 
 /**
  * Filters out question which contain bad words, specified by the given set of words. This filter can be used to filter
  * question with harassment intent.
+ * <P>
+ * A bad word might also be a phrase of several words. The words are found case-insensitively, ignoring punctuation, by
+ * a {@link BadWordsMatcher}, which is built once, when this filter is created.
  *
  * <P>
  * Date: Feb 3, 2015
@@ -41,33 +43,12 @@ public class BadWordsQuestionFilter implements QuestionFilter {
 
     public BadWordsQuestionFilter(Set<String> badWordsLowerCase) {
         super();
-        this.badWordsLowerCase = badWordsLowerCase;
+        this.matcher = new BadWordsMatcher(badWordsLowerCase);
     }
 
     @Override
     public boolean questionOK(Question question) {
-        return (!(stringContainsBadWord(question.getTitle()) || stringContainsBadWord(question.getBody())));
-    }
-
-    private boolean stringContainsBadWord(final String str) {
-        Set<String> words = splitStringIntoLowercaseTrimmedWords(str);
-        for (String word : words) {
-            if (badWordsLowerCase.contains(word)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private Set<String> splitStringIntoLowercaseTrimmedWords(final String str) {
-        Set<String> words = new LinkedHashSet<String>();
-        if (str != null) {
-            for (String word : str.split("\\s+")) {
-                String normalized = StringUtils.trimNeitherLetterNorDigit(word);
-                words.add(normalized.trim().toLowerCase());
-            }
-        }
-        return words;
+        return (!(matcher.containedIn(question.getTitle()) || matcher.containedIn(question.getBody())));
     }
 
 
@@ -85,5 +66,5 @@ public class BadWordsQuestionFilter implements QuestionFilter {
         return words;
     }
 
-    private final Set<String> badWordsLowerCase;
+    private final BadWordsMatcher matcher;
 }
@@ -3,15 +3,19 @@
 
 package com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter;
 
-import java.util.LinkedHashSet;
-import java.util.Locale;
+import java.util.Collections;
 import java.util.Set;
 
 import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
-import com.yahoo.yrlhaifa.liveqa.common.CommonUtilities;
 
 /**
- * 
+ * Filters questions by their categories: either only questions of the given categories pass (whitelist), or only
+ * questions of other categories pass (blacklist).
+ * <P>
+ * If a {@link CategoryTaxonomy} is given, a listed category stands for its whole subtree, i.e., a question of a
+ * sub-category of a listed category is considered to be of the listed category. The categories are compiled, once,
+ * into a flag per category ID, so filtering a question is a lookup of its category in the taxonomy (without
+ * allocations), and an array access.
  *
  * <P>
  * Date: Apr 1, 2015
@@ -21,33 +25,56 @@ import com.yahoo.yrlhaifa.liveqa.common.CommonUtilities;
  */
 public class ByCategoryFilter implements QuestionFilter {
     public ByCategoryFilter(Set<String> filterCategories, boolean categoryFilterIsBlacklist) {
+        this(null, filterCategories, categoryFilterIsBlacklist);
+    }
+
+    /**
+     * @param taxonomy The taxonomy of the categories, or null if the listed categories have no sub-categories.
+     * @param filterCategories The listed categories, or null if all the questions pass.
+     */
+    public ByCategoryFilter(CategoryTaxonomy taxonomy, Set<String> filterCategories,
+                    boolean categoryFilterIsBlacklist) {
         this.categoryFilterIsBlacklist = categoryFilterIsBlacklist;
         if (filterCategories != null) {
-            this.filterCategories = new LinkedHashSet<>();
+            // Categories which are not in the taxonomy are added to it, as categories without sub-categories.
+            this.taxonomy = (null == taxonomy)
+                            ? new CategoryTaxonomy(filterCategories, Collections.<String, String> emptyMap())
+                            : taxonomy.withCategories(filterCategories);
+            final boolean[] listed = new boolean[this.taxonomy.size()];
             for (String category : filterCategories) {
-                this.filterCategories.add(normalizeCategory(category));
+                final int id = this.taxonomy.getId(category);
+                if (id != CategoryTaxonomy.UNKNOWN) {
+                    listed[id] = true;
+                }
+            }
+            this.inListedSubtree = new boolean[listed.length];
+            for (int id = 0; id < listed.length; ++id) {
+                for (int ancestor = 0; ancestor < listed.length; ++ancestor) {
+                    if (listed[ancestor] && this.taxonomy.isInSubtree(id, ancestor)) {
+                        inListedSubtree[id] = true;
+                        break;
+                    }
+                }
             }
         } else {
-            this.filterCategories = null;
+            this.taxonomy = null;
+            this.inListedSubtree = null;
         }
     }
 
     @Override
     public boolean questionOK(Question question) {
-        if (null == filterCategories)
+        if (null == inListedSubtree)
             return true;
-        if (categoryFilterIsBlacklist) {
-            return (!filterCategories.contains(normalizeCategory(question.getCategory())));
-        }
-        return (filterCategories.contains(normalizeCategory(question.getCategory())));
+        final int id = taxonomy.getId(question.getCategory());
+        final boolean listed = (id != CategoryTaxonomy.UNKNOWN) && inListedSubtree[id];
+        return (categoryFilterIsBlacklist ? (!listed) : listed);
     }
 
 
-    private static String normalizeCategory(final String category) {
-        return CommonUtilities.mergeSpaces(category).trim().toLowerCase(Locale.US);
-    }
-
-    private Set<String> filterCategories;
-    private boolean categoryFilterIsBlacklist;
+    private final CategoryTaxonomy taxonomy;
+    // Whether each category (by its ID) is a listed category, or a descendant of one.
+    private final boolean[] inListedSubtree;
+    private final boolean categoryFilterIsBlacklist;
 
 }
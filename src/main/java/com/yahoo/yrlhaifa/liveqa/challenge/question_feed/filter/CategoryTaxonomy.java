@@ -0,0 +1,273 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
+
+/**
+ * The taxonomy of Yahoo Answers categories: each category has an integer ID (in the range [0, {@link #size()})), and
+ * possibly a parent category.
+ * <P>
+ * A category is looked up by its name as given in a question, by {@link #getId(CharSequence)}, which walks a
+ * {@link CompactTrie} of the category names. Case and white spaces are folded while walking (letters are lower-cased,
+ * leading and trailing white spaces are ignored, and a run of white spaces matches a single space), so the name is
+ * neither normalized nor copied, and the lookup allocates nothing and takes time linear in the length of the name.
+ * <P>
+ * The taxonomy is loaded from a file of category names, separated by commas (such as
+ * configuration/all-leaf-categories), and a file of parents, in which each line is a category and its parent, separated
+ * by a tab (such as configuration/category-parents.txt). Categories which appear only in the file of parents are added
+ * to the taxonomy.
+ * <P>
+ * Instances are immutable, and thread safe.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class CategoryTaxonomy {
+    public static final int UNKNOWN = -1;
+
+    /**
+     * Loads the taxonomy from the given files.
+     *
+     * @param parentsFile The file of parents, or null if the categories have no parents.
+     */
+    public static CategoryTaxonomy load(final File categoriesFile, final File parentsFile) throws IOException {
+        final List<String> categories = new ArrayList<String>();
+        for (String line : Files.readAllLines(categoriesFile.toPath(), Constants.WORKING_CHARSET)) {
+            for (String category : line.split(CATEGORIES_SEPARATOR)) {
+                if (category.trim().length() > 0) {
+                    categories.add(category);
+                }
+            }
+        }
+        final Map<String, String> parents = new LinkedHashMap<String, String>();
+        if (parentsFile != null) {
+            for (String line : Files.readAllLines(parentsFile.toPath(), Constants.WORKING_CHARSET)) {
+                if ((line.trim().length() == 0) || line.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                final String[] fields = line.split(PARENTS_SEPARATOR);
+                if ((fields.length != 2) || (fields[0].trim().length() == 0) || (fields[1].trim().length() == 0)) {
+                    throw new IOException("Malformed line in " + parentsFile.getPath() + ": \"" + line + "\"");
+                }
+                parents.put(fields[0], fields[1]);
+            }
+        }
+        CategoryTaxonomy taxonomy = new CategoryTaxonomy(categories, parents);
+        logger.info("Loaded a taxonomy of " + taxonomy.size() + " categories, of which " + taxonomy.numberOfTopLevel()
+                        + " are top-level categories, from " + categoriesFile.getPath()
+                        + ((parentsFile != null) ? (" and " + parentsFile.getPath()) : ""));
+        return taxonomy;
+    }
+
+    /**
+     * @param categories The category names.
+     * @param parents Maps category names to the names of their parents. Each category has at most one parent.
+     */
+    public CategoryTaxonomy(final Collection<String> categories, final Map<String, String> parents) {
+        super();
+        this.parents = Collections.unmodifiableMap(new LinkedHashMap<String, String>(parents));
+        final List<String> allCategories = new ArrayList<String>(categories);
+        for (Map.Entry<String, String> parent : parents.entrySet()) {
+            allCategories.add(parent.getKey());
+            allCategories.add(parent.getValue());
+        }
+        final CompactTrie.Builder builder = new CompactTrie.Builder();
+        final List<String> namesToAdd = new ArrayList<String>(allCategories.size());
+        final List<Integer> nodes = new ArrayList<Integer>(allCategories.size());
+        for (String category : allCategories) {
+            final String normalized = normalize(category);
+            if (normalized.length() > 0) {
+                namesToAdd.add(category.trim());
+                nodes.add(builder.add(normalized));
+            }
+        }
+        this.trie = builder.build();
+
+        // Names which are equal when normalized are a single category, named by the first of them.
+        this.nodeCategory = new int[trie.size()];
+        Arrays.fill(nodeCategory, UNKNOWN);
+        final List<String> names = new ArrayList<String>();
+        for (int index = 0; index < nodes.size(); ++index) {
+            if (UNKNOWN == nodeCategory[nodes.get(index)]) {
+                nodeCategory[nodes.get(index)] = names.size();
+                names.add(namesToAdd.get(index));
+            }
+        }
+        this.names = names.toArray(new String[names.size()]);
+
+        this.parentIds = new int[this.names.length];
+        Arrays.fill(parentIds, UNKNOWN);
+        for (Map.Entry<String, String> parent : parents.entrySet()) {
+            final int id = getId(parent.getKey());
+            final int parentId = getId(parent.getValue());
+            if ((UNKNOWN == id) || (UNKNOWN == parentId)) {
+                continue; // An empty name.
+            }
+            if ((parentIds[id] != UNKNOWN) && (parentIds[id] != parentId)) {
+                logger.warn("Category \"" + parent.getKey() + "\" has more than one parent. Parent \""
+                                + parent.getValue() + "\" is ignored.");
+            } else if (id == parentId) {
+                logger.warn("Category \"" + parent.getKey() + "\" is its own parent. Ignored.");
+            } else {
+                parentIds[id] = parentId;
+            }
+        }
+        this.topLevelIds = new int[this.names.length];
+        for (int id = 0; id < topLevelIds.length; ++id) {
+            int ancestor = id;
+            // Bounded, in case the parents form a cycle.
+            for (int depth = 0; (parentIds[ancestor] != UNKNOWN) && (depth < topLevelIds.length); ++depth) {
+                ancestor = parentIds[ancestor];
+            }
+            topLevelIds[id] = ancestor;
+        }
+    }
+
+
+    /**
+     * Returns a taxonomy which also contains the given categories (as top-level categories, unless they are already in
+     * this taxonomy, or have parents).
+     */
+    public CategoryTaxonomy withCategories(final Collection<String> categories) {
+        final List<String> allCategories = new ArrayList<String>(Arrays.asList(names));
+        allCategories.addAll(categories);
+        return new CategoryTaxonomy(allCategories, parents);
+    }
+
+    /**
+     * Number of categories.
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * The ID of the category of the given name (case-insensitive, ignoring extra white spaces), or {@link #UNKNOWN} if
+     * there is no such category (or the given name is null).
+     */
+    public int getId(final CharSequence category) {
+        if (null == category) {
+            return UNKNOWN;
+        }
+        int node = CompactTrie.ROOT;
+        boolean started = false;
+        boolean pendingSpace = false;
+        for (int index = 0; index < category.length(); ++index) {
+            final char c = category.charAt(index);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = started;
+                continue;
+            }
+            if (pendingSpace) {
+                node = trie.transition(node, SPACE);
+                pendingSpace = false;
+            }
+            if (node != CompactTrie.NONE) {
+                node = trie.transition(node, Character.toLowerCase(c));
+            }
+            if (CompactTrie.NONE == node) {
+                return UNKNOWN;
+            }
+            started = true;
+        }
+        return nodeCategory[node];
+    }
+
+    /**
+     * The name of the given category, as first given to the taxonomy.
+     */
+    public String getName(final int id) {
+        return names[id];
+    }
+
+    /**
+     * The ID of the parent of the given category, or {@link #UNKNOWN} if it is a top-level category.
+     */
+    public int getParentId(final int id) {
+        return parentIds[id];
+    }
+
+    /**
+     * The ID of the top-level ancestor of the given category (which is the category itself if it has no parent).
+     */
+    public int getTopLevelId(final int id) {
+        return topLevelIds[id];
+    }
+
+    /**
+     * Returns true if the given category is the given ancestor, or a descendant of it.
+     */
+    public boolean isInSubtree(final int id, final int ancestorId) {
+        int category = id;
+        for (int depth = 0; (category != UNKNOWN) && (depth <= names.length); ++depth) {
+            if (category == ancestorId) {
+                return true;
+            }
+            category = parentIds[category];
+        }
+        return false;
+    }
+
+
+
+    private int numberOfTopLevel() {
+        int ret = 0;
+        for (int parentId : parentIds) {
+            if (UNKNOWN == parentId) {
+                ++ret;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * The name as walked by {@link #getId(CharSequence)}: lower-cased, trimmed, with single spaces.
+     */
+    private static String normalize(final String category) {
+        StringBuilder sb = new StringBuilder(category.length());
+        boolean pendingSpace = false;
+        for (int index = 0; index < category.length(); ++index) {
+            final char c = category.charAt(index);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = (sb.length() > 0);
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(SPACE);
+                pendingSpace = false;
+            }
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+
+    private static final String CATEGORIES_SEPARATOR = ",";
+    private static final String PARENTS_SEPARATOR = "\t";
+    private static final String COMMENT_PREFIX = "#";
+    private static final char SPACE = ' ';
+
+    private final Map<String, String> parents;
+    private final String[] names;
+    private final int[] parentIds;
+    private final int[] topLevelIds;
+    // The trie of the normalized names, and the category whose name ends in each node (or UNKNOWN).
+    private final CompactTrie trie;
+    private final int[] nodeCategory;
+
+    private static final org.apache.log4j.Logger logger = org.apache.log4j.Logger.getLogger(CategoryTaxonomy.class);
+}
@@ -0,0 +1,121 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A trie of strings, kept in arrays: the transitions of each node are sorted by their characters, and are searched by
+ * binary search. The nodes are numbered in the order they were created by the {@link Builder}, where the root is
+ * {@link #ROOT}, so callers may keep their own per-node data in arrays of {@link #size()} elements.
+ * <P>
+ * Instances are immutable, and thread safe.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+final class CompactTrie {
+    public static final int ROOT = 0;
+    public static final int NONE = -1;
+
+    /**
+     * Builds a {@link CompactTrie}, one string at a time.
+     */
+    public static final class Builder {
+        public Builder() {
+            super();
+            nodes.add(new TreeMap<Character, Integer>());
+        }
+
+        /**
+         * Adds the given string, and returns the node in which it ends.
+         */
+        public int add(final CharSequence string) {
+            int node = ROOT;
+            for (int index = 0; index < string.length(); ++index) {
+                final Character c = string.charAt(index);
+                Integer next = nodes.get(node).get(c);
+                if (null == next) {
+                    next = nodes.size();
+                    nodes.add(new TreeMap<Character, Integer>());
+                    nodes.get(node).put(c, next);
+                }
+                node = next;
+            }
+            return node;
+        }
+
+        public CompactTrie build() {
+            return new CompactTrie(nodes);
+        }
+
+        // The transitions of each node, while building.
+        private final List<TreeMap<Character, Integer>> nodes = new ArrayList<TreeMap<Character, Integer>>();
+    }
+
+
+    /**
+     * Number of nodes.
+     */
+    public int size() {
+        return transitionsStart.length - 1;
+    }
+
+    /**
+     * The node reached from the given node by the given character, or {@link #NONE}.
+     */
+    public int transition(final int node, final char c) {
+        final int index = Arrays.binarySearch(transitionCharacters, transitionsStart[node],
+                        transitionsStart[node + 1], c);
+        return (index >= 0) ? transitionTargets[index] : NONE;
+    }
+
+    /**
+     * The transitions of the given node are the indexes [{@link #firstTransition(int)},
+     * {@link #firstTransition(int) firstTransition(node + 1)}), sorted by character.
+     */
+    public int firstTransition(final int node) {
+        return transitionsStart[node];
+    }
+
+    public char transitionCharacter(final int transition) {
+        return transitionCharacters[transition];
+    }
+
+    public int transitionTarget(final int transition) {
+        return transitionTargets[transition];
+    }
+
+
+
+    private CompactTrie(final List<TreeMap<Character, Integer>> nodes) {
+        super();
+        final int numberOfNodes = nodes.size();
+        this.transitionsStart = new int[numberOfNodes + 1];
+        // Each node but the root is the target of exactly one transition.
+        this.transitionCharacters = new char[numberOfNodes - 1];
+        this.transitionTargets = new int[numberOfNodes - 1];
+        int transition = 0;
+        for (int node = 0; node < numberOfNodes; ++node) {
+            transitionsStart[node] = transition;
+            for (Map.Entry<Character, Integer> entry : nodes.get(node).entrySet()) {
+                transitionCharacters[transition] = entry.getKey();
+                transitionTargets[transition] = entry.getValue();
+                ++transition;
+            }
+        }
+        transitionsStart[numberOfNodes] = transition;
+    }
+
+
+    // The transitions of node n are at [transitionsStart[n], transitionsStart[n+1]), sorted by character.
+    private final int[] transitionsStart;
+    private final char[] transitionCharacters;
+    private final int[] transitionTargets;
+}
@@ -0,0 +1,270 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter;
+
+import static com.yahoo.yrlhaifa.liveqa.common.HashUtilities.FNV_OFFSET_BASIS;
+import static com.yahoo.yrlhaifa.liveqa.common.HashUtilities.FNV_PRIME;
+import static com.yahoo.yrlhaifa.liveqa.common.HashUtilities.mix;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
+import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
+
+/**
+ * Rejects questions which are near-duplicates of questions selected recently (within a given time window), e.g., a
+ * question which is reposted within a few minutes.
+ * <P>
+ * Each question is represented by a 64-bit SimHash of its title and body: the lower-cased words and pairs of
+ * consecutive words are hashed, and each bit of the SimHash is the majority vote of that bit in the hashes. Two
+ * questions are near-duplicates if their SimHashes differ in at most a given number of bits, k. A question without any
+ * word (e.g., whose title and body are empty, or only punctuation) has no meaningful SimHash, so it always passes, and
+ * is not remembered.
+ * <P>
+ * The SimHashes of the selected questions are indexed by k+1 bands (disjoint ranges of bits). If two SimHashes differ
+ * in at most k bits, then at least one of their bands is identical, so only the questions which share a band with the
+ * given question are compared with it. With k=3, a band has 16 bits, so the number of compared questions (and the time
+ * of filtering a question) stays flat for a window of up to tens of thousands of questions. Questions older than the
+ * window are removed in the order they were selected, in constant time each.
+ * <P>
+ * The methods are thread safe.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class NearDuplicateQuestionFilter implements StatefulQuestionFilter {
+    public static final int MAXIMUM_DISTANCE_LIMIT = 15;
+    public static final int MAXIMUM_CHARACTERS = 4000;
+
+    /**
+     * @param windowMilliseconds How long a selected question is remembered.
+     * @param maximumDistance The maximum number of different bits (k) of the SimHashes of near-duplicate questions.
+     */
+    public NearDuplicateQuestionFilter(final long windowMilliseconds, final int maximumDistance) {
+        super();
+        if (windowMilliseconds <= 0) {
+            throw new IllegalArgumentException("The window must be positive.");
+        }
+        if ((maximumDistance < 0) || (maximumDistance > MAXIMUM_DISTANCE_LIMIT)) {
+            throw new IllegalArgumentException("The maximum distance must be between 0 and " + MAXIMUM_DISTANCE_LIMIT);
+        }
+        this.windowMilliseconds = windowMilliseconds;
+        this.maximumDistance = maximumDistance;
+        final int numberOfBands = maximumDistance + 1;
+        this.bandShifts = new int[numberOfBands];
+        this.bandMasks = new long[numberOfBands];
+        this.bands = new ArrayList<Map<Long, ArrayDeque<Entry>>>(numberOfBands);
+        final int bandBits = Long.SIZE / numberOfBands;
+        for (int band = 0; band < numberOfBands; ++band) {
+            // The last band takes the remaining bits.
+            final int bits = (band < numberOfBands - 1) ? bandBits : (Long.SIZE - band * bandBits);
+            bandShifts[band] = band * bandBits;
+            bandMasks[band] = (bits < Long.SIZE) ? ((1L << bits) - 1) : -1L;
+            bands.add(new HashMap<Long, ArrayDeque<Entry>>());
+        }
+    }
+
+    @Override
+    public boolean questionOK(Question question) {
+        final int[] votes = new int[Long.SIZE];
+        if (0 == addFeatures(question, votes)) {
+            return true;
+        }
+        final long simHash = simHash(votes);
+        synchronized (this) {
+            removeExpired(System.currentTimeMillis());
+            return isNew(question, simHash);
+        }
+    }
+
+    @Override
+    public boolean questionSelected(Question question) {
+        final int[] votes = new int[Long.SIZE];
+        if (0 == addFeatures(question, votes)) {
+            return true;
+        }
+        final long simHash = simHash(votes);
+        synchronized (this) {
+            removeExpired(System.currentTimeMillis());
+            if (!isNew(question, simHash)) {
+                return false;
+            }
+            final Entry entry = new Entry(question.getId(), simHash, System.currentTimeMillis());
+            entries.addLast(entry);
+            for (int band = 0; band < bandShifts.length; ++band) {
+                final Long key = bandOf(simHash, band);
+                ArrayDeque<Entry> bucket = bands.get(band).get(key);
+                if (null == bucket) {
+                    bucket = new ArrayDeque<Entry>(2);
+                    bands.get(band).put(key, bucket);
+                }
+                bucket.addLast(entry);
+            }
+            if (entries.size() > Constants.NEAR_DUPLICATE_INDEX_CAPACITY) {
+                removeOldest();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Number of questions in the window.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * The SimHash of the title and body of the given question. It is 0 if the question has no words.
+     */
+    public static long simHash(final Question question) {
+        final int[] votes = new int[Long.SIZE];
+        addFeatures(question, votes);
+        return simHash(votes);
+    }
+
+
+
+    private static long simHash(final int[] votes) {
+        long ret = 0;
+        for (int bit = 0; bit < Long.SIZE; ++bit) {
+            if (votes[bit] > 0) {
+                ret |= (1L << bit);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Returns true if the given question is not a near-duplicate of a question in the window.
+     */
+    private boolean isNew(final Question question, final long simHash) {
+        for (int band = 0; band < bandShifts.length; ++band) {
+            final ArrayDeque<Entry> bucket = bands.get(band).get(bandOf(simHash, band));
+            if (bucket != null) {
+                for (Entry entry : bucket) {
+                    if (Long.bitCount(entry.simHash ^ simHash) <= maximumDistance) {
+                        if (logger.isDebugEnabled()) {
+                            logger.debug("Question " + question.getId() + " is a near-duplicate of question "
+                                            + entry.id);
+                        }
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private void removeExpired(final long now) {
+        while ((!entries.isEmpty()) && (entries.peekFirst().time <= now - windowMilliseconds)) {
+            removeOldest();
+        }
+    }
+
+    /**
+     * Removes the oldest entry, which is also the oldest entry of each of its buckets.
+     */
+    private void removeOldest() {
+        final Entry entry = entries.pollFirst();
+        for (int band = 0; band < bandShifts.length; ++band) {
+            final Long key = bandOf(entry.simHash, band);
+            final ArrayDeque<Entry> bucket = bands.get(band).get(key);
+            bucket.pollFirst();
+            if (bucket.isEmpty()) {
+                bands.get(band).remove(key);
+            }
+        }
+    }
+
+    private long bandOf(final long simHash, final int band) {
+        return (simHash >>> bandShifts[band]) & bandMasks[band];
+    }
+
+    /**
+     * Adds the votes of the features of the title and body of the given question.
+     *
+     * @return the number of features.
+     */
+    private static int addFeatures(final Question question, final int[] votes) {
+        return addFeatures(question.getTitle(), votes) + addFeatures(question.getBody(), votes);
+    }
+
+    /**
+     * Adds the votes of the words and the pairs of consecutive words of the given text. A word is a maximal run of
+     * letters and digits, and is lower-cased.
+     *
+     * @return the number of features (words and pairs of words).
+     */
+    private static int addFeatures(final String text, final int[] votes) {
+        if (null == text) {
+            return 0;
+        }
+        int features = 0;
+        long word = FNV_OFFSET_BASIS;
+        long previousWord = 0;
+        boolean inWord = false;
+        boolean hasPreviousWord = false;
+        final int end = Math.min(text.length(), MAXIMUM_CHARACTERS);
+        for (int index = 0; index <= end; ++index) {
+            final char c = (index < end) ? text.charAt(index) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word = (word ^ Character.toLowerCase(c)) * FNV_PRIME;
+                inWord = true;
+            } else if (inWord) {
+                addVotes(mix(word), votes);
+                ++features;
+                if (hasPreviousWord) {
+                    addVotes(mix(previousWord * FNV_PRIME + word), votes);
+                    ++features;
+                }
+                previousWord = word;
+                hasPreviousWord = true;
+                word = FNV_OFFSET_BASIS;
+                inWord = false;
+            }
+        }
+        return features;
+    }
+
+    private static void addVotes(final long hash, final int[] votes) {
+        for (int bit = 0; bit < Long.SIZE; ++bit) {
+            votes[bit] += (((hash >>> bit) & 1L) != 0) ? 1 : -1;
+        }
+    }
+
+
+
+    private static class Entry {
+        public Entry(String id, long simHash, long time) {
+            super();
+            this.id = id;
+            this.simHash = simHash;
+            this.time = time;
+        }
+
+        private final String id;
+        private final long simHash;
+        private final long time;
+    }
+
+
+
+    private final long windowMilliseconds;
+    private final int maximumDistance;
+    private final int[] bandShifts;
+    private final long[] bandMasks;
+    // For each band, maps the band of the SimHash to the entries, in the order they were selected.
+    private final List<Map<Long, ArrayDeque<Entry>>> bands;
+    // In the order they were selected.
+    private final ArrayDeque<Entry> entries = new ArrayDeque<Entry>();
+
+    private static final org.apache.log4j.Logger logger =
+                    org.apache.log4j.Logger.getLogger(NearDuplicateQuestionFilter.class);
+}
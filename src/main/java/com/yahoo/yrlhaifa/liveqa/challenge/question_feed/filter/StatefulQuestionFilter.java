@@ -0,0 +1,24 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
+
+/**
+ * A {@link QuestionFilter} whose decisions depend on the questions which were selected (i.e., returned by the question
+ * feeder, to be sent to the participants) so far.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public interface StatefulQuestionFilter extends QuestionFilter {
+    /**
+     * Called when a question which passed the filter is about to be selected. Since questions may be filtered ahead of
+     * time (and by several threads), the question is checked again, atomically with recording it: if it would no longer
+     * pass, given the questions selected since it was filtered, it is not recorded, and false is returned (then the
+     * question should not be selected).
+     */
+    public boolean questionSelected(Question question);
+}
@@ -0,0 +1,136 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.WrongUserResponseException;
+
+/**
+ * Limits on the resources spent on parsing a participant's answer XML. A participant's XML is untrusted input, parsed
+ * by threads which are shared by all the participants. Thus, a hostile or broken XML (deeply nested elements, huge
+ * numbers of attributes, entity expansion) must not be allowed to consume unbounded CPU time and memory.
+ * <P>
+ * The same limits (except for the number of attributes) apply to answers in the JSON format. See
+ * {@link ParticipantAnswerFromJson}.
+ * <P>
+ * When limits are given to a {@link ParticipantAnswerXml}, the XML is parsed in a hardened mode:
+ * <UL>
+ * <LI>A document type declaration (DTD) is rejected. Thus, no entities other than the predefined ones are expanded.
+ * External entities are never resolved.</LI>
+ * <LI>The XML may not be longer than the maximum number of bytes.</LI>
+ * <LI>Elements may not be nested deeper than the maximum depth, and may not have more than the maximum number of
+ * attributes.</LI>
+ * <LI>Parsing must end within the maximum time.</LI>
+ * </UL>
+ * An XML which exceeds any of the limits is rejected by a {@link WrongUserResponseException}.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class AnswerXmlLimits {
+    public AnswerXmlLimits(int maximumDepth, int maximumAttributesPerElement, int maximumInputBytes,
+                    long maximumParseTimeMilliseconds) {
+        super();
+        this.maximumDepth = maximumDepth;
+        this.maximumAttributesPerElement = maximumAttributesPerElement;
+        this.maximumInputBytes = maximumInputBytes;
+        this.maximumParseTimeMilliseconds = maximumParseTimeMilliseconds;
+    }
+
+    /**
+     * Maximum depth of elements. The root element is at depth 1.
+     */
+    public int getMaximumDepth() {
+        return maximumDepth;
+    }
+
+    public int getMaximumAttributesPerElement() {
+        return maximumAttributesPerElement;
+    }
+
+    public int getMaximumInputBytes() {
+        return maximumInputBytes;
+    }
+
+    public long getMaximumParseTimeMilliseconds() {
+        return maximumParseTimeMilliseconds;
+    }
+
+    @Override
+    public String toString() {
+        return "AnswerXmlLimits [maximumDepth=" + maximumDepth + ", maximumAttributesPerElement="
+                        + maximumAttributesPerElement + ", maximumInputBytes=" + maximumInputBytes
+                        + ", maximumParseTimeMilliseconds=" + maximumParseTimeMilliseconds + "]";
+    }
+
+
+    /**
+     * Returns a stream of the given XML, to be read by the parser. The parse time starts now.
+     *
+     * @throws WrongUserResponseException If the XML is longer than the maximum number of bytes.
+     */
+    DeadlineInputStream newInputStream(byte[] xmlBytes, int offset, int length) throws WrongUserResponseException {
+        checkInputLength(length);
+        return new DeadlineInputStream(xmlBytes, offset, length, newDeadline());
+    }
+
+    /**
+     * @throws WrongUserResponseException If the given length exceeds the maximum number of bytes.
+     */
+    void checkInputLength(int length) throws WrongUserResponseException {
+        if (length > maximumInputBytes) {
+            throw new WrongUserResponseException("The answer is too long. Length = " + length
+                            + " bytes, maximum allowed length = " + maximumInputBytes + " bytes.");
+        }
+    }
+
+    /**
+     * Returns the time (as given by {@link System#nanoTime()}) by which parsing that starts now must end.
+     */
+    long newDeadline() {
+        return System.nanoTime() + (maximumParseTimeMilliseconds * 1000000L);
+    }
+
+
+    /**
+     * A stream of an in-memory XML, which fails once the parse time is exceeded. The parser reads the stream in chunks,
+     * so a parser which processes its input incrementally can also check the time by {@link #checkDeadline()}.
+     */
+    static class DeadlineInputStream extends FilterInputStream {
+        public DeadlineInputStream(byte[] buffer, int offset, int length, long deadlineNanoseconds) {
+            super(new ByteArrayInputStream(buffer, offset, length));
+            this.deadlineNanoseconds = deadlineNanoseconds;
+        }
+
+        public void checkDeadline() throws IOException {
+            if (System.nanoTime() > deadlineNanoseconds) {
+                throw new IOException("Parsing the answer XML has exceeded the maximum parse time.");
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            checkDeadline();
+            return super.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            checkDeadline();
+            return super.read(b, off, len);
+        }
+
+        private final long deadlineNanoseconds;
+    }
+
+
+    private final int maximumDepth;
+    private final int maximumAttributesPerElement;
+    private final int maximumInputBytes;
+    private final long maximumParseTimeMilliseconds;
+}
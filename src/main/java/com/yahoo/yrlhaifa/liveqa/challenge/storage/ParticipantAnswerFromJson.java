@@ -0,0 +1,710 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.storage;
+
+import static com.yahoo.yrlhaifa.liveqa.challenge.storage.ParticipantAnswerFromXmlString.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.WrongUserResponseException;
+import com.yahoo.yrlhaifa.liveqa.challenge.rep.ParticipantAnswer;
+import com.yahoo.yrlhaifa.liveqa.common.ExceptionUtilities;
+
+/**
+ * Parses an answer returned from a participant in the JSON format, which is an alternative to the XML format of
+ * {@link ParticipantAnswerFromXmlString}. A participant's server chooses the JSON format by responding with the
+ * "application/json" content type.
+ * <P>
+ * The answer is a single, flat, JSON object, whose members have the names of the XML's attributes and elements. For
+ * example:
+ *
+ * <PRE>
+ * {"answered": "yes", "time": 1200, "content": "...", "resources": "url1,url2",
+ *  "title-foci": "...", "body-foci": "...", "summary": "..."}
+ * {"answered": "no", "discard-reason": "..."}
+ * </PRE>
+ *
+ * "answered" is either a JSON boolean or one of the strings accepted by the XML format. "time" is either a number or a
+ * string. "resources" is either a comma-separated string, as in the XML format, or an array of strings. A member whose
+ * value is null is treated as missing, and unknown members are ignored. The same constraints as those of the XML
+ * format are enforced: Each member appears at most once, texts are trimmed, and too-long answers and summaries are
+ * truncated.
+ * <P>
+ * The JSON (which is always UTF-8 encoded) is parsed directly from the given bytes, in a single pass, which retains
+ * only the answer's texts. If {@link AnswerXmlLimits} are given, the input length, the nesting depth and the parse
+ * time are bounded by them.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class ParticipantAnswerFromJson implements ParticipantAnswerXml {
+    public static final String JSON_MEDIA_TYPE = "application/json";
+
+    /**
+     * Returns true if the given value of a response's Content-Type header denotes a JSON answer.
+     *
+     * @param contentType The header's value. Might be null.
+     */
+    public static boolean isJsonContentType(final String contentType) {
+        if (null == contentType) {
+            return false;
+        }
+        final int parametersStart = contentType.indexOf(';');
+        final String mediaType = ((parametersStart < 0) ? contentType : contentType.substring(0, parametersStart))
+                        .trim().toLowerCase();
+        return JSON_MEDIA_TYPE.equals(mediaType) || mediaType.endsWith(JSON_MEDIA_TYPE_SUFFIX);
+    }
+
+    /**
+     * Constructor with the JSON as bytes, as received from the participant.
+     *
+     * @param jsonBytes A buffer which holds the JSON.
+     * @param offset The JSON's offset in the buffer.
+     * @param length The JSON's length, in bytes.
+     * @param maximumAnswerContentLength Longer answers are truncated.
+     * @param maximumSummaryLength Longer summaries are truncated.
+     */
+    public ParticipantAnswerFromJson(byte[] jsonBytes, int offset, int length, int maximumAnswerContentLength,
+                    int maximumSummaryLength) {
+        this(jsonBytes, offset, length, maximumAnswerContentLength, maximumSummaryLength, null);
+    }
+
+    /**
+     * Constructor with the JSON as bytes, whose parsing is bounded by the given limits.
+     *
+     * @param jsonBytes A buffer which holds the JSON.
+     * @param offset The JSON's offset in the buffer.
+     * @param length The JSON's length, in bytes.
+     * @param maximumAnswerContentLength Longer answers are truncated.
+     * @param maximumSummaryLength Longer summaries are truncated.
+     * @param limits Limits on the resources spent on parsing. If null, only the nesting depth is bounded, by a
+     *        default limit.
+     */
+    public ParticipantAnswerFromJson(byte[] jsonBytes, int offset, int length, int maximumAnswerContentLength,
+                    int maximumSummaryLength, AnswerXmlLimits limits) {
+        super();
+        this.bytes = jsonBytes;
+        this.offset = offset;
+        this.end = offset + length;
+        this.maximumAnswerContentLength = maximumAnswerContentLength;
+        this.maximumSummaryLength = maximumSummaryLength;
+        this.limits = limits;
+    }
+
+
+    @Override
+    public void create() throws WrongUserResponseException {
+        try {
+            if (limits != null) {
+                limits.checkInputLength(end - offset);
+                deadline = limits.newDeadline();
+            }
+            position = offset;
+            skipByteOrderMark();
+            skipWhiteSpace();
+            readAnswerObject();
+            skipWhiteSpace();
+            if (position < end) {
+                throw syntaxError("Unexpected content after the answer object");
+            }
+            if (!isFound(ANSWERED)) {
+                throw new JsonException("Missing member: " + ANSWER_ANSWERED_YES_NO_ATTRIBUTE_NAME);
+            }
+            if (answered) {
+                buildAnswer();
+            } else {
+                buildWhyNotAnswered();
+            }
+        } catch (JsonException e) {
+            // Note: the error is participant's error. Not ours. Program should continue, while discarding the
+            // participant's answer.
+            logger.warn("Failed to read a JSON that was returned from a participant.\n"
+                            + "This error is on participant\'s side, not system\'s side. "
+                            + "Participant\'s answer will be discarded, and the challenge continues.\n"
+                            + "Exception(s) message(s):\n" + ExceptionUtilities.getMessages(e));
+            throw new WrongUserResponseException("Failed to read a JSON that was returned from a participant.", e);
+        }
+    }
+
+    @Override
+    public boolean isAnswered() {
+        return answered;
+    }
+
+    @Override
+    public ParticipantAnswer getAnswer() {
+        return answer;
+    }
+
+    @Override
+    public ReasonWhyQuestionDiscardByParticipant getWhyNotAnswered() {
+        return whyNotAnswered;
+    }
+
+
+
+    //////////////////// PROTECTED & PRIVATE ////////////////////
+
+    /**
+     * Reads the answer object. The object is at depth 1, and its members' values at depth 2.
+     */
+    private void readAnswerObject() throws JsonException, WrongUserResponseException {
+        expect('{');
+        skipWhiteSpace();
+        if (peek() == '}') {
+            ++position;
+            return;
+        }
+        while (true) {
+            skipWhiteSpace();
+            final int member = readMemberName();
+            skipWhiteSpace();
+            expect(':');
+            skipWhiteSpace();
+            readMember(member);
+            skipWhiteSpace();
+            final int separator = next();
+            if ('}' == separator) {
+                return;
+            }
+            if (separator != ',') {
+                throw syntaxError("Expected ',' or '}'");
+            }
+        }
+    }
+
+    private void readMember(final int member) throws JsonException, WrongUserResponseException {
+        checkDeadline();
+        if (UNKNOWN_MEMBER == member) {
+            skipValue(2);
+            return;
+        }
+        if (peek() == 'n') {
+            expectLiteral(NULL_LITERAL);
+            return;
+        }
+        if (isFound(member)) {
+            throw new JsonException("More than one member: " + MEMBER_NAMES[member]);
+        }
+        membersFound |= (1 << member);
+        switch (member) {
+            case ANSWERED:
+                if (peek() == '"') {
+                    answered = interpretYesNoString(readText(Integer.MAX_VALUE, false));
+                } else if (peek() == 't') {
+                    expectLiteral(TRUE_LITERAL);
+                    answered = true;
+                } else {
+                    expectLiteral(FALSE_LITERAL);
+                    answered = false;
+                }
+                break;
+            case TIME:
+                if (peek() == '"') {
+                    timeString = readText(Integer.MAX_VALUE, true);
+                } else {
+                    final int start = position;
+                    skipNumber();
+                    timeString = new String(bytes, start, position - start, StandardCharsets.US_ASCII);
+                }
+                break;
+            case CONTENT:
+                content = readText(maximumAnswerContentLength, true);
+                contentLength = textTrimmedLength;
+                break;
+            case RESOURCES:
+                if (peek() == '[') {
+                    resources = readResourcesArray();
+                } else {
+                    resources = parseResources(readText(Integer.MAX_VALUE, true));
+                }
+                break;
+            case TITLE_FOCI:
+                titleFocus = readText(Integer.MAX_VALUE, true);
+                break;
+            case BODY_FOCI:
+                bodyFocus = readText(Integer.MAX_VALUE, true);
+                break;
+            case SUMMARY:
+                summary = readText(maximumSummaryLength, true);
+                summaryLength = textTrimmedLength;
+                break;
+            case DISCARD_REASON:
+                discardReason = readText(Integer.MAX_VALUE, true);
+                break;
+            default:
+                throw new IllegalStateException("Unexpected member: " + member);
+        }
+    }
+
+    private List<String> readResourcesArray() throws JsonException {
+        List<String> resourcesList = new ArrayList<String>();
+        expect('[');
+        skipWhiteSpace();
+        if (peek() == ']') {
+            ++position;
+            return Collections.emptyList();
+        }
+        while (true) {
+            skipWhiteSpace();
+            final String resource = readText(Integer.MAX_VALUE, true);
+            resourcesList.add((null == resource) ? "" : resource);
+            skipWhiteSpace();
+            final int separator = next();
+            if (']' == separator) {
+                return Collections.unmodifiableList(resourcesList);
+            }
+            if (separator != ',') {
+                throw syntaxError("Expected ',' or ']'");
+            }
+        }
+    }
+
+    /**
+     * Reads a member's name, and returns its index in {@link #MEMBER_NAMES}, or {@link #UNKNOWN_MEMBER}. A name
+     * without escape sequences is compared in place, with no allocation.
+     */
+    private int readMemberName() throws JsonException {
+        if (peek() != '"') {
+            throw syntaxError("Expected a member name");
+        }
+        final int start = position + 1;
+        int index = start;
+        while ((index < end) && (bytes[index] != '"') && (bytes[index] != '\\')) {
+            ++index;
+        }
+        if ((index < end) && ('"' == bytes[index])) {
+            position = index + 1;
+            for (int member = 0; member < MEMBER_NAME_BYTES.length; ++member) {
+                if (regionEquals(start, index - start, MEMBER_NAME_BYTES[member])) {
+                    return member;
+                }
+            }
+            return UNKNOWN_MEMBER;
+        }
+        // A name with escape sequences (or an unterminated one).
+        final String name = readText(Integer.MAX_VALUE, false);
+        for (int member = 0; member < MEMBER_NAMES.length; ++member) {
+            if (MEMBER_NAMES[member].equals(name)) {
+                return member;
+            }
+        }
+        return UNKNOWN_MEMBER;
+    }
+
+    /**
+     * Reads a JSON string.
+     *
+     * @param maximumLength At most this number of characters are retained. Longer texts are truncated.
+     * @param trim Whether leading and trailing white spaces are trimmed (as by {@link String#trim()}). If so, null is
+     *        returned for a text that has only white spaces.
+     * @return The text. Its length before truncation (after trimming) is set into {@link #textTrimmedLength}.
+     */
+    private String readText(final int maximumLength, final boolean trim) throws JsonException {
+        expect('"');
+        text.setLength(0);
+        textFound = !trim;
+        textLength = 0;
+        textTrimmedLength = 0;
+        while (true) {
+            if (position >= end) {
+                throw syntaxError("Unterminated string");
+            }
+            if ((0 == (position & TIME_CHECK_MASK)) && (deadline != 0)) {
+                checkDeadline();
+            }
+            final int b = bytes[position++] & 0xFF;
+            if ('"' == b) {
+                break;
+            } else if ('\\' == b) {
+                appendText(readEscapeSequence(), maximumLength, trim);
+            } else if (b < 0x20) {
+                throw syntaxError("Unescaped control character in a string");
+            } else if (b < 0x80) {
+                appendText((char) b, maximumLength, trim);
+            } else {
+                final int codePoint = readUtf8Sequence(b);
+                if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                    appendText(Character.highSurrogate(codePoint), maximumLength, trim);
+                    appendText(Character.lowSurrogate(codePoint), maximumLength, trim);
+                } else {
+                    appendText((char) codePoint, maximumLength, trim);
+                }
+            }
+        }
+        if (!textFound) {
+            return null;
+        }
+        if (!trim) {
+            return text.toString();
+        }
+        return (textTrimmedLength > maximumLength) ? text.toString() : text.substring(0, textTrimmedLength);
+    }
+
+    private void appendText(final char character, final int maximumLength, final boolean trim) {
+        if (!textFound) {
+            if (character <= ' ') {
+                return;
+            }
+            textFound = true;
+        }
+        ++textLength;
+        if ((!trim) || (character > ' ')) {
+            textTrimmedLength = textLength;
+        }
+        if (text.length() < maximumLength) {
+            text.append(character);
+        }
+    }
+
+    private char readEscapeSequence() throws JsonException {
+        final int escaped = next();
+        switch (escaped) {
+            case '"':
+                return '"';
+            case '\\':
+                return '\\';
+            case '/':
+                return '/';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int value = 0;
+                for (int index = 0; index < 4; ++index) {
+                    final int digit = Character.digit(next(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("Malformed unicode escape sequence");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            default:
+                throw syntaxError("Malformed escape sequence");
+        }
+    }
+
+    /**
+     * Decodes a multi-byte UTF-8 sequence, whose first byte has already been read.
+     */
+    private int readUtf8Sequence(final int first) throws JsonException {
+        int codePoint;
+        int continuationBytes;
+        if (0xC0 == (first & 0xE0)) {
+            codePoint = first & 0x1F;
+            continuationBytes = 1;
+        } else if (0xE0 == (first & 0xF0)) {
+            codePoint = first & 0x0F;
+            continuationBytes = 2;
+        } else if (0xF0 == (first & 0xF8)) {
+            codePoint = first & 0x07;
+            continuationBytes = 3;
+        } else {
+            throw syntaxError("Malformed UTF-8 sequence");
+        }
+        for (int index = 0; index < continuationBytes; ++index) {
+            final int b = next();
+            if (0x80 != (b & 0xC0)) {
+                throw syntaxError("Malformed UTF-8 sequence");
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+        if ((codePoint < MINIMUM_CODE_POINT[continuationBytes]) || (codePoint > Character.MAX_CODE_POINT)
+                        || ((codePoint >= Character.MIN_SURROGATE) && (codePoint <= Character.MAX_SURROGATE))) {
+            throw syntaxError("Malformed UTF-8 sequence");
+        }
+        return codePoint;
+    }
+
+    /**
+     * Skips a value of an unknown member, validating its syntax.
+     *
+     * @param depth The value's depth. The answer object is at depth 1.
+     */
+    private void skipValue(final int depth) throws JsonException {
+        final int first = peek();
+        if (('{' == first) || ('[' == first)) {
+            if (depth > maximumDepth()) {
+                throw new JsonException("Values are nested deeper than the maximum depth of " + maximumDepth() + ".");
+            }
+            checkDeadline();
+            final int closing = ('{' == first) ? '}' : ']';
+            ++position;
+            skipWhiteSpace();
+            if (peek() == closing) {
+                ++position;
+                return;
+            }
+            while (true) {
+                skipWhiteSpace();
+                if ('}' == closing) {
+                    readText(0, false);
+                    skipWhiteSpace();
+                    expect(':');
+                    skipWhiteSpace();
+                }
+                skipValue(depth + 1);
+                skipWhiteSpace();
+                final int separator = next();
+                if (closing == separator) {
+                    return;
+                }
+                if (separator != ',') {
+                    throw syntaxError("Expected ',' or '" + (char) closing + "'");
+                }
+            }
+        }
+        switch (first) {
+            case '"':
+                readText(0, false);
+                break;
+            case 't':
+                expectLiteral(TRUE_LITERAL);
+                break;
+            case 'f':
+                expectLiteral(FALSE_LITERAL);
+                break;
+            case 'n':
+                expectLiteral(NULL_LITERAL);
+                break;
+            default:
+                skipNumber();
+                break;
+        }
+    }
+
+    /**
+     * Skips a number: -?(0|[1-9][0-9]*)(\.[0-9]+)?([eE][+-]?[0-9]+)?
+     */
+    private void skipNumber() throws JsonException {
+        if (peek() == '-') {
+            ++position;
+        }
+        if (peek() == '0') {
+            ++position;
+        } else {
+            skipDigits();
+        }
+        if (peek() == '.') {
+            ++position;
+            skipDigits();
+        }
+        if ((peek() == 'e') || (peek() == 'E')) {
+            ++position;
+            if ((peek() == '+') || (peek() == '-')) {
+                ++position;
+            }
+            skipDigits();
+        }
+    }
+
+    private void skipDigits() throws JsonException {
+        if (!isDigit(peek())) {
+            throw syntaxError("Expected a value");
+        }
+        while (isDigit(peek())) {
+            ++position;
+        }
+    }
+
+    private static boolean isDigit(final int b) {
+        return (b >= '0') && (b <= '9');
+    }
+
+    private void expectLiteral(final byte[] literal) throws JsonException {
+        if (!regionEquals(position, literal.length, literal)) {
+            throw syntaxError("Expected a value");
+        }
+        position += literal.length;
+    }
+
+    private boolean regionEquals(final int start, final int length, final byte[] expected) {
+        if ((length != expected.length) || (start + length > end)) {
+            return false;
+        }
+        for (int index = 0; index < length; ++index) {
+            if (bytes[start + index] != expected[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void expect(final char expected) throws JsonException {
+        if (next() != expected) {
+            throw syntaxError("Expected '" + expected + "'");
+        }
+    }
+
+    /**
+     * The next byte, or -1 at the end of the input.
+     */
+    private int peek() {
+        return (position < end) ? (bytes[position] & 0xFF) : -1;
+    }
+
+    private int next() throws JsonException {
+        if (position >= end) {
+            throw syntaxError("Unexpected end of input");
+        }
+        return bytes[position++] & 0xFF;
+    }
+
+    private void skipWhiteSpace() {
+        while (position < end) {
+            final byte b = bytes[position];
+            if ((b != ' ') && (b != '\t') && (b != '\n') && (b != '\r')) {
+                return;
+            }
+            ++position;
+        }
+    }
+
+    private void skipByteOrderMark() {
+        if (regionEquals(position, UTF8_BYTE_ORDER_MARK.length, UTF8_BYTE_ORDER_MARK)) {
+            position += UTF8_BYTE_ORDER_MARK.length;
+        }
+    }
+
+    private void checkDeadline() throws JsonException {
+        if ((deadline != 0) && (System.nanoTime() > deadline)) {
+            throw new JsonException("Parsing the answer JSON has exceeded the maximum parse time.");
+        }
+    }
+
+    private int maximumDepth() {
+        return (null == limits) ? DEFAULT_MAXIMUM_DEPTH : limits.getMaximumDepth();
+    }
+
+    private JsonException syntaxError(final String message) {
+        return new JsonException(message + " at byte " + (position - offset) + ".");
+    }
+
+    private boolean isFound(final int member) {
+        return 0 != (membersFound & (1 << member));
+    }
+
+    private void buildAnswer() throws JsonException, WrongUserResponseException {
+        if (!isFound(CONTENT)) {
+            throw new JsonException("Missing member: " + ANSWER_CONTENT_ELEMENT_NAME);
+        }
+        if (null == content) {
+            throw new JsonException("Unexpected JSON contents. Text was not found for member: "
+                            + ANSWER_CONTENT_ELEMENT_NAME);
+        }
+        if (contentLength > maximumAnswerContentLength) {
+            logger.info("A too-long answer is being truncated. Original length = " + contentLength
+                            + ", maximum allowed length = " + maximumAnswerContentLength);
+        }
+        if (summaryLength > maximumSummaryLength) {
+            logger.info("A too-long question summary is being truncated. Original length = " + summaryLength
+                            + ", maximum allowed length = " + maximumSummaryLength);
+        }
+        answer = new ParticipantAnswer(content, parseAnswerTime(timeString, 0),
+                        (null == resources) ? parseResources(null) : resources, nonNull(titleFocus),
+                        nonNull(bodyFocus), nonNull(summary));
+    }
+
+    private void buildWhyNotAnswered() {
+        whyNotAnswered = new ReasonWhyQuestionDiscardByParticipant(nonNull(discardReason));
+    }
+
+    private static String nonNull(final String text) {
+        return (null == text) ? "" : text;
+    }
+
+
+    /**
+     * Indicates that the JSON is malformed, or does not match the answer format.
+     */
+    private static class JsonException extends Exception {
+        private static final long serialVersionUID = 3907431512349637145L;
+
+        public JsonException(String message) {
+            super(message);
+        }
+    }
+
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int end;
+    private final int maximumAnswerContentLength;
+    private final int maximumSummaryLength;
+    private final AnswerXmlLimits limits;
+    private long deadline = 0;
+    private int position;
+
+    // The text being read. Reused by all the strings of the JSON.
+    private final StringBuilder text = new StringBuilder();
+    private boolean textFound;
+    private int textLength;
+    private int textTrimmedLength;
+
+    private int membersFound = 0;
+    private boolean answered = false;
+    private String timeString = null;
+    private String content = null;
+    private int contentLength = 0;
+    private List<String> resources = null;
+    private String titleFocus = null;
+    private String bodyFocus = null;
+    private String summary = null;
+    private int summaryLength = 0;
+    private String discardReason = null;
+
+    private ParticipantAnswer answer = null;
+    private ReasonWhyQuestionDiscardByParticipant whyNotAnswered = null;
+
+
+    private static final String JSON_MEDIA_TYPE_SUFFIX = "+json";
+
+    // Indexes into MEMBER_NAMES.
+    private static final int ANSWERED = 0;
+    private static final int TIME = 1;
+    private static final int CONTENT = 2;
+    private static final int RESOURCES = 3;
+    private static final int TITLE_FOCI = 4;
+    private static final int BODY_FOCI = 5;
+    private static final int SUMMARY = 6;
+    private static final int DISCARD_REASON = 7;
+    private static final int UNKNOWN_MEMBER = -1;
+    private static final String[] MEMBER_NAMES = new String[] {ANSWER_ANSWERED_YES_NO_ATTRIBUTE_NAME,
+                    ANSWER_REPORTED_TIME_MILLISECONDS_ATTRIBUTE_NAME, ANSWER_CONTENT_ELEMENT_NAME,
+                    ANSWER_RESOURCES_ELEMENT_NAME, TITLE_FOCUS_ELEMENT_NAME, BODY_FOCUS_ELEMENT_NAME,
+                    QUESTION_SUMMARY_ELEMENT_NAME, ANSWER_WHY_NOT_ANSWERED_ELEMENT_NAME};
+    private static final byte[][] MEMBER_NAME_BYTES = new byte[MEMBER_NAMES.length][];
+
+    static {
+        for (int member = 0; member < MEMBER_NAMES.length; ++member) {
+            MEMBER_NAME_BYTES[member] = MEMBER_NAMES[member].getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private static final byte[] TRUE_LITERAL = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE_LITERAL = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL_LITERAL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] UTF8_BYTE_ORDER_MARK = new byte[] {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    // The smallest code point of a UTF-8 sequence, by its number of continuation bytes. Smaller ones are over-long.
+    private static final int[] MINIMUM_CODE_POINT = new int[] {0, 0x80, 0x800, 0x10000};
+
+    // Without limits, nesting is bounded only such that skipping nested values cannot overflow the stack.
+    private static final int DEFAULT_MAXIMUM_DEPTH = 256;
+    // The time is checked once every this number (plus one) of bytes of a string.
+    private static final int TIME_CHECK_MASK = 0xFFF;
+
+    private static final org.apache.log4j.Logger logger =
+                    org.apache.log4j.Logger.getLogger(ParticipantAnswerFromJson.class);
+}
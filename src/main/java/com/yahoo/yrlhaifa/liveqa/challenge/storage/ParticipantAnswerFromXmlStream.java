@@ -0,0 +1,468 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.storage;
+
+import static com.yahoo.yrlhaifa.liveqa.challenge.storage.ParticipantAnswerFromXmlString.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.WrongUserResponseException;
+import com.yahoo.yrlhaifa.liveqa.challenge.storage.AnswerXmlLimits.DeadlineInputStream;
+import com.yahoo.yrlhaifa.liveqa.challenge.rep.ParticipantAnswer;
+import com.yahoo.yrlhaifa.liveqa.common.ExceptionUtilities;
+
+/**
+ * Parses an XML returned from a participant, like {@link ParticipantAnswerFromXmlString}, but with a streaming (StAX)
+ * parser rather than a DOM tree. Only the text of the answer's elements is retained, and too-long answers and summaries
+ * are truncated while being read.
+ * <P>
+ * The XML is read to its end, such that a malformed XML is rejected, and the same constraints as those of
+ * {@link ParticipantAnswerFromXmlString} are enforced: The root element has exactly one "answer" child element; each
+ * of the answer's relevant child elements appears at most once; and the text of each of these elements is a single
+ * text (possibly split by entity references and CDATA sections), which is trimmed.
+ * <P>
+ * If {@link AnswerXmlLimits} are given, the XML is parsed in a hardened mode, which bounds the resources spent on it.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class ParticipantAnswerFromXmlStream implements ParticipantAnswerXml {
+    /**
+     * Constructor with the XML as bytes, as received from the participant.
+     *
+     * @param xmlBytes A buffer which holds the XML.
+     * @param offset The XML's offset in the buffer.
+     * @param length The XML's length, in bytes.
+     * @param maximumAnswerContentLength Longer answers are truncated.
+     * @param maximumSummaryLength Longer summaries are truncated.
+     */
+    public ParticipantAnswerFromXmlStream(byte[] xmlBytes, int offset, int length, int maximumAnswerContentLength,
+                    int maximumSummaryLength) {
+        this(xmlBytes, offset, length, maximumAnswerContentLength, maximumSummaryLength, null);
+    }
+
+    /**
+     * Constructor with the XML as bytes, which are parsed in a hardened mode, bounded by the given limits.
+     *
+     * @param xmlBytes A buffer which holds the XML.
+     * @param offset The XML's offset in the buffer.
+     * @param length The XML's length, in bytes.
+     * @param maximumAnswerContentLength Longer answers are truncated.
+     * @param maximumSummaryLength Longer summaries are truncated.
+     * @param limits Limits on the resources spent on parsing. If null, the XML is parsed with the parser's defaults.
+     */
+    public ParticipantAnswerFromXmlStream(byte[] xmlBytes, int offset, int length, int maximumAnswerContentLength,
+                    int maximumSummaryLength, AnswerXmlLimits limits) {
+        super();
+        this.xmlBytes = xmlBytes;
+        this.offset = offset;
+        this.length = length;
+        this.maximumAnswerContentLength = maximumAnswerContentLength;
+        this.maximumSummaryLength = maximumSummaryLength;
+        this.limits = limits;
+    }
+
+
+    @Override
+    public void create() throws WrongUserResponseException {
+        XMLStreamReader reader = null;
+        try {
+            if (null == limits) {
+                reader = INPUT_FACTORY.createXMLStreamReader(new ByteArrayInputStream(xmlBytes, offset, length));
+            } else {
+                final XMLInputFactory factory = hardenedInputFactory(limits);
+                stream = limits.newInputStream(xmlBytes, offset, length);
+                reader = factory.createXMLStreamReader(stream);
+            }
+            read(reader);
+            if (stream != null) {
+                checkDeadline();
+            }
+            if (!answerElementFound) {
+                throw new XMLStreamException("Missing child: " + ANSWER_BASE_ELEMENT_NAME);
+            }
+            if (answered) {
+                buildAnswer();
+            } else {
+                buildWhyNotAnswered();
+            }
+        } catch (XMLStreamException e) {
+            // Note: the error is participant's error. Not ours. Program should continue, while discarding the
+            // participant's answer.
+            logger.warn("Failed to read an XML that was returned from a participant.\n"
+                            + "This error is on participant\'s side, not system\'s side. "
+                            + "Participant\'s answer will be discarded, and the challenge continues.\n"
+                            + "Exception(s) message(s):\n" + ExceptionUtilities.getMessages(e));
+            throw new WrongUserResponseException("Failed to read an XML that was returned from a participant.", e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // Nothing to release. The stream is an in-memory stream.
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isAnswered() {
+        return answered;
+    }
+
+    @Override
+    public ParticipantAnswer getAnswer() {
+        return answer;
+    }
+
+    @Override
+    public ReasonWhyQuestionDiscardByParticipant getWhyNotAnswered() {
+        return whyNotAnswered;
+    }
+
+
+
+    //////////////////// PROTECTED & PRIVATE ////////////////////
+
+    /**
+     * Reads the XML to its end. The root element is at depth 1, the answer element at depth 2, and the answer's
+     * elements at depth 3.
+     */
+    private void read(final XMLStreamReader reader) throws XMLStreamException, WrongUserResponseException {
+        int depth = 0;
+        boolean inAnswerElement = false;
+        ElementText currentText = null;
+        int numberOfEvents = 0;
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (limits != null) {
+                checkLimits(reader, event, depth, ++numberOfEvents);
+            }
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    ++depth;
+                    if (currentText != null) {
+                        // An element nested in the element whose text is read. Its text is ignored.
+                        currentText.endSegment();
+                    } else if ((2 == depth) && ANSWER_BASE_ELEMENT_NAME.equals(reader.getLocalName())) {
+                        if (answerElementFound) {
+                            throw new XMLStreamException("More than one child: " + ANSWER_BASE_ELEMENT_NAME);
+                        }
+                        answerElementFound = true;
+                        inAnswerElement = true;
+                        readAnswerAttributes(reader);
+                    } else if ((3 == depth) && inAnswerElement) {
+                        currentText = startAnswerChildElement(reader.getLocalName());
+                    }
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    if (currentText != null) {
+                        if (3 == depth) {
+                            currentText = null;
+                        } else {
+                            currentText.endSegment();
+                        }
+                    }
+                    if (2 == depth) {
+                        inAnswerElement = false;
+                    }
+                    --depth;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if ((currentText != null) && (3 == depth)) {
+                        currentText.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    }
+                    break;
+                case XMLStreamConstants.COMMENT:
+                case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                    if (currentText != null) {
+                        currentText.endSegment();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Checks the given event against the limits. The time is checked once every several events, since the parser
+     * checks the time itself only when it reads its input.
+     *
+     * @param depth The depth of the current element, before the given event.
+     */
+    private void checkLimits(final XMLStreamReader reader, final int event, final int depth, final int numberOfEvents)
+                    throws XMLStreamException {
+        switch (event) {
+            case XMLStreamConstants.START_ELEMENT:
+                if (depth >= limits.getMaximumDepth()) {
+                    throw new XMLStreamException("Elements are nested deeper than the maximum depth of "
+                                    + limits.getMaximumDepth() + ".");
+                }
+                if (reader.getAttributeCount() > limits.getMaximumAttributesPerElement()) {
+                    throw new XMLStreamException("Element \"" + reader.getLocalName() + "\" has more than "
+                                    + limits.getMaximumAttributesPerElement() + " attributes.");
+                }
+                break;
+            case XMLStreamConstants.DTD:
+            case XMLStreamConstants.ENTITY_DECLARATION:
+            case XMLStreamConstants.ENTITY_REFERENCE:
+                throw new XMLStreamException("Document type declarations are not allowed.");
+            default:
+                break;
+        }
+        if (0 == (numberOfEvents % EVENTS_BETWEEN_TIME_CHECKS)) {
+            checkDeadline();
+        }
+    }
+
+    private void checkDeadline() throws XMLStreamException {
+        try {
+            stream.checkDeadline();
+        } catch (IOException e) {
+            throw new XMLStreamException(e.getMessage(), e);
+        }
+    }
+
+    private void readAnswerAttributes(final XMLStreamReader reader) throws WrongUserResponseException {
+        final String yesNoString = reader.getAttributeValue(null, ANSWER_ANSWERED_YES_NO_ATTRIBUTE_NAME);
+        answered = interpretYesNoString((null == yesNoString) ? "" : yesNoString);
+        if (answered) {
+            answerTimeMilliseconds = parseAnswerTime(
+                            reader.getAttributeValue(null, ANSWER_REPORTED_TIME_MILLISECONDS_ATTRIBUTE_NAME),
+                            answerTimeMilliseconds);
+        }
+    }
+
+    /**
+     * Returns the holder into which the text of the given child element of the answer element is read, or null if the
+     * element is irrelevant.
+     */
+    private ElementText startAnswerChildElement(final String name) throws XMLStreamException {
+        if (answered) {
+            if (ANSWER_CONTENT_ELEMENT_NAME.equals(name)) {
+                contentText = newElementText(contentText, name, maximumAnswerContentLength);
+                return contentText;
+            } else if (ANSWER_RESOURCES_ELEMENT_NAME.equals(name)) {
+                resourcesText = newElementText(resourcesText, name, Integer.MAX_VALUE);
+                return resourcesText;
+            } else if (TITLE_FOCUS_ELEMENT_NAME.equals(name)) {
+                titleFocusText = newElementText(titleFocusText, name, Integer.MAX_VALUE);
+                return titleFocusText;
+            } else if (BODY_FOCUS_ELEMENT_NAME.equals(name)) {
+                bodyFocusText = newElementText(bodyFocusText, name, Integer.MAX_VALUE);
+                return bodyFocusText;
+            } else if (QUESTION_SUMMARY_ELEMENT_NAME.equals(name)) {
+                questionSummaryText = newElementText(questionSummaryText, name, maximumSummaryLength);
+                return questionSummaryText;
+            }
+        } else if (ANSWER_WHY_NOT_ANSWERED_ELEMENT_NAME.equals(name)) {
+            whyNotAnsweredText = newElementText(whyNotAnsweredText, name, Integer.MAX_VALUE);
+            return whyNotAnsweredText;
+        }
+        return null;
+    }
+
+    private static ElementText newElementText(final ElementText existing, final String name, final int maximumLength)
+                    throws XMLStreamException {
+        if (existing != null) {
+            throw new XMLStreamException("More than one child: " + name);
+        }
+        return new ElementText(maximumLength);
+    }
+
+    private void buildAnswer() throws XMLStreamException {
+        if (null == contentText) {
+            throw new XMLStreamException("Missing child: " + ANSWER_CONTENT_ELEMENT_NAME);
+        }
+        String answerContent = contentText.getText();
+        if (null == answerContent) {
+            throw new XMLStreamException(
+                            "Unexpected XML contents. Text was not found for element: " + ANSWER_CONTENT_ELEMENT_NAME);
+        }
+        if (contentText.isTruncated()) {
+            logger.info("A too-long answer is being truncated. Original length = " + contentText.getTrimmedLength()
+                            + ", maximum allowed length = " + maximumAnswerContentLength);
+        }
+        String questionSummaryContent = textOf(questionSummaryText);
+        if ((questionSummaryText != null) && questionSummaryText.isTruncated()) {
+            logger.info("A too-long question summary is being truncated. Original length = "
+                            + questionSummaryText.getTrimmedLength() + ", maximum allowed length = "
+                            + maximumSummaryLength);
+        }
+
+        answer = new ParticipantAnswer(answerContent, answerTimeMilliseconds,
+                        parseResources((null == resourcesText) ? null : resourcesText.getText()),
+                        textOf(titleFocusText), textOf(bodyFocusText), questionSummaryContent);
+    }
+
+    private void buildWhyNotAnswered() {
+        whyNotAnswered = new ReasonWhyQuestionDiscardByParticipant(textOf(whyNotAnsweredText));
+    }
+
+    private static String textOf(final ElementText elementText) {
+        String text = (null == elementText) ? null : elementText.getText();
+        return (null == text) ? "" : text;
+    }
+
+
+    /**
+     * Accumulates the text of an element, which is given in chunks. Leading and trailing white spaces are trimmed (as
+     * by {@link String#trim()}), and at most a given number of characters are retained.
+     * <P>
+     * The text might be split into several segments, by nested elements, comments or processing instructions. At most
+     * one segment may hold non-white-space characters.
+     */
+    private static class ElementText {
+        public ElementText(int maximumLength) {
+            super();
+            this.maximumLength = maximumLength;
+        }
+
+        public void append(final char[] characters, final int start, final int count) throws XMLStreamException {
+            int index = start;
+            final int end = start + count;
+            if (!inTextSegment) {
+                while ((index < end) && (characters[index] <= ' ')) {
+                    ++index;
+                }
+                if (index == end) {
+                    return;
+                }
+                if (found) {
+                    throw new XMLStreamException("Unexpected XML contents. Element has more than one text.");
+                }
+                found = true;
+                inTextSegment = true;
+            }
+            int last = end - 1;
+            while ((last >= index) && (characters[last] <= ' ')) {
+                --last;
+            }
+            if (last >= index) {
+                trimmedLength = length + (last - index + 1);
+            }
+            final int retained = Math.min(end - index, maximumLength - text.length());
+            if (retained > 0) {
+                text.append(characters, index, retained);
+            }
+            length += end - index;
+        }
+
+        public void endSegment() {
+            inTextSegment = false;
+        }
+
+        /**
+         * The trimmed text, truncated to the maximum length, or null if the element has no text.
+         */
+        public String getText() {
+            if (!found) {
+                return null;
+            }
+            return isTruncated() ? text.toString() : text.substring(0, trimmedLength);
+        }
+
+        public boolean isTruncated() {
+            return trimmedLength > maximumLength;
+        }
+
+        public int getTrimmedLength() {
+            return trimmedLength;
+        }
+
+        private final int maximumLength;
+        private final StringBuilder text = new StringBuilder();
+        private boolean found = false;
+        private boolean inTextSegment = false;
+        // Number of characters since the beginning of the text (excluding its leading white spaces), with and without
+        // its trailing white spaces.
+        private int length = 0;
+        private int trimmedLength = 0;
+    }
+
+
+    private final byte[] xmlBytes;
+    private final int offset;
+    private final int length;
+    private final int maximumAnswerContentLength;
+    private final int maximumSummaryLength;
+    private final AnswerXmlLimits limits;
+    private DeadlineInputStream stream = null;
+
+    private boolean answerElementFound = false;
+    private boolean answered = false;
+    private long answerTimeMilliseconds = 0;
+    private ElementText contentText = null;
+    private ElementText resourcesText = null;
+    private ElementText titleFocusText = null;
+    private ElementText bodyFocusText = null;
+    private ElementText questionSummaryText = null;
+    private ElementText whyNotAnsweredText = null;
+
+    private ParticipantAnswer answer = null;
+    private ReasonWhyQuestionDiscardByParticipant whyNotAnswered = null;
+
+    /**
+     * A factory for the hardened mode, configured by given limits.
+     */
+    private static class HardenedInputFactory {
+        public HardenedInputFactory(AnswerXmlLimits limits) {
+            super();
+            this.limits = limits;
+            // A DTD is rejected (see checkLimits()). It is neither processed nor are external entities resolved.
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            // The depth and attributes are also checked by checkLimits(). However, the attributes of an element are
+            // all parsed before the element is reported, unless the parser itself enforces the limit.
+            setLimitProperty(MAXIMUM_ELEMENT_DEPTH_PROPERTY, limits.getMaximumDepth());
+            setLimitProperty(ELEMENT_ATTRIBUTE_LIMIT_PROPERTY, limits.getMaximumAttributesPerElement());
+        }
+
+        private void setLimitProperty(final String name, final int value) {
+            try {
+                factory.setProperty(name, String.valueOf(value));
+            } catch (IllegalArgumentException e) {
+                logger.warn("The XML parser does not support the limit \"" + name
+                                + "\". The limit is enforced only once the element is parsed.");
+            }
+        }
+
+        private final AnswerXmlLimits limits;
+        private final XMLInputFactory factory = XMLInputFactory.newInstance();
+    }
+
+    private static XMLInputFactory hardenedInputFactory(final AnswerXmlLimits limits) {
+        HardenedInputFactory cached = hardenedInputFactory;
+        if ((null == cached) || (cached.limits != limits)) {
+            // Typically, the same limits are given throughout the challenge, so the factory is created once.
+            cached = new HardenedInputFactory(limits);
+            hardenedInputFactory = cached;
+        }
+        return cached.factory;
+    }
+
+
+    private static final int EVENTS_BETWEEN_TIME_CHECKS = 64;
+    private static final String MAXIMUM_ELEMENT_DEPTH_PROPERTY =
+                    "http://www.oracle.com/xml/jaxp/properties/maxElementDepth";
+    private static final String ELEMENT_ATTRIBUTE_LIMIT_PROPERTY =
+                    "http://www.oracle.com/xml/jaxp/properties/elementAttributeLimit";
+
+    // Looked up once, rather than per response. Creating stream readers by a shared factory is thread safe.
+    private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
+    private static volatile HardenedInputFactory hardenedInputFactory = null;
+
+    private static final org.apache.log4j.Logger logger =
+                    org.apache.log4j.Logger.getLogger(ParticipantAnswerFromXmlStream.class);
+}
@@ -10,6 +10,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -21,6 +23,7 @@ import com.yahoo.yrlhaifa.haifa_utils.utils.XmlDomUtils.XmlDomUtilitiesException
 import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
 import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.WrongUserResponseException;
 import com.yahoo.yrlhaifa.liveqa.challenge.rep.ParticipantAnswer;
+import com.yahoo.yrlhaifa.liveqa.challenge.storage.AnswerXmlLimits.DeadlineInputStream;
 import com.yahoo.yrlhaifa.liveqa.common.ExceptionUtilities;
 
 import static com.yahoo.yrlhaifa.haifa_utils.utils.XmlDomUtils.*;
@@ -29,13 +32,20 @@ import static com.yahoo.yrlhaifa.haifa_utils.utils.XmlDomUtils.*;
  * Parses an XML returned from a participant, which holds the participant's answer to a given question. <BR>
  * The XML might alternatively provide a human-readable string which explains why the participant did not answer the
  * question.
+ * <P>
+ * This implementation parses the XML into a DOM tree. The document builders are cached, one per thread. See also
+ * {@link ParticipantAnswerFromXmlStream}, a streaming implementation.
+ * <P>
+ * If {@link AnswerXmlLimits} are given, the XML is parsed in a hardened mode, which bounds the resources spent on it.
+ * The depth and attribute limits are enforced by the JDK's built-in parser. With other parsers, which do not support
+ * these limits, only the other limits are enforced.
  *
  * Date: Jan 18, 2015
  * 
  * @author Asher Stern
  *
  */
-public class ParticipantAnswerFromXmlString {
+public class ParticipantAnswerFromXmlString implements ParticipantAnswerXml {
     public static final String ANSWER_BASE_ELEMENT_NAME = "answer";
     public static final String ANSWER_ANSWERED_YES_NO_ATTRIBUTE_NAME = "answered";
     public static final String ANSWER_REPORTED_TIME_MILLISECONDS_ATTRIBUTE_NAME = "time";
@@ -51,10 +61,47 @@ public class ParticipantAnswerFromXmlString {
 
     public ParticipantAnswerFromXmlString(String xmlContents, int maximumAnswerContentLength,
                     int maximumSummaryLength) {
+        this(xmlContents.getBytes(Constants.WORKING_CHARSET), maximumAnswerContentLength, maximumSummaryLength);
+    }
+
+    private ParticipantAnswerFromXmlString(byte[] xmlBytes, int maximumAnswerContentLength, int maximumSummaryLength) {
+        this(xmlBytes, 0, xmlBytes.length, maximumAnswerContentLength, maximumSummaryLength);
+    }
+
+    /**
+     * Constructor with the XML as bytes, as received from the participant. The bytes are parsed as they are, with no
+     * intermediate copies.
+     *
+     * @param xmlBytes A buffer which holds the XML.
+     * @param offset The XML's offset in the buffer.
+     * @param length The XML's length, in bytes.
+     * @param maximumAnswerContentLength Longer answers are truncated.
+     * @param maximumSummaryLength Longer summaries are truncated.
+     */
+    public ParticipantAnswerFromXmlString(byte[] xmlBytes, int offset, int length, int maximumAnswerContentLength,
+                    int maximumSummaryLength) {
+        this(xmlBytes, offset, length, maximumAnswerContentLength, maximumSummaryLength, null);
+    }
+
+    /**
+     * Constructor with the XML as bytes, which are parsed in a hardened mode, bounded by the given limits.
+     *
+     * @param xmlBytes A buffer which holds the XML.
+     * @param offset The XML's offset in the buffer.
+     * @param length The XML's length, in bytes.
+     * @param maximumAnswerContentLength Longer answers are truncated.
+     * @param maximumSummaryLength Longer summaries are truncated.
+     * @param limits Limits on the resources spent on parsing. If null, the XML is parsed with the parser's defaults.
+     */
+    public ParticipantAnswerFromXmlString(byte[] xmlBytes, int offset, int length, int maximumAnswerContentLength,
+                    int maximumSummaryLength, AnswerXmlLimits limits) {
         super();
-        this.xmlContents = xmlContents;
+        this.xmlBytes = xmlBytes;
+        this.offset = offset;
+        this.length = length;
         this.maximumAnswerContentLength = maximumAnswerContentLength;
         this.maximumSummaryLength = maximumSummaryLength;
+        this.limits = limits;
     }
 
     public static enum YesNoEnum {
@@ -72,6 +119,7 @@ public class ParticipantAnswerFromXmlString {
     }
 
 
+    @Override
     public void create() throws WrongUserResponseException {
         try {
             Document document = createDocument();
@@ -89,6 +137,10 @@ public class ParticipantAnswerFromXmlString {
             {
                 retrieveWhyNotAnswered(answerElement);
             }
+            if (deadlineStream != null) {
+                // The parser checks the time only when it reads its input.
+                deadlineStream.checkDeadline();
+            }
         } catch (WrongUserResponseException e) {
             throw e;
         } catch (SAXException | IOException | ParserConfigurationException | XmlDomUtilitiesException e) {
@@ -103,14 +155,17 @@ public class ParticipantAnswerFromXmlString {
     }
 
 
+    @Override
     public boolean isAnswered() {
         return answered;
     }
 
+    @Override
     public ParticipantAnswer getAnswer() {
         return answer;
     }
 
+    @Override
     public ReasonWhyQuestionDiscardByParticipant getWhyNotAnswered() {
         return whyNotAnswered;
     }
@@ -122,17 +177,7 @@ public class ParticipantAnswerFromXmlString {
     private void retrieveAnswerTime(final Element answerElement) throws WrongUserResponseException {
         // Read answer time attribute
         String timeString = answerElement.getAttribute(ANSWER_REPORTED_TIME_MILLISECONDS_ATTRIBUTE_NAME);
-        if (timeString != null) {
-            if (timeString.length() > 0) {
-                try {
-                    answerTimeMilliseconds = Long.parseLong(timeString);
-                } catch (NumberFormatException e) {
-                    throw new WrongUserResponseException("Wrong answer time attribute. (\"" + timeString
-                                    + "\"). Expected an integer number.", e);
-                }
-
-            }
-        } // end if { if {
+        answerTimeMilliseconds = parseAnswerTime(timeString, answerTimeMilliseconds);
     }
 
     private void retrieveWhyNotAnswered(final Element answerElement) throws XmlDomUtilitiesException {
@@ -158,27 +203,12 @@ public class ParticipantAnswerFromXmlString {
             answerContent = answerContent.substring(0, maximumAnswerContentLength);
         }
 
-        List<String> resourcesList = null;
+        String resourcesString = null;
         Element resourcesElement = getChildElement(answerElement, ANSWER_RESOURCES_ELEMENT_NAME, true);
         if (resourcesElement != null) {
-            String resourcesString = getTextOfElement(resourcesElement, false);
-            if (resourcesString != null) {
-                resourcesString = resourcesString.trim();
-                if (resourcesString.length() > 0) {
-                    String[] resourcesArray = resourcesString.split(RESOURCES_LIST_SEPARATOR);
-                    if (resourcesArray.length > 0) {
-                        resourcesList = new ArrayList<String>(resourcesArray.length);
-                        for (String resource : resourcesArray) {
-                            resourcesList.add(resource.trim());
-                        }
-                        resourcesList = Collections.unmodifiableList(resourcesList);
-                    }
-                }
-            }
-        }
-        if (null == resourcesList) {
-            resourcesList = Collections.emptyList();
+            resourcesString = getTextOfElement(resourcesElement, false);
         }
+        List<String> resourcesList = parseResources(resourcesString);
 
         Element titleFocusElement = getChildElement(answerElement, TITLE_FOCUS_ELEMENT_NAME, true);
         String titleFocusContent = titleFocusElement == null ? "" : getTextOfElement(titleFocusElement, false);
@@ -208,15 +238,106 @@ public class ParticipantAnswerFromXmlString {
 
 
 
-    private Document createDocument() throws SAXException, IOException, ParserConfigurationException {
-        InputStream stream = new ByteArrayInputStream(xmlContents.getBytes(Constants.WORKING_CHARSET));
-        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(stream);
-        return document;
+    private Document createDocument()
+                    throws SAXException, IOException, ParserConfigurationException, WrongUserResponseException {
+        CachedDocumentBuilder cached = DOCUMENT_BUILDER.get();
+        if ((null == cached) || (cached.limits != limits)) {
+            cached = new CachedDocumentBuilder(limits, newDocumentBuilder(limits));
+            DOCUMENT_BUILDER.set(cached);
+        }
+        InputStream stream = new ByteArrayInputStream(xmlBytes, offset, length);
+        if (limits != null) {
+            // The parse time starts now, once the builder is ready.
+            deadlineStream = limits.newInputStream(xmlBytes, offset, length);
+            stream = deadlineStream;
+        }
+        try {
+            return cached.documentBuilder.parse(stream);
+        } finally {
+            cached.documentBuilder.reset();
+        }
     }
 
+    private static DocumentBuilder newDocumentBuilder(final AnswerXmlLimits limits)
+                    throws ParserConfigurationException {
+        if (null == limits) {
+            synchronized (DOCUMENT_BUILDER_FACTORY) {
+                return DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+            }
+        }
+        synchronized (HARDENED_DOCUMENT_BUILDER_FACTORY) {
+            HARDENED_DOCUMENT_BUILDER_FACTORY.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            HARDENED_DOCUMENT_BUILDER_FACTORY.setFeature(DISALLOW_DOCTYPE_DECLARATION_FEATURE, true);
+            HARDENED_DOCUMENT_BUILDER_FACTORY.setXIncludeAware(false);
+            HARDENED_DOCUMENT_BUILDER_FACTORY.setExpandEntityReferences(false);
+            // The tree is built while the input is read (and the time is checked), rather than when it is traversed.
+            HARDENED_DOCUMENT_BUILDER_FACTORY.setFeature(DEFER_NODE_EXPANSION_FEATURE, false);
+            setLimitAttribute(MAXIMUM_ELEMENT_DEPTH_ATTRIBUTE, limits.getMaximumDepth());
+            setLimitAttribute(ELEMENT_ATTRIBUTE_LIMIT_ATTRIBUTE, limits.getMaximumAttributesPerElement());
+            return HARDENED_DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+        }
+    }
 
+    private static void setLimitAttribute(final String name, final int value) {
+        try {
+            HARDENED_DOCUMENT_BUILDER_FACTORY.setAttribute(name, String.valueOf(value));
+        } catch (IllegalArgumentException e) {
+            logger.warn("The XML parser does not support the limit \"" + name + "\". The limit is not enforced.");
+        }
+    }
+
+
+
+    /**
+     * Parses the value of the answer's time attribute.
+     *
+     * @param timeString The attribute's value. Might be null or empty.
+     * @param defaultTime Returned if the attribute is null or empty.
+     */
+    static long parseAnswerTime(String timeString, long defaultTime) throws WrongUserResponseException {
+        if (timeString != null) {
+            if (timeString.length() > 0) {
+                try {
+                    return Long.parseLong(timeString);
+                } catch (NumberFormatException e) {
+                    throw new WrongUserResponseException("Wrong answer time attribute. (\"" + timeString
+                                    + "\"). Expected an integer number.", e);
+                }
+
+            }
+        } // end if { if {
+        return defaultTime;
+    }
+
+    /**
+     * Parses the text of the resources element, which is a list of resources, separated by
+     * {@link #RESOURCES_LIST_SEPARATOR}.
+     *
+     * @param resourcesString The text. Might be null.
+     * @return An unmodifiable list of the resources. Empty if none.
+     */
+    static List<String> parseResources(String resourcesString) {
+        List<String> resourcesList = null;
+        if (resourcesString != null) {
+            resourcesString = resourcesString.trim();
+            if (resourcesString.length() > 0) {
+                String[] resourcesArray = resourcesString.split(RESOURCES_LIST_SEPARATOR);
+                if (resourcesArray.length > 0) {
+                    resourcesList = new ArrayList<String>(resourcesArray.length);
+                    for (String resource : resourcesArray) {
+                        resourcesList.add(resource.trim());
+                    }
+                    resourcesList = Collections.unmodifiableList(resourcesList);
+                }
+            }
+        }
+        if (null == resourcesList) {
+            resourcesList = Collections.emptyList();
+        }
+        return resourcesList;
+    }
 
-    private static boolean interpretYesNoString(String str) throws WrongUserResponseException {
+    static boolean interpretYesNoString(String str) throws WrongUserResponseException {
         boolean detected = false;
         boolean ret = false;
         for (YesNoEnum yesNo : YesNoEnum.values()) {
@@ -237,15 +358,49 @@ public class ParticipantAnswerFromXmlString {
 
 
 
-    private final String xmlContents;
+    private final byte[] xmlBytes;
+    private final int offset;
+    private final int length;
     private final int maximumAnswerContentLength;
     private final int maximumSummaryLength;
+    private final AnswerXmlLimits limits;
+    private DeadlineInputStream deadlineStream = null;
 
     private boolean answered = false;
     private long answerTimeMilliseconds = 0;
     private ParticipantAnswer answer = null;
     private ReasonWhyQuestionDiscardByParticipant whyNotAnswered = null;
 
+    /**
+     * A document builder, and the limits by which it has been configured.
+     */
+    private static class CachedDocumentBuilder {
+        public CachedDocumentBuilder(AnswerXmlLimits limits, DocumentBuilder documentBuilder) {
+            super();
+            this.limits = limits;
+            this.documentBuilder = documentBuilder;
+        }
+
+        private final AnswerXmlLimits limits;
+        private final DocumentBuilder documentBuilder;
+    }
+
+    private static final String DISALLOW_DOCTYPE_DECLARATION_FEATURE =
+                    "http://apache.org/xml/features/disallow-doctype-decl";
+    private static final String DEFER_NODE_EXPANSION_FEATURE =
+                    "http://apache.org/xml/features/dom/defer-node-expansion";
+    private static final String MAXIMUM_ELEMENT_DEPTH_ATTRIBUTE =
+                    "http://www.oracle.com/xml/jaxp/properties/maxElementDepth";
+    private static final String ELEMENT_ATTRIBUTE_LIMIT_ATTRIBUTE =
+                    "http://www.oracle.com/xml/jaxp/properties/elementAttributeLimit";
+
+    // A DocumentBuilderFactory is not guaranteed to be thread safe, nor is a DocumentBuilder. The factories are looked
+    // up once, and each thread creates and reuses its own builder.
+    private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
+    private static final DocumentBuilderFactory HARDENED_DOCUMENT_BUILDER_FACTORY =
+                    DocumentBuilderFactory.newInstance();
+    private static final ThreadLocal<CachedDocumentBuilder> DOCUMENT_BUILDER = new ThreadLocal<CachedDocumentBuilder>();
+
     private static final org.apache.log4j.Logger logger =
                     org.apache.log4j.Logger.getLogger(ParticipantAnswerFromXmlString.class);
 }
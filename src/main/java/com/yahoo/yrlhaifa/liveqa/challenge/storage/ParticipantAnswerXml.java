@@ -0,0 +1,42 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.storage;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.WrongUserResponseException;
+import com.yahoo.yrlhaifa.liveqa.challenge.rep.ParticipantAnswer;
+
+/**
+ * Parses an XML returned from a participant, which holds the participant's answer to a given question, or a
+ * human-readable string which explains why the participant did not answer the question. The XML format is described
+ * by the element and attribute names in {@link ParticipantAnswerFromXmlString}.
+ * <P>
+ * An instance parses a single XML. Instances are created by {@link ParticipantAnswerXmlParser}.
+ * <P>
+ * The same interface is implemented by {@link ParticipantAnswerFromJson}, which parses the same answer from the
+ * alternative, JSON, format.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public interface ParticipantAnswerXml {
+    /**
+     * Parses the XML. Must be called before the other methods.
+     *
+     * @throws WrongUserResponseException If the XML is malformed, or does not match the answer format.
+     */
+    public void create() throws WrongUserResponseException;
+
+    public boolean isAnswered();
+
+    /**
+     * The answer, if {@link #isAnswered()}. Otherwise null.
+     */
+    public ParticipantAnswer getAnswer();
+
+    /**
+     * The reason why the question was not answered, if not {@link #isAnswered()}. Otherwise null.
+     */
+    public ReasonWhyQuestionDiscardByParticipant getWhyNotAnswered();
+}
@@ -0,0 +1,49 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.challenge.storage;
+
+/**
+ * The available implementations of {@link ParticipantAnswerXml}.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public enum ParticipantAnswerXmlParser {
+    /**
+     * The XML is parsed into a DOM tree, from which the answer's elements are retrieved. See
+     * {@link ParticipantAnswerFromXmlString}.
+     */
+    DOM,
+    /**
+     * The XML is parsed by a streaming (StAX) parser, which retains only the answer's elements. See
+     * {@link ParticipantAnswerFromXmlStream}.
+     */
+    STAX;
+
+    /**
+     * Creates a parser of the given XML.
+     *
+     * @param xmlBytes A buffer which holds the XML.
+     * @param offset The XML's offset in the buffer.
+     * @param length The XML's length, in bytes.
+     * @param maximumAnswerContentLength Longer answers are truncated.
+     * @param maximumSummaryLength Longer summaries are truncated.
+     * @param limits Limits on the resources spent on parsing. If null, the XML is parsed with the parser's defaults.
+     * @return a new parser, whose {@link ParticipantAnswerXml#create()} has not yet been called.
+     */
+    public ParticipantAnswerXml newAnswerXml(byte[] xmlBytes, int offset, int length, int maximumAnswerContentLength,
+                    int maximumSummaryLength, AnswerXmlLimits limits) {
+        switch (this) {
+            case DOM:
+                return new ParticipantAnswerFromXmlString(xmlBytes, offset, length, maximumAnswerContentLength,
+                                maximumSummaryLength, limits);
+            case STAX:
+                return new ParticipantAnswerFromXmlStream(xmlBytes, offset, length, maximumAnswerContentLength,
+                                maximumSummaryLength, limits);
+            default:
+                throw new IllegalStateException("Unsupported answer XML parser: " + this);
+        }
+    }
+}
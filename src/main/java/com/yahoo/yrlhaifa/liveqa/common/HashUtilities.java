@@ -0,0 +1,33 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.common;
+
+/**
+ * Utilities related to 64-bit hashing: the constants of the FNV-1a hash, which is computed incrementally by the callers
+ * (one character or byte at a time, without allocation), and a finalizer which spreads its bits.
+ * <P>
+ * An FNV-1a hash starts from {@link #FNV_OFFSET_BASIS}, and each value is added by
+ * <code>hash = (hash ^ value) * FNV_PRIME</code>.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class HashUtilities {
+    public static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    public static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * Spreads the bits of the given hash (the finalizer of MurmurHash3). The low bits of an FNV-1a hash are weak, so
+     * it should be mixed before its bits are used separately.
+     */
+    public static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,130 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.WrongUserResponseException;
+import com.yahoo.yrlhaifa.liveqa.challenge.storage.AnswerXmlLimits;
+import com.yahoo.yrlhaifa.liveqa.challenge.storage.ParticipantAnswerXml;
+import com.yahoo.yrlhaifa.liveqa.challenge.storage.ParticipantAnswerXmlParser;
+
+/**
+ * Parses hostile answer XMLs (entity expansion, external entities, deep nesting, many attributes, many elements) by
+ * each {@link ParticipantAnswerXmlParser}, with and without {@link AnswerXmlLimits}, and reports, for each, the time,
+ * the number of allocated bytes, and whether the XML has been rejected.
+ * <P>
+ * The maximum number of input bytes is set high (by default 4 MB), such that the other limits are exercised.
+ * <P>
+ * Usage: AnswerXmlAdversarialBenchmark [maximum-input-bytes]
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class AnswerXmlAdversarialBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        final int maximumInputBytes = (args.length > 0) ? Integer.parseInt(args[0]) : 4 * 1024 * 1024;
+        final AnswerXmlLimits limits = new AnswerXmlLimits(Constants.DEFAULT_ANSWER_XML_MAXIMUM_DEPTH,
+                        Constants.DEFAULT_ANSWER_XML_MAXIMUM_ATTRIBUTES_PER_ELEMENT, maximumInputBytes,
+                        Constants.DEFAULT_ANSWER_XML_MAXIMUM_PARSE_TIME_MILLISECONDS);
+
+        for (Map.Entry<String, byte[]> nameAndXml : createXmls().entrySet()) {
+            System.out.println(nameAndXml.getKey() + " (" + nameAndXml.getValue().length + " bytes):");
+            for (ParticipantAnswerXmlParser parser : ParticipantAnswerXmlParser.values()) {
+                run(parser, null, nameAndXml.getValue());
+                run(parser, limits, nameAndXml.getValue());
+            }
+        }
+    }
+
+    private static void run(ParticipantAnswerXmlParser parser, AnswerXmlLimits limits, byte[] xml) {
+        final long allocatedBefore = BenchmarkUtilities.allocatedBytes();
+        final long startTime = System.nanoTime();
+        String outcome;
+        try {
+            ParticipantAnswerXml answerXml = parser.newAnswerXml(xml, 0, xml.length, 1000, 250, limits);
+            answerXml.create();
+            outcome = "accepted";
+        } catch (WrongUserResponseException e) {
+            outcome = "rejected (" + rootCauseOf(e) + ")";
+        } catch (RuntimeException | StackOverflowError | OutOfMemoryError e) {
+            outcome = "failed (" + e + ")";
+        }
+        final long elapsedMilliseconds = (System.nanoTime() - startTime) / 1000000;
+        final long allocated = BenchmarkUtilities.allocatedBytes() - allocatedBefore;
+        System.out.println("    " + parser + ((null == limits) ? "" : " (hardened)") + ": " + elapsedMilliseconds
+                        + " ms" + ((allocatedBefore < 0) ? "" : (", " + (allocated / 1024) + " KB allocated")) + ", "
+                        + outcome);
+    }
+
+    private static Map<String, byte[]> createXmls() {
+        Map<String, byte[]> xmls = new LinkedHashMap<String, byte[]>();
+
+        StringBuilder sb = new StringBuilder("<?xml version=\"1.0\"?>\n<!DOCTYPE xml [\n<!ENTITY e0 \"lol\">\n");
+        for (int level = 1; level <= 10; ++level) {
+            sb.append("<!ENTITY e").append(level).append(" \"");
+            for (int index = 0; index < 10; ++index) {
+                sb.append("&e").append(level - 1).append(';');
+            }
+            sb.append("\">\n");
+        }
+        sb.append("]>\n");
+        xmls.put("Exponential entity expansion", answer(sb.toString(), "&e10;", ""));
+
+        sb = new StringBuilder("<?xml version=\"1.0\"?>\n<!DOCTYPE xml [\n<!ENTITY e \"");
+        for (int index = 0; index < 50000; ++index) {
+            sb.append('x');
+        }
+        sb.append("\">\n]>\n");
+        StringBuilder references = new StringBuilder();
+        for (int index = 0; index < 5000; ++index) {
+            references.append("&e;");
+        }
+        xmls.put("Quadratic entity expansion", answer(sb.toString(), references.toString(), ""));
+
+        xmls.put("External entity", answer("<?xml version=\"1.0\"?>\n<!DOCTYPE xml [\n"
+                        + "<!ENTITY e SYSTEM \"file:///etc/passwd\">\n]>\n", "&e;", ""));
+
+        sb = new StringBuilder();
+        for (int index = 0; index < 100000; ++index) {
+            sb.append("<a>");
+        }
+        for (int index = 0; index < 100000; ++index) {
+            sb.append("</a>");
+        }
+        xmls.put("Deep nesting", answer("", "answer", sb.toString()));
+
+        sb = new StringBuilder("<a");
+        for (int index = 0; index < 50000; ++index) {
+            sb.append(" a").append(index).append("=\"v\"");
+        }
+        sb.append("/>");
+        xmls.put("Many attributes", answer("", "answer", sb.toString()));
+
+        sb = new StringBuilder();
+        for (int index = 0; index < 300000; ++index) {
+            sb.append("<a/>");
+        }
+        xmls.put("Many elements", answer("", "answer", sb.toString()));
+
+        return xmls;
+    }
+
+    private static byte[] answer(String prolog, String content, String extraElements) {
+        return (prolog + "<xml><answer answered=\"yes\"><content>" + content + "</content>" + extraElements
+                        + "</answer></xml>").getBytes(Constants.WORKING_CHARSET);
+    }
+
+    private static String rootCauseOf(Throwable throwable) {
+        while (throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        String message = String.valueOf(throwable.getMessage());
+        return (message.length() > 100) ? (message.substring(0, 100) + "...") : message;
+    }
+}
@@ -0,0 +1,160 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.utils;
+
+import java.util.Random;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
+import com.yahoo.yrlhaifa.liveqa.challenge.storage.AnswerXmlLimits;
+import com.yahoo.yrlhaifa.liveqa.challenge.storage.ParticipantAnswerFromJson;
+import com.yahoo.yrlhaifa.liveqa.challenge.storage.ParticipantAnswerXml;
+import com.yahoo.yrlhaifa.liveqa.challenge.storage.ParticipantAnswerXmlParser;
+
+/**
+ * Compares the {@link ParticipantAnswerXmlParser}s, and the JSON answer format ({@link ParticipantAnswerFromJson}).
+ * Parses realistic answers (answers of several lengths, some of which are truncated, and some "not answered"
+ * responses) repeatedly, and reports, for each parser, with and without {@link AnswerXmlLimits}, the average time and
+ * the average number of allocated bytes per parsed answer. The JSON answers hold the same texts as the XML answers.
+ * <P>
+ * Usage: AnswerXmlParserBenchmark [iterations] [maximum-answer-length] [maximum-summary-length]
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class AnswerXmlParserBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        final int iterations = (args.length > 0) ? Integer.parseInt(args[0]) : 200000;
+        final int maximumAnswerLength = (args.length > 1) ? Integer.parseInt(args[1]) : 1000;
+        final int maximumSummaryLength = (args.length > 2) ? Integer.parseInt(args[2]) : 250;
+
+        final byte[][] xmls = createAnswers(maximumAnswerLength, false);
+        final byte[][] jsons = createAnswers(maximumAnswerLength, true);
+        final AnswerXmlLimits[] limitsOptions = new AnswerXmlLimits[] {null,
+                        new AnswerXmlLimits(Constants.DEFAULT_ANSWER_XML_MAXIMUM_DEPTH,
+                                        Constants.DEFAULT_ANSWER_XML_MAXIMUM_ATTRIBUTES_PER_ELEMENT, Integer.MAX_VALUE,
+                                        Constants.DEFAULT_ANSWER_XML_MAXIMUM_PARSE_TIME_MILLISECONDS)};
+        BenchmarkUtilities.warmUpAndMeasure(new BenchmarkUtilities.Round() {
+            @Override
+            public void runRound(boolean measured) throws Exception {
+                for (ParticipantAnswerXmlParser parser : ParticipantAnswerXmlParser.values()) {
+                    for (AnswerXmlLimits limits : limitsOptions) {
+                        run(parser, limits, xmls, iterations, maximumAnswerLength, maximumSummaryLength, measured);
+                    }
+                }
+                for (AnswerXmlLimits limits : limitsOptions) {
+                    run(null, limits, jsons, iterations, maximumAnswerLength, maximumSummaryLength, measured);
+                }
+            }
+        });
+    }
+
+    /**
+     * @param parser The XML parser, or null for JSON answers.
+     */
+    private static void run(ParticipantAnswerXmlParser parser, AnswerXmlLimits limits, byte[][] answers, int iterations,
+                    int maximumAnswerLength, int maximumSummaryLength, boolean print) throws Exception {
+        final long allocatedBefore = BenchmarkUtilities.allocatedBytes();
+        int answered = 0;
+        final long startTime = System.nanoTime();
+        for (int index = 0; index < iterations; ++index) {
+            final byte[] xml = answers[index % answers.length];
+            ParticipantAnswerXml answerXml = (null == parser)
+                            ? new ParticipantAnswerFromJson(xml, 0, xml.length, maximumAnswerLength,
+                                            maximumSummaryLength, limits)
+                            : parser.newAnswerXml(xml, 0, xml.length, maximumAnswerLength, maximumSummaryLength,
+                                            limits);
+            answerXml.create();
+            if (answerXml.isAnswered()) {
+                ++answered;
+            }
+        }
+        final long elapsedNanoseconds = System.nanoTime() - startTime;
+        final long allocated = BenchmarkUtilities.allocatedBytes() - allocatedBefore;
+        if (print) {
+            System.out.println(((null == parser) ? "JSON" : parser) + ((null == limits) ? "" : " (hardened)") + ": "
+                            + iterations + " answers (" + answered + " answered) in "
+                            + (elapsedNanoseconds / 1000000) + " ms. " + (elapsedNanoseconds / iterations)
+                            + " ns per answer" + ((allocatedBefore < 0) ? "."
+                                            : (", " + (allocated / iterations) + " bytes allocated per answer.")));
+        }
+    }
+
+    private static byte[][] createAnswers(int maximumAnswerLength, boolean json) {
+        final Random random = new Random(1);
+        final int[] answerLengths = new int[] {200, maximumAnswerLength / 2, maximumAnswerLength,
+                        maximumAnswerLength * 2};
+        final byte[][] answers = new byte[answerLengths.length + 1][];
+        for (int index = 0; index < answerLengths.length; ++index) {
+            final String pid = "participant-" + index;
+            final String qid = String.valueOf(20160101000000L + index);
+            final String time = String.valueOf(random.nextInt(60000));
+            final String content = text(random, answerLengths[index]);
+            final String resources = "https://en.wikipedia.org/wiki/Question_answering,"
+                            + "https://answers.yahoo.com/question/index?qid=20160101000000AAabcde";
+            final String titleFoci = text(random, 20);
+            final String bodyFoci = text(random, 40);
+            final String summary = text(random, 300);
+            StringBuilder sb = new StringBuilder();
+            if (json) {
+                sb.append("{\"answered\": \"yes\", \"pid\": \"").append(pid).append("\", \"qid\": \"").append(qid)
+                                .append("\", \"time\": ").append(time).append(",\n");
+                sb.append("  \"content\": \"").append(jsonEscape(content)).append("\",\n");
+                sb.append("  \"resources\": \"").append(resources).append("\",\n");
+                sb.append("  \"title-foci\": \"").append(jsonEscape(titleFoci)).append("\",\n");
+                sb.append("  \"body-foci\": \"").append(jsonEscape(bodyFoci)).append("\",\n");
+                sb.append("  \"summary\": \"").append(jsonEscape(summary)).append("\"}\n");
+            } else {
+                sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+                sb.append("<xml>\n");
+                sb.append("  <answer answered=\"yes\" pid=\"").append(pid).append("\" qid=\"").append(qid)
+                                .append("\" time=\"").append(time).append("\">\n");
+                sb.append("    <content>").append(xmlEscape(content)).append("</content>\n");
+                sb.append("    <resources>").append(resources).append("</resources>\n");
+                sb.append("    <title-foci>").append(xmlEscape(titleFoci)).append("</title-foci>\n");
+                sb.append("    <body-foci>").append(xmlEscape(bodyFoci)).append("</body-foci>\n");
+                sb.append("    <summary>").append(xmlEscape(summary)).append("</summary>\n");
+                sb.append("  </answer>\n");
+                sb.append("</xml>\n");
+            }
+            answers[index] = sb.toString().getBytes(Constants.WORKING_CHARSET);
+        }
+        final String notAnswered = json
+                        ? "{\"answered\": \"no\", \"pid\": \"participant\", \"qid\": \"20160101000000AAabcde\",\n"
+                                        + "  \"discard-reason\": \"The question is out of my scope.\"}\n"
+                        : "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<xml>\n"
+                                        + "  <answer answered=\"no\" pid=\"participant\""
+                                        + " qid=\"20160101000000AAabcde\">\n"
+                                        + "    <discard-reason>The question is out of my scope.</discard-reason>\n"
+                                        + "  </answer>\n</xml>\n";
+        answers[answerLengths.length] = notAnswered.getBytes(Constants.WORKING_CHARSET);
+        return answers;
+    }
+
+    /**
+     * Random words, of at least the given length.
+     */
+    private static String text(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            final String word = WORDS[random.nextInt(WORDS.length)];
+            sb.append((sb.length() == 0) ? "" : " ").append(word);
+        }
+        return sb.toString();
+    }
+
+    private static String xmlEscape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static String jsonEscape(String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static final String[] WORDS = new String[] {"the", "question", "answer", "is", "that", "you", "should",
+                    "consider", "a", "doctor", "&", "because", "it", "depends", "on", "many", "factors", "such", "as",
+                    "age", "weight", "and", "history", "caf\u00e9", "\u05e9\u05dc\u05d5\u05dd", "<b>", "\"however\"",
+                    "in", "most", "cases", "rest", "helps"};
+}
@@ -0,0 +1,204 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.utils;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import com.yahoo.yrlhaifa.haifa_utils.utils.StringUtils;
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.QuestionCorpus;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.BadWordsQuestionFilter;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.QuestionFilter;
+import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
+
+/**
+ * Compares {@link BadWordsQuestionFilter} with its former implementation, which split the title and the body of each
+ * question into a set of lower-cased words, and looked each of them up in the set of bad words. Reports the average
+ * time and the average number of allocated bytes per question, on the questions of a corpus (see
+ * {@link QuestionCorpus}), and the number of questions on which the two implementations decide differently. (The
+ * former implementation did not find a word attached to other words by punctuation, e.g., "word" in "x/word", which
+ * the current one finds.)
+ * <P>
+ * The bad words are read from a file, one word per line. If no file is given, words of medium frequency in the corpus
+ * are used, so that some of the questions are filtered out. The current implementation is also measured with phrases:
+ * pairs of consecutive words, taken from the corpus, are added to the words.
+ * <P>
+ * Usage: BadWordsFilterBenchmark [iterations] [corpus-file] [bad-words-file]
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class BadWordsFilterBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        final int iterations = (args.length > 0) ? Integer.parseInt(args[0]) : 20;
+        final QuestionCorpus corpus = QuestionCorpus.load(new File((args.length > 1) ? args[1] : "data/liveqa-5k.gz"));
+        final Calendar now = Calendar.getInstance(Constants.WORKING_TIME_ZONE, Constants.WORKING_LOCALE);
+        final List<Question> questions = new ArrayList<Question>(corpus.size());
+        for (int index = 0; index < corpus.size(); ++index) {
+            questions.add(corpus.getQuestion(index, "", now));
+        }
+        final Set<String> words = (args.length > 2) ? readWords(args[2]) : mediumFrequencyWords(questions, 500);
+        final Set<String> wordsAndPhrases = new LinkedHashSet<String>(words);
+        wordsAndPhrases.addAll(phrases(questions, 500));
+
+        final QuestionFilter formerFilter = new FormerBadWordsQuestionFilter(words);
+        final QuestionFilter filter = new BadWordsQuestionFilter(words);
+        final QuestionFilter phrasesFilter = new BadWordsQuestionFilter(wordsAndPhrases);
+        int onlyFormer = 0;
+        int onlyCurrent = 0;
+        for (Question question : questions) {
+            final boolean formerOK = formerFilter.questionOK(question);
+            final boolean currentOK = filter.questionOK(question);
+            if (formerOK && (!currentOK)) {
+                ++onlyCurrent;
+            } else if ((!formerOK) && currentOK) {
+                ++onlyFormer;
+            }
+        }
+        System.out.println(questions.size() + " questions, " + words.size() + " bad words, "
+                        + (wordsAndPhrases.size() - words.size()) + " bad phrases. Filtered out only by the former: "
+                        + onlyFormer + ", only by the current: " + onlyCurrent);
+
+        BenchmarkUtilities.warmUpAndMeasure(new BenchmarkUtilities.Round() {
+            @Override
+            public void runRound(boolean print) throws Exception {
+                run("FORMER (words)", formerFilter, questions, iterations, print);
+                run("AUTOMATON (words)", filter, questions, iterations, print);
+                run("AUTOMATON (words and phrases)", phrasesFilter, questions, iterations, print);
+            }
+        });
+    }
+
+    private static void run(String name, QuestionFilter filter, List<Question> questions, int iterations,
+                    boolean print) {
+        final long allocatedBefore = BenchmarkUtilities.allocatedBytes();
+        final long startTime = System.nanoTime();
+        int filteredOut = 0;
+        for (int iteration = 0; iteration < iterations; ++iteration) {
+            for (Question question : questions) {
+                if (!filter.questionOK(question)) {
+                    ++filteredOut;
+                }
+            }
+        }
+        final long elapsedNanoseconds = System.nanoTime() - startTime;
+        final long allocated = BenchmarkUtilities.allocatedBytes() - allocatedBefore;
+        final long checks = (long) iterations * questions.size();
+        if (print) {
+            System.out.println(name + ": " + checks + " questions in " + (elapsedNanoseconds / 1000000) + " ms ("
+                            + (filteredOut / iterations) + " filtered out). " + (elapsedNanoseconds / checks)
+                            + " ns per question" + ((allocatedBefore < 0) ? "."
+                                            : (", " + (allocated / checks) + " bytes allocated per question.")));
+        }
+    }
+
+    private static Set<String> readWords(String filename) throws Exception {
+        Set<String> words = new LinkedHashSet<String>();
+        for (String line : Files.readAllLines(new File(filename).toPath(), Constants.WORKING_CHARSET)) {
+            line = line.trim().toLowerCase();
+            if (line.length() > 0) {
+                words.add(line);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * The given number of words, which follow the 200 most frequent words of the corpus.
+     */
+    private static Set<String> mediumFrequencyWords(List<Question> questions, int numberOfWords) {
+        final Map<String, Integer> frequencies = new HashMap<String, Integer>();
+        for (Question question : questions) {
+            for (String word : FormerBadWordsQuestionFilter.splitStringIntoLowercaseTrimmedWords(
+                            question.getTitle() + " " + question.getBody())) {
+                if (word.length() > 0) {
+                    final Integer frequency = frequencies.get(word);
+                    frequencies.put(word, (null == frequency) ? 1 : (frequency + 1));
+                }
+            }
+        }
+        final List<Map.Entry<String, Integer>> sorted =
+                        new ArrayList<Map.Entry<String, Integer>>(frequencies.entrySet());
+        Collections.sort(sorted, new Comparator<Map.Entry<String, Integer>>() {
+            @Override
+            public int compare(Map.Entry<String, Integer> o1, Map.Entry<String, Integer> o2) {
+                final int byFrequency = o2.getValue().compareTo(o1.getValue());
+                return (byFrequency != 0) ? byFrequency : o1.getKey().compareTo(o2.getKey());
+            }
+        });
+        final Set<String> words = new LinkedHashSet<String>();
+        for (int index = 200; (index < sorted.size()) && (words.size() < numberOfWords); ++index) {
+            words.add(sorted.get(index).getKey());
+        }
+        return words;
+    }
+
+    /**
+     * Pairs of consecutive words, of random questions.
+     */
+    private static Set<String> phrases(List<Question> questions, int numberOfPhrases) {
+        final Random random = new Random(1);
+        final Set<String> phrases = new LinkedHashSet<String>();
+        for (int attempt = 0; (attempt < numberOfPhrases * 10) && (phrases.size() < numberOfPhrases); ++attempt) {
+            final String[] words = questions.get(random.nextInt(questions.size())).getTitle().split("\\s+");
+            if (words.length >= 2) {
+                final int index = random.nextInt(words.length - 1);
+                phrases.add((words[index] + " " + words[index + 1]).toLowerCase());
+            }
+        }
+        return phrases;
+    }
+
+
+    /**
+     * The former implementation of {@link BadWordsQuestionFilter}.
+     */
+    private static class FormerBadWordsQuestionFilter implements QuestionFilter {
+        public FormerBadWordsQuestionFilter(Set<String> badWordsLowerCase) {
+            super();
+            this.badWordsLowerCase = badWordsLowerCase;
+        }
+
+        @Override
+        public boolean questionOK(Question question) {
+            return (!(stringContainsBadWord(question.getTitle()) || stringContainsBadWord(question.getBody())));
+        }
+
+        private boolean stringContainsBadWord(final String str) {
+            Set<String> words = splitStringIntoLowercaseTrimmedWords(str);
+            for (String word : words) {
+                if (badWordsLowerCase.contains(word)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static Set<String> splitStringIntoLowercaseTrimmedWords(final String str) {
+            Set<String> words = new LinkedHashSet<String>();
+            if (str != null) {
+                for (String word : str.split("\\s+")) {
+                    String normalized = StringUtils.trimNeitherLetterNorDigit(word);
+                    words.add(normalized.trim().toLowerCase());
+                }
+            }
+            return words;
+        }
+
+        private final Set<String> badWordsLowerCase;
+    }
+}
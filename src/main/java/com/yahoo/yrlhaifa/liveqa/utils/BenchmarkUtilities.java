@@ -0,0 +1,49 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Utilities of the benchmarks in this package.
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class BenchmarkUtilities {
+    /**
+     * A round of a benchmark, which runs all its measurements once.
+     */
+    public static interface Round {
+        /**
+         * @param measured false in the warm-up round, whose results should not be reported.
+         */
+        public void runRound(boolean measured) throws Exception;
+    }
+
+    /**
+     * Runs the given round twice: the first run warms up the JVM (class loading, JIT compilation), and only the second
+     * one is measured.
+     */
+    public static void warmUpAndMeasure(final Round round) throws Exception {
+        round.runRound(false);
+        round.runRound(true);
+    }
+
+    /**
+     * Bytes allocated by the current thread so far, or -1 if not supported by the JVM.
+     */
+    public static long allocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreadBean = (com.sun.management.ThreadMXBean) threadBean;
+            if (sunThreadBean.isThreadAllocatedMemorySupported() && sunThreadBean.isThreadAllocatedMemoryEnabled()) {
+                return sunThreadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,129 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.utils;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.CharacterNGramEnglishClassifier;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.QuestionCorpus;
+import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
+
+/**
+ * Trains the {@link CharacterNGramEnglishClassifier}, and saves it into the files given in the configuration
+ * (english-classifier-language-model and english-classifier-model).
+ * <P>
+ * The English texts are the questions (title and body) of a question corpus (see {@link QuestionCorpus}), e.g.,
+ * data/liveqa-5k.gz. The texts in other languages are read from a text file (possibly gzip-compressed), one text per
+ * line, e.g., questions from the Spanish, French, German, etc. sites of Yahoo Answers. Every tenth text is held out:
+ * the threshold is tuned on the held-out texts, and the accuracy on them is reported, along with the average time of
+ * classifying a question.
+ * <P>
+ * Usage: EnglishClassifierTrainer english-corpus non-english-texts language-model-file model-file
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class EnglishClassifierTrainer {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.out.println("Usage: EnglishClassifierTrainer english-corpus non-english-texts "
+                            + "language-model-file model-file");
+            return;
+        }
+        final QuestionCorpus corpus = QuestionCorpus.load(new File(args[0]));
+        final Calendar now = Calendar.getInstance(Constants.WORKING_TIME_ZONE, Constants.WORKING_LOCALE);
+        final List<String> englishTexts = new ArrayList<String>(corpus.size());
+        for (int index = 0; index < corpus.size(); ++index) {
+            final Question question = corpus.getQuestion(index, "", now);
+            englishTexts.add(question.getTitle() + " " + question.getBody());
+        }
+        final List<String> otherTexts = readLines(new File(args[1]));
+
+        final List<String> englishTraining = new ArrayList<String>();
+        final List<String> englishHeldOut = new ArrayList<String>();
+        split(englishTexts, englishTraining, englishHeldOut);
+        final List<String> otherTraining = new ArrayList<String>();
+        final List<String> otherHeldOut = new ArrayList<String>();
+        split(otherTexts, otherTraining, otherHeldOut);
+        System.out.println("Training on " + englishTraining.size() + " English texts and " + otherTraining.size()
+                        + " other texts. Held out: " + englishHeldOut.size() + " English texts and "
+                        + otherHeldOut.size() + " other texts.");
+
+        final CharacterNGramEnglishClassifier classifier =
+                        CharacterNGramEnglishClassifier.train(englishTraining, otherTraining)
+                                        .tuneThreshold(englishHeldOut, otherHeldOut);
+        System.out.println("Threshold = " + classifier.getThreshold());
+        System.out.println("Held-out accuracy: English " + accuracy(classifier, englishHeldOut, true) + ", other "
+                        + accuracy(classifier, otherHeldOut, false));
+
+        BenchmarkUtilities.warmUpAndMeasure(new BenchmarkUtilities.Round() {
+            @Override
+            public void runRound(boolean measured) throws Exception {
+                final long startTime = System.nanoTime();
+                int english = 0;
+                for (String text : englishTexts) {
+                    if (classifier.classify(text).label()) {
+                        ++english;
+                    }
+                }
+                final long elapsedNanoseconds = System.nanoTime() - startTime;
+                if (measured) {
+                    System.out.println("Classified " + englishTexts.size() + " questions (" + english
+                                    + " as English) in " + (elapsedNanoseconds / 1000000) + " ms. "
+                                    + (elapsedNanoseconds / englishTexts.size() / 1000) + " us per question.");
+                }
+            }
+        });
+
+        classifier.save(new File(args[2]), new File(args[3]));
+        System.out.println("Saved the classifier into " + args[2] + " and " + args[3]);
+    }
+
+    /**
+     * Every tenth text is held out.
+     */
+    private static void split(List<String> texts, List<String> training, List<String> heldOut) {
+        for (int index = 0; index < texts.size(); ++index) {
+            ((index % 10 == 9) ? heldOut : training).add(texts.get(index));
+        }
+    }
+
+    private static double accuracy(CharacterNGramEnglishClassifier classifier, List<String> texts, boolean english) {
+        int correct = 0;
+        for (String text : texts) {
+            if (classifier.classify(text).label() == english) {
+                ++correct;
+            }
+        }
+        return (double) correct / Math.max(texts.size(), 1);
+    }
+
+    private static List<String> readLines(File file) throws Exception {
+        final List<String> lines = new ArrayList<String>();
+        try (InputStream stream = file.getName().endsWith(".gz") ? new GZIPInputStream(new FileInputStream(file))
+                        : new FileInputStream(file);
+                        BufferedReader reader =
+                                        new BufferedReader(new InputStreamReader(stream, Constants.WORKING_CHARSET))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.length() > 0) {
+                    lines.add(line);
+                }
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,160 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.utils;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import com.yahoo.yrlhaifa.haifa_utils.utils.StringUtils;
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.QuestionCorpus;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.NearDuplicateQuestionFilter;
+import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
+
+/**
+ * Compares {@link NearDuplicateQuestionFilter} with a naive scan, which computes the Levenshtein distance (by
+ * {@link StringUtils#computeLevenshteinDistance(String, String, boolean)}) between the given question and each question
+ * in the window, and considers them near-duplicates if the distance is at most a tenth of the length of the longer one.
+ * <P>
+ * For each window size, the window is filled with questions of a corpus (see {@link QuestionCorpus}), and then probed
+ * by two kinds of questions: reposts of questions in the window (with small edits: case, punctuation, and an added or
+ * removed word), which should be rejected, and questions which are not in the window, which should pass. The average
+ * time per probe, and the rates of rejected reposts and passed questions, are reported for both methods. The naive scan
+ * takes time linear in the window size, so it is run on fewer probes.
+ * <P>
+ * Usage: NearDuplicateFilterBenchmark [corpus-file] [probes] [naive-probes]
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class NearDuplicateFilterBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        final QuestionCorpus corpus = QuestionCorpus.load(new File((args.length > 0) ? args[0] : "data/liveqa-5k.gz"));
+        final int probes = (args.length > 1) ? Integer.parseInt(args[1]) : 500;
+        final int naiveProbes = (args.length > 2) ? Integer.parseInt(args[2]) : 20;
+        final Calendar now = Calendar.getInstance(Constants.WORKING_TIME_ZONE, Constants.WORKING_LOCALE);
+        final List<Question> questions = new ArrayList<Question>(corpus.size());
+        for (int index = 0; index < corpus.size(); ++index) {
+            questions.add(corpus.getQuestion(index, "", now));
+        }
+        final int maximumWindow = questions.size() - probes;
+        if (maximumWindow <= 0) {
+            System.out.println("The corpus must have more than " + probes + " questions.");
+            return;
+        }
+        System.out.println(questions.size() + " questions, " + probes + " probes of each kind (" + naiveProbes
+                        + " for the naive scan).");
+
+        BenchmarkUtilities.warmUpAndMeasure(new BenchmarkUtilities.Round() {
+            @Override
+            public void runRound(boolean print) throws Exception {
+                for (int windowSize = 100; windowSize <= maximumWindow; windowSize *= 2) {
+                    final List<Question> window = questions.subList(0, windowSize);
+                    final List<Question> reposts = new ArrayList<Question>(probes);
+                    final List<Question> others = new ArrayList<Question>(probes);
+                    for (int index = 0; index < probes; ++index) {
+                        reposts.add(repost(window.get((int) ((long) index * windowSize / probes)), index));
+                        others.add(questions.get(maximumWindow + index));
+                    }
+                    final NearDuplicateQuestionFilter filter = new NearDuplicateQuestionFilter(24L * 60 * 60 * 1000,
+                                    Constants.DEFAULT_NEAR_DUPLICATE_MAXIMUM_DISTANCE);
+                    for (Question question : window) {
+                        filter.questionSelected(question);
+                    }
+                    final List<String> windowTexts = new ArrayList<String>(windowSize);
+                    for (Question question : window) {
+                        windowTexts.add(text(question));
+                    }
+
+                    long startTime = System.nanoTime();
+                    final int simHashRepostsPassed = countPassed(filter, reposts, reposts.size());
+                    final int simHashOthersPassed = countPassed(filter, others, others.size());
+                    final long simHashNanoseconds = (System.nanoTime() - startTime) / (2L * probes);
+
+                    final int naiveCount = Math.min(naiveProbes, probes);
+                    startTime = System.nanoTime();
+                    final int naiveRepostsPassed = countPassed(windowTexts, reposts, naiveCount);
+                    final int naiveOthersPassed = countPassed(windowTexts, others, naiveCount);
+                    final long naiveNanoseconds = (System.nanoTime() - startTime) / Math.max(2L * naiveCount, 1);
+
+                    if (print) {
+                        System.out.println("Window of " + windowSize + " questions (" + filter.size() + " distinct). "
+                                        + "SIMHASH: " + (simHashNanoseconds / 1000) + " us per probe, reposts rejected "
+                                        + percent(probes - simHashRepostsPassed, probes) + ", others passed "
+                                        + percent(simHashOthersPassed, probes) + ". NAIVE: " + (naiveNanoseconds / 1000)
+                                        + " us per probe, reposts rejected "
+                                        + percent(naiveCount - naiveRepostsPassed, naiveCount) + ", others passed "
+                                        + percent(naiveOthersPassed, naiveCount) + ".");
+                    }
+                }
+            }
+        });
+    }
+
+    private static int countPassed(NearDuplicateQuestionFilter filter, List<Question> probes, int count) {
+        int passed = 0;
+        for (int index = 0; index < count; ++index) {
+            if (filter.questionOK(probes.get(index))) {
+                ++passed;
+            }
+        }
+        return passed;
+    }
+
+    private static int countPassed(List<String> windowTexts, List<Question> probes, int count) {
+        int passed = 0;
+        for (int index = 0; index < count; ++index) {
+            final String text = text(probes.get(index));
+            boolean duplicate = false;
+            for (String windowText : windowTexts) {
+                final long distance = StringUtils.computeLevenshteinDistance(text, windowText, false);
+                if (distance * 10 <= Math.max(text.length(), windowText.length())) {
+                    duplicate = true;
+                    break;
+                }
+            }
+            if (!duplicate) {
+                ++passed;
+            }
+        }
+        return passed;
+    }
+
+    /**
+     * The given question, as reposted with a small edit.
+     */
+    private static Question repost(Question question, int variant) {
+        String title = question.getTitle();
+        String body = question.getBody();
+        switch (variant % 4) {
+            case 0:
+                title = title.toUpperCase();
+                break;
+            case 1:
+                title = title + " ??";
+                break;
+            case 2:
+                body = body + " Please help!";
+                break;
+            default:
+                final int lastSpace = title.trim().lastIndexOf(' ');
+                title = (lastSpace > 0) ? title.substring(0, lastSpace) : (title + " thanks");
+                break;
+        }
+        return new Question(question.getId() + "-repost", title, body, question.getCategory(),
+                        question.getPublishedDate());
+    }
+
+    private static String text(Question question) {
+        return question.getTitle() + " " + question.getBody();
+    }
+
+    private static String percent(int count, int total) {
+        return String.format("%.1f%%", (total > 0) ? (100.0 * count / total) : 0.0);
+    }
+}
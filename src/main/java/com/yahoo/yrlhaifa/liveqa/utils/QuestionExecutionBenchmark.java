@@ -0,0 +1,93 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import com.yahoo.yrlhaifa.liveqa.challenge.QuestionExecutionScope;
+import com.yahoo.yrlhaifa.liveqa.challenge.QuestionExecutor;
+import com.yahoo.yrlhaifa.liveqa.challenge.QuestionExecutor.ExecutionMode;
+
+/**
+ * Compares the {@link ExecutionMode}s of {@link QuestionExecutor}. Simulates many overlapping question operations, each
+ * forking a question-store task, and reports, for each mode, the elapsed time, the number of threads started and the
+ * peak number of live threads.
+ * <P>
+ * Usage: QuestionExecutionBenchmark [number-of-questions] [operation-milliseconds] [store-milliseconds]
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class QuestionExecutionBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        final int numberOfQuestions = (args.length > 0) ? Integer.parseInt(args[0]) : 2000;
+        final long operationMilliseconds = (args.length > 1) ? Long.parseLong(args[1]) : 200;
+        final long storeMilliseconds = (args.length > 2) ? Long.parseLong(args[2]) : 20;
+
+        BenchmarkUtilities.warmUpAndMeasure(new BenchmarkUtilities.Round() {
+            @Override
+            public void runRound(boolean measured) throws Exception {
+                for (ExecutionMode mode : ExecutionMode.values()) {
+                    run(mode, numberOfQuestions, operationMilliseconds, storeMilliseconds, measured);
+                }
+            }
+        });
+    }
+
+    private static void run(ExecutionMode mode, int numberOfQuestions, final long operationMilliseconds,
+                    final long storeMilliseconds, boolean print) throws Exception {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        threadBean.resetPeakThreadCount();
+        final long startedThreadsBefore = threadBean.getTotalStartedThreadCount();
+        final long startTime = System.nanoTime();
+
+        try (final QuestionExecutor questionExecutor = QuestionExecutor.create(mode)) {
+            List<Future<?>> questions = new ArrayList<Future<?>>(numberOfQuestions);
+            for (int index = 0; index < numberOfQuestions; ++index) {
+                questions.add(questionExecutor.submit("Question-" + index, new Runnable() {
+                    @Override
+                    public void run() {
+                        try (QuestionExecutionScope scope = new QuestionExecutionScope(questionExecutor)) {
+                            scope.fork("Store", new Runnable() {
+                                @Override
+                                public void run() {
+                                    sleep(storeMilliseconds);
+                                }
+                            });
+                            sleep(operationMilliseconds);
+                            scope.join();
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> question : questions) {
+                question.get();
+            }
+        }
+
+        final long elapsedMilliseconds = (System.nanoTime() - startTime) / 1000000;
+        if (print) {
+            System.out.println(mode + ": " + numberOfQuestions + " questions in " + elapsedMilliseconds
+                            + " ms. Threads started = "
+                            + (threadBean.getTotalStartedThreadCount() - startedThreadsBefore)
+                            + ", peak live threads = " + threadBean.getPeakThreadCount());
+        }
+    }
+
+    private static void sleep(long milliseconds) {
+        try {
+            Thread.sleep(milliseconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
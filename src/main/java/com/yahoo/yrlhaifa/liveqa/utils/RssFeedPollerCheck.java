@@ -0,0 +1,210 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.utils;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.http.client.utils.DateUtils;
+import org.apache.log4j.Level;
+
+import com.yahoo.yrlhaifa.haifa_utils.utils.Log4jInit;
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.QuestionFromRssEntry;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.RssEntryStreamReader;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.RssFeedPoller;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.filter.QuestionFilter;
+import com.yahoo.yrlhaifa.liveqa.challenge.rep.Question;
+import com.yahoo.yrlhaifa.liveqa.common.HoursMinutesSeconds;
+
+import fi.iki.elonen.NanoHTTPD;
+import fi.iki.elonen.NanoHTTPD.Response.Status;
+
+/**
+ * Checks {@link RssFeedPoller} against a local stand-in of the feed server, which answers a conditional GET whose
+ * If-None-Match matches the current ETag of the feed by 304 (Not Modified), and counts the full and the 304 responses.
+ * <P>
+ * The poller reads a feed of 50 entries, with a look-ahead filter that rejects every fifth entry. Then the feed is left
+ * unchanged for a few poll intervals, and then 10 newer entries are added to it. The check verifies that:
+ * <UL>
+ * <LI>The first read yields the 40 entries which pass the filter, freshest first.</LI>
+ * <LI>While the feed is unchanged, every poll is answered by 304, and no entry is yielded.</LI>
+ * <LI>After the feed changes, it is transferred once more, and only the 8 new entries which pass the filter are
+ * yielded.</LI>
+ * </UL>
+ * Exits with status 1 if any check fails.
+ * <P>
+ * Usage: RssFeedPollerCheck [poll-interval-milliseconds]
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class RssFeedPollerCheck {
+
+    public static void main(String[] args) throws Exception {
+        Log4jInit.init(Level.WARN);
+        final long pollInterval = (args.length > 0) ? Long.parseLong(args[0]) : 200;
+        // Entry i is published i seconds after this time, so all the entries are younger than the maximum age.
+        final long firstPublished = System.currentTimeMillis() - 2 * 60 * 1000L;
+        final byte[] firstFeed = RssFeedReaderBenchmark.createFeed(0, 50, firstPublished);
+        final byte[] secondFeed = RssFeedReaderBenchmark.createFeed(0, 60, firstPublished);
+
+        final Set<String> firstIds = ids(firstFeed);
+        final Set<String> newIds = ids(secondFeed);
+        newIds.removeAll(firstIds);
+        final Set<String> rejectedIds = new HashSet<String>();
+        int position = 0;
+        for (String id : ids(secondFeed)) {
+            if (0 == (position++ % 5)) {
+                rejectedIds.add(id);
+            }
+        }
+        final QuestionFilter filter = new QuestionFilter() {
+            @Override
+            public boolean questionOK(Question question) {
+                return !rejectedIds.contains(question.getId());
+            }
+        };
+
+        final FeedServer server = new FeedServer();
+        server.setFeed(firstFeed, "\"v1\"");
+        server.start();
+        final RssFeedPoller poller = new RssFeedPoller("http://127.0.0.1:" + server.getListeningPort() + "/rss",
+                        pollInterval, new HoursMinutesSeconds(1, 0, 0), filter, 2);
+        try {
+            poller.awaitFirstPoll(Constants.RSS_FETCH_TIMEOUT_MILLISECONDS);
+            final List<QuestionFromRssEntry> firstEntries = takeAll(poller);
+            check("First read yields the 40 entries which pass the filter, freshest first",
+                            (40 == firstEntries.size()) && freshestFirst(firstEntries)
+                                            && noneOf(firstEntries, rejectedIds),
+                            firstEntries.size() + " entries");
+
+            Thread.sleep(5 * pollInterval);
+            final List<QuestionFromRssEntry> unchangedEntries = takeAll(poller);
+            check("Unchanged feed is answered by 304, and yields no entry",
+                            (server.getFullResponses() == 1) && (server.getNotModifiedResponses() >= 3)
+                                            && unchangedEntries.isEmpty(),
+                            server.getFullResponses() + " full responses, " + server.getNotModifiedResponses()
+                                            + " 304 responses, " + unchangedEntries.size() + " entries");
+
+            server.setFeed(secondFeed, "\"v2\"");
+            Thread.sleep(5 * pollInterval);
+            final List<QuestionFromRssEntry> newEntries = takeAll(poller);
+            boolean allNew = true;
+            for (QuestionFromRssEntry entry : newEntries) {
+                allNew &= newIds.contains(entry.getId());
+            }
+            check("Changed feed is transferred once more, and yields only the 8 new entries which pass the filter",
+                            (server.getFullResponses() == 2) && (8 == newEntries.size()) && allNew
+                                            && freshestFirst(newEntries) && noneOf(newEntries, rejectedIds),
+                            server.getFullResponses() + " full responses, " + newEntries.size() + " entries");
+        } finally {
+            poller.close();
+            server.stop();
+        }
+
+        System.out.println((0 == failures) ? "All checks passed." : (failures + " check(s) failed."));
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void check(String description, boolean passed, String details) {
+        System.out.println((passed ? "PASSED: " : "FAILED: ") + description + " (" + details + ").");
+        if (!passed) {
+            ++failures;
+        }
+    }
+
+    private static Set<String> ids(byte[] feed) throws Exception {
+        Set<String> ret = new LinkedHashSet<String>();
+        for (QuestionFromRssEntry entry : new RssEntryStreamReader().read(new ByteArrayInputStream(feed), null,
+                        null)) {
+            ret.add(entry.getId());
+        }
+        return ret;
+    }
+
+    private static List<QuestionFromRssEntry> takeAll(RssFeedPoller poller) {
+        List<QuestionFromRssEntry> ret = new ArrayList<QuestionFromRssEntry>();
+        for (QuestionFromRssEntry entry = poller.pollFreshest(); entry != null; entry = poller.pollFreshest()) {
+            ret.add(entry);
+        }
+        return ret;
+    }
+
+    private static boolean freshestFirst(List<QuestionFromRssEntry> entries) {
+        for (int index = 1; index < entries.size(); ++index) {
+            if (entries.get(index).getPublishedDate().after(entries.get(index - 1).getPublishedDate())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean noneOf(List<QuestionFromRssEntry> entries, Set<String> ids) {
+        for (QuestionFromRssEntry entry : entries) {
+            if (ids.contains(entry.getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Serves the current feed, with its ETag and Last-Modified headers, or 304 if the request's If-None-Match is the
+     * current ETag.
+     */
+    private static class FeedServer extends NanoHTTPD {
+        public FeedServer() {
+            super("127.0.0.1", 0);
+        }
+
+        public synchronized void setFeed(byte[] feed, String entityTag) {
+            this.feed = feed;
+            this.entityTag = entityTag;
+            this.lastModified = DateUtils.formatDate(new Date());
+        }
+
+        public synchronized int getFullResponses() {
+            return fullResponses;
+        }
+
+        public synchronized int getNotModifiedResponses() {
+            return notModifiedResponses;
+        }
+
+        @Override
+        public synchronized Response serve(IHTTPSession session) {
+            if (entityTag.equals(session.getHeaders().get("if-none-match"))) {
+                ++notModifiedResponses;
+                Response response = new Response(Status.NOT_MODIFIED, "application/rss+xml", "");
+                response.addHeader("ETag", entityTag);
+                return response;
+            }
+            ++fullResponses;
+            Response response = new Response(Status.OK, "application/rss+xml; charset=UTF-8",
+                            new ByteArrayInputStream(feed));
+            response.addHeader("ETag", entityTag);
+            response.addHeader("Last-Modified", lastModified);
+            return response;
+        }
+
+        private byte[] feed;
+        private String entityTag;
+        private String lastModified;
+        private int fullResponses = 0;
+        private int notModifiedResponses = 0;
+    }
+
+
+    private static int failures = 0;
+}
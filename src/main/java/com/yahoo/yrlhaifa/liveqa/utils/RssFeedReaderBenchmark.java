@@ -0,0 +1,179 @@
+// Copyright 2016, Yahoo Inc.
+// Licensed under the terms of the New BSD License. Please see associated LICENSE file for terms.
+
+package com.yahoo.yrlhaifa.liveqa.utils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import com.sun.syndication.feed.synd.SyndEntry;
+import com.sun.syndication.feed.synd.SyndFeed;
+import com.sun.syndication.io.SyndFeedInput;
+import com.sun.syndication.io.XmlReader;
+import com.yahoo.yrlhaifa.liveqa.challenge.Constants;
+import com.yahoo.yrlhaifa.liveqa.challenge.exceptions.QuestionFeedNonFatalException;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.QuestionFromRssEntry;
+import com.yahoo.yrlhaifa.liveqa.challenge.question_feed.RssEntryStreamReader;
+
+/**
+ * Compares reading an RSS feed of questions by ROME ({@link SyndFeedInput}) with reading it by
+ * {@link RssEntryStreamReader}, with and without stopping at the entries older than the maximum age of a question.
+ * Reports the average time and the average number of allocated bytes per read of the feed, and verifies that both
+ * readers produce the same questions.
+ * <P>
+ * The feed is read from a file (e.g., a feed captured by "curl https://answers.yahoo.com/rss/allq"). If no file is
+ * given, a large feed is generated. The maximum age is counted back from the freshest entry of the feed.
+ * <P>
+ * Usage: RssFeedReaderBenchmark [iterations] [maximum-age-seconds] [feed-file]
+ *
+ * <P>
+ * Date: Oct 17, 2026
+ *
+ */
+public class RssFeedReaderBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        final int iterations = (args.length > 0) ? Integer.parseInt(args[0]) : 200;
+        final int maximumAgeSeconds = (args.length > 1) ? Integer.parseInt(args[1]) : 30;
+        final byte[] feed = (args.length > 2) ? Files.readAllBytes(Paths.get(args[2]))
+                        : createFeed(0, 5000, System.currentTimeMillis() - 4999 * 1000L);
+
+        final RssEntryStreamReader streamReader = new RssEntryStreamReader();
+        final List<QuestionFromRssEntry> streamEntries = streamReader.read(new ByteArrayInputStream(feed), null, null);
+        final List<QuestionFromRssEntry> romeEntries = readByRome(feed);
+        System.out.println("Feed of " + feed.length + " bytes. Entries: " + streamEntries.size() + " (stream), "
+                        + romeEntries.size() + " (ROME). Identical = " + identical(streamEntries, romeEntries));
+        if (streamEntries.isEmpty()) {
+            return;
+        }
+        Calendar oldest = Calendar.getInstance(Constants.WORKING_TIME_ZONE, Constants.WORKING_LOCALE);
+        oldest.setTime(streamEntries.get(0).getPublishedDate().getTime());
+        oldest.add(Calendar.SECOND, -maximumAgeSeconds);
+
+        BenchmarkUtilities.warmUpAndMeasure(new BenchmarkUtilities.Round() {
+            @Override
+            public void runRound(boolean print) throws Exception {
+                long allocatedBefore = BenchmarkUtilities.allocatedBytes();
+                long startTime = System.nanoTime();
+                int entries = 0;
+                for (int index = 0; index < iterations; ++index) {
+                    entries += readByRome(feed).size();
+                }
+                report("ROME", iterations, entries, startTime, allocatedBefore, print);
+
+                allocatedBefore = BenchmarkUtilities.allocatedBytes();
+                startTime = System.nanoTime();
+                entries = 0;
+                for (int index = 0; index < iterations; ++index) {
+                    entries += streamReader.read(new ByteArrayInputStream(feed), null, null).size();
+                }
+                report("STREAM", iterations, entries, startTime, allocatedBefore, print);
+
+                allocatedBefore = BenchmarkUtilities.allocatedBytes();
+                startTime = System.nanoTime();
+                entries = 0;
+                for (int index = 0; index < iterations; ++index) {
+                    entries += streamReader.read(new ByteArrayInputStream(feed), null, oldest).size();
+                }
+                report("STREAM (stops after " + maximumAgeSeconds + " seconds)", iterations, entries, startTime,
+                                allocatedBefore, print);
+            }
+        });
+    }
+
+    private static List<QuestionFromRssEntry> readByRome(final byte[] feed) throws Exception {
+        final SyndFeed syndFeed = new SyndFeedInput().build(new XmlReader(new ByteArrayInputStream(feed)));
+        final List<QuestionFromRssEntry> entries = new ArrayList<QuestionFromRssEntry>();
+        for (Object entryObj : syndFeed.getEntries()) {
+            try {
+                entries.add(QuestionFromRssEntry.createFromRssEntry((SyndEntry) entryObj));
+            } catch (QuestionFeedNonFatalException e) {
+                // Skipped, as done by the stream reader.
+            }
+        }
+        return entries;
+    }
+
+    private static boolean identical(List<QuestionFromRssEntry> entries1, List<QuestionFromRssEntry> entries2) {
+        if (entries1.size() != entries2.size()) {
+            return false;
+        }
+        for (int index = 0; index < entries1.size(); ++index) {
+            final QuestionFromRssEntry entry1 = entries1.get(index);
+            final QuestionFromRssEntry entry2 = entries2.get(index);
+            if (!(entry1.getId().equals(entry2.getId()) && entry1.getTitle().equals(entry2.getTitle())
+                            && entry1.getBody().equals(entry2.getBody())
+                            && entry1.getCategory().equals(entry2.getCategory())
+                            && entry1.getPublishedDate().equals(entry2.getPublishedDate()))) {
+                System.out.println("Entries differ: " + entry1.getId() + ", " + entry2.getId());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void report(String name, int iterations, int entries, long startTime, long allocatedBefore,
+                    boolean print) {
+        final long elapsedNanoseconds = System.nanoTime() - startTime;
+        final long allocated = BenchmarkUtilities.allocatedBytes() - allocatedBefore;
+        if (print) {
+            System.out.println(name + ": " + iterations + " reads (" + (entries / iterations) + " entries each) in "
+                            + (elapsedNanoseconds / 1000000) + " ms. " + (elapsedNanoseconds / iterations / 1000)
+                            + " us per read" + ((allocatedBefore < 0) ? "."
+                                            : (", " + (allocated / iterations) + " bytes allocated per read.")));
+        }
+    }
+
+    /**
+     * A feed in the format of Yahoo Answers' feed, of the entries [firstIndex, firstIndex + numberOfEntries), freshest
+     * first. Entry i is published at firstPublished + i seconds, and its ID and content depend only on i, so feeds of
+     * overlapping ranges share the entries of the overlap. Also used by {@link RssFeedPollerCheck}.
+     */
+    static byte[] createFeed(final int firstIndex, final int numberOfEntries, final long firstPublished) {
+        final SimpleDateFormat dateFormat =
+                        new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss Z", Constants.WORKING_LOCALE);
+        dateFormat.setTimeZone(Constants.WORKING_TIME_ZONE);
+        StringBuilder sb = new StringBuilder();
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        sb.append("<rss version=\"2.0\" xmlns:media=\"http://search.yahoo.com/mrss/\">\n<channel>\n");
+        sb.append("<title>Yahoo Answers - All Questions</title>\n<link>https://answers.yahoo.com</link>\n");
+        sb.append("<description>Latest questions</description>\n<language>en-us</language>\n");
+        for (int index = firstIndex + numberOfEntries - 1; index >= firstIndex; --index) {
+            final Random random = new Random(index);
+            final String title = "[" + WORDS[random.nextInt(WORDS.length)] + "] " + text(random, 60) + "?";
+            sb.append("<item>\n<title>").append(title.replace("&", "&amp;")).append("</title>\n");
+            sb.append("<link>").append(Constants.ANSWER_URL_PREFIX).append(20160101000000L + index)
+                            .append("AA").append(Integer.toString(random.nextInt(1 << 20), 36)).append("</link>\n");
+            sb.append("<description>").append(text(random, 20 + random.nextInt(800)).replace("&", "&amp;"))
+                            .append("</description>\n");
+            sb.append("<guid isPermaLink=\"false\">").append(index).append("</guid>\n");
+            sb.append("<pubDate>").append(dateFormat.format(new Date(firstPublished + index * 1000L)))
+                            .append("</pubDate>\n");
+            sb.append("<media:thumbnail url=\"https://s.yimg.com/thumbnail.png\" />\n</item>\n");
+        }
+        sb.append("</channel>\n</rss>\n");
+        return sb.toString().getBytes(Constants.WORKING_CHARSET);
+    }
+
+    /**
+     * Random words, of at least the given length.
+     */
+    private static String text(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append((sb.length() == 0) ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static final String[] WORDS = new String[] {"how", "do", "I", "fix", "my", "car", "when", "the", "engine",
+                    "makes", "a", "noise", "Health", "Pets", "Travel", "is", "it", "normal", "to", "feel", "tired",
+                    "caf\u00e9", "&", "dog", "after", "eating", "what", "should", "you", "do"};
+}